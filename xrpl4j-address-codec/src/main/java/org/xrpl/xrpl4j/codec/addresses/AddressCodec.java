@@ -2,6 +2,10 @@ package org.xrpl.xrpl4j.codec.addresses;
 
 import static java.util.Arrays.copyOfRange;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.UnsignedInteger;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
@@ -17,12 +21,65 @@ import java.util.Optional;
 @SuppressWarnings({"OptionalUsedAsFieldOrParameterType", "ParameterName", "MethodName"})
 public class AddressCodec {
 
+  /**
+   * The default configuration of the AccountID caches of {@link #getCachingInstance()}. Each direction holds at most
+   * 10,000 entries, which comfortably covers the set of frequently used accounts of most applications.
+   */
+  public static final String DEFAULT_CACHE_SPEC = "maximumSize=10000,recordStats";
+
   private static final AddressCodec INSTANCE = new AddressCodec();
 
+  private static final AddressCodec CACHING_INSTANCE = new AddressCodec(CaffeineSpec.parse(DEFAULT_CACHE_SPEC));
+
+  /**
+   * Cache of {@link Address}es to their decoded AccountIDs, or null if this codec does not cache AccountIDs. Values
+   * are never handed out directly, because {@link UnsignedByteArray} is mutable.
+   */
+  private final Cache<Address, UnsignedByteArray> accountIdsByAddress;
+
+  /**
+   * Cache of AccountIDs to their encoded {@link Address}es, or null if this codec does not cache AccountIDs. Keys are
+   * private copies of the AccountIDs passed to {@link #encodeAccountId(UnsignedByteArray)}.
+   */
+  private final Cache<UnsignedByteArray, Address> addressesByAccountId;
+
+  /**
+   * Construct an {@link AddressCodec} that encodes and decodes every value it is given.
+   */
+  public AddressCodec() {
+    this.accountIdsByAddress = null;
+    this.addressesByAccountId = null;
+  }
+
+  /**
+   * Construct an {@link AddressCodec} that caches the results of {@link #encodeAccountId(UnsignedByteArray)} and
+   * {@link #decodeAccountId(Address)}, which saves a Base58 conversion and a double SHA-256 checksum for each repeated
+   * account. Every {@link Address} that this codec encodes is also cached for decoding, because its AccountID is
+   * already known.
+   *
+   * @param caffeineSpec A {@link CaffeineSpec} that configures the cache for each direction, such as its
+   *                     {@code maximumSize}. {@link #cacheStats()} is only populated if it sets {@code recordStats}.
+   *                     See {@link #DEFAULT_CACHE_SPEC}.
+   */
+  public AddressCodec(final CaffeineSpec caffeineSpec) {
+    Objects.requireNonNull(caffeineSpec);
+    this.accountIdsByAddress = Caffeine.from(caffeineSpec).build();
+    this.addressesByAccountId = Caffeine.from(caffeineSpec).build();
+  }
+
   public static AddressCodec getInstance() {
     return INSTANCE;
   }
 
+  /**
+   * A shared {@link AddressCodec} that caches AccountIDs according to {@link #DEFAULT_CACHE_SPEC}.
+   *
+   * @return An {@link AddressCodec} with bounded AccountID caches.
+   */
+  public static AddressCodec getCachingInstance() {
+    return CACHING_INSTANCE;
+  }
+
   /**
    * Decodes a Base58Check encoded XRPL secret key seed value. Works for ed25519 and secp256k1 seeds.
    *
@@ -52,7 +109,7 @@ public class AddressCodec {
     Objects.requireNonNull(entropy);
     Objects.requireNonNull(type);
 
-    if (entropy.getUnsignedBytes().size() != 16) {
+    if (entropy.length() != 16) {
       throw new EncodeException("entropy must have length 16.");
     }
 
@@ -69,6 +126,31 @@ public class AddressCodec {
   public Address encodeAccountId(final UnsignedByteArray accountId) {
     Objects.requireNonNull(accountId);
 
+    if (addressesByAccountId == null) {
+      return doEncodeAccountId(accountId);
+    }
+    Address address = addressesByAccountId.getIfPresent(accountId);
+    if (address == null) {
+      address = doEncodeAccountId(accountId);
+      UnsignedByteArray key = accountId.copy();
+      addressesByAccountId.put(key, address);
+      accountIdsByAddress.asMap().putIfAbsent(address, key);
+    }
+    return address;
+  }
+
+  /**
+   * Encode an XRPL AccountID to a Base58Check encoded {@link String}.
+   *
+   * @param accountId A byte array containing the AccountID to be encoded.
+   * @return The Base58 representation of accountId, as an {@link Address}.
+   */
+  public Address encodeAccountId(final byte[] accountId) {
+    Objects.requireNonNull(accountId);
+    return encodeAccountId(UnsignedByteArray.of(accountId));
+  }
+
+  private Address doEncodeAccountId(final UnsignedByteArray accountId) {
     return Address.of(
       AddressBase58.encode(accountId, Lists.newArrayList(Version.ACCOUNT_ID), UnsignedInteger.valueOf(20))
     );
@@ -84,6 +166,13 @@ public class AddressCodec {
   public UnsignedByteArray decodeAccountId(final Address accountId) {
     Objects.requireNonNull(accountId);
 
+    if (accountIdsByAddress == null) {
+      return doDecodeAccountId(accountId);
+    }
+    return accountIdsByAddress.get(accountId, this::doDecodeAccountId).copy();
+  }
+
+  private UnsignedByteArray doDecodeAccountId(final Address accountId) {
     return AddressBase58.decode(
       accountId.value(),
       Lists.newArrayList(Version.ACCOUNT_ID),
@@ -91,6 +180,19 @@ public class AddressCodec {
     ).bytes();
   }
 
+  /**
+   * Statistics for the AccountID caches of this codec, such as its hit rate. Statistics are only recorded if this codec
+   * was configured with {@code recordStats}, and are always empty for a codec that does not cache AccountIDs.
+   *
+   * @return A snapshot of the {@link CacheStats} of this codec.
+   */
+  public CacheStats cacheStats() {
+    if (addressesByAccountId == null) {
+      return CacheStats.empty();
+    }
+    return accountIdsByAddress.stats().plus(addressesByAccountId.stats());
+  }
+
   /**
    * Encode an XRPL Node Public Key to a Base58Check encoded {@link String}.
    *
@@ -221,7 +323,7 @@ public class AddressCodec {
     Objects.requireNonNull(accountId);
     Objects.requireNonNull(tag);
 
-    if (accountId.getUnsignedBytes().size() != 20) {
+    if (accountId.length() != 20) {
       throw new EncodeException("AccountID must be 20 bytes.");
     }
 
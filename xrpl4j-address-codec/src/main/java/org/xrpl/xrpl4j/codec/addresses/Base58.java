@@ -4,7 +4,6 @@ import static java.util.Arrays.copyOfRange;
 
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 /**
@@ -16,6 +15,12 @@ public class Base58 {
 
   private static final int[] INDEXES = new int[255];
 
+  private static final int CHECKSUM_LENGTH = 4;
+
+  // The largest power of 58 that fits in an int, which is how many Base58 digits are processed at a time.
+  private static final int CHUNK_DIGITS = 5;
+  private static final long CHUNK = 58L * 58 * 58 * 58 * 58;
+
   static {
     Arrays.fill(INDEXES, -1);
     for (int i = 0; i < ALPHABET.length; i++) {
@@ -26,94 +31,112 @@ public class Base58 {
   /**
    * Encodes the given bytes to a Base58 {@link String}.
    *
+   * <p>Leading zero bytes are encoded as {@code ALPHABET[0]}. The remaining bytes are read into 32-bit limbs, which
+   * are then divided by 58^5 at a time, so that every division produces five Base58 digits.</p>
+   *
    * @param input A byte array to encode.
    * @return The bytes encoded to a Base58 {@link String}
    */
   public static String encode(byte[] input) {
-    if (input.length == 0) {
+    final int length = input.length;
+    if (length == 0) {
       return "";
     }
-    input = copyOfRange(input, 0, input.length);
     // Count leading zeroes.
     int zeroCount = 0;
-    while (zeroCount < input.length && input[zeroCount] == 0) {
+    while (zeroCount < length && input[zeroCount] == 0) {
       ++zeroCount;
     }
-    // The actual encoding.
-    byte[] temp = new byte[input.length * 2];
-    int tempIndex = temp.length;
 
-    int startAt = zeroCount;
-    while (startAt < input.length) {
-      byte mod = divmod58(input, startAt);
-      if (input[startAt] == 0) {
+    // Read the rest of the input into big-endian 32-bit limbs, the first of which may be partial.
+    final int significantLength = length - zeroCount;
+    final int[] limbs = new int[(significantLength + 3) / 4];
+    for (int i = 0; i < significantLength; i++) {
+      int limbIndex = limbs.length - 1 - (significantLength - 1 - i) / 4;
+      limbs[limbIndex] = (limbs[limbIndex] << 8) | (input[zeroCount + i] & 0xFF);
+    }
+
+    // log(256) / log(58) < 1.37, plus one chunk for rounding.
+    final char[] output = new char[zeroCount + significantLength * 137 / 100 + CHUNK_DIGITS];
+    int outputIndex = output.length;
+    int startAt = 0;
+    while (startAt < limbs.length) {
+      long remainder = 0;
+      for (int i = startAt; i < limbs.length; i++) {
+        long current = (remainder << 32) | (limbs[i] & 0xFFFFFFFFL);
+        limbs[i] = (int) (current / CHUNK);
+        remainder = current % CHUNK;
+      }
+      while (startAt < limbs.length && limbs[startAt] == 0) {
         ++startAt;
       }
-      temp[--tempIndex] = (byte) ALPHABET[mod];
+      for (int i = 0; i < CHUNK_DIGITS; i++) {
+        output[--outputIndex] = ALPHABET[(int) (remainder % 58)];
+        remainder /= 58;
+      }
     }
 
-    // Strip extra '1' if there are some after decoding.
-    while (tempIndex < temp.length && temp[tempIndex] == ALPHABET[0]) {
-      ++tempIndex;
+    // Strip the leading zero digits of the last chunk, then add one for every leading zero byte.
+    while (outputIndex < output.length && output[outputIndex] == ALPHABET[0]) {
+      ++outputIndex;
     }
-    // Add as many leading '1' as there were leading zeros.
     while (--zeroCount >= 0) {
-      temp[--tempIndex] = (byte) ALPHABET[0];
+      output[--outputIndex] = ALPHABET[0];
     }
 
-    byte[] output = copyOfRange(temp, tempIndex, temp.length);
-    return new String(output, StandardCharsets.US_ASCII);
+    return new String(output, outputIndex, output.length - outputIndex);
   }
 
   /**
    * Decodes a Base58 encoded {@link String} to a byte array.
    *
+   * <p>Leading {@code ALPHABET[0]} characters are decoded as zero bytes. The remaining digits are accumulated five at
+   * a time into 32-bit limbs, which are then written out as bytes.</p>
+   *
    * @param input The Base58 {@link String}.
    * @return A byte array containing the decoded Base58 {@link String}.
    */
   public static byte[] decode(String input) {
-    if (input.length() == 0) {
+    final int length = input.length();
+    if (length == 0) {
       return new byte[0];
     }
-    byte[] input58 = new byte[input.length()];
-    // Transform the String to a base58 byte sequence
-    for (int i = 0; i < input.length(); ++i) {
-      char charAtIndex = input.charAt(i);
 
-      int digit58 = -1;
-      if (charAtIndex < INDEXES.length) {
-        digit58 = INDEXES[charAtIndex];
-      }
-      if (digit58 < 0) {
-        throw new EncodingFormatException("Illegal character " + charAtIndex + " at " + i);
-      }
-
-      input58[i] = (byte) digit58;
-    }
-    // Count leading zeroes
+    // Count leading zeroes, validating them as we go.
     int zeroCount = 0;
-    while (zeroCount < input58.length && input58[zeroCount] == 0) {
+    while (zeroCount < length && digit58(input, zeroCount) == 0) {
       ++zeroCount;
     }
-    // The encoding
-    byte[] temp = new byte[input.length()];
-    int tempIndex = temp.length;
 
-    int startAt = zeroCount;
-    while (startAt < input58.length) {
-      byte mod = divmod256(input58, startAt);
-      if (input58[startAt] == 0) {
-        ++startAt;
+    // log(58) / log(256) < 0.733, so this many limbs always holds the value.
+    final int[] limbs = new int[((length - zeroCount) * 733 / 1000 + 1 + 3) / 4];
+    int index = zeroCount;
+    while (index < length) {
+      // Read up to CHUNK_DIGITS digits into one value, then shift them all into the limbs at once.
+      int chunk = 0;
+      int multiplier = 1;
+      for (int end = Math.min(index + CHUNK_DIGITS, length); index < end; index++) {
+        chunk = chunk * 58 + digit58(input, index);
+        multiplier *= 58;
       }
+      long carry = chunk;
+      for (int j = limbs.length - 1; j >= 0; j--) {
+        long current = (limbs[j] & 0xFFFFFFFFL) * multiplier + carry;
+        limbs[j] = (int) current;
+        carry = current >>> 32;
+      }
+    }
 
-      temp[--tempIndex] = mod;
+    // Skip leading zero bytes of the value, then add one for every leading zero digit.
+    int firstByte = 0;
+    while (firstByte < limbs.length * 4 && limbByte(limbs, firstByte) == 0) {
+      ++firstByte;
     }
-    // Do no add extra leading zeroes, move tempIndex to first non null byte.
-    while (tempIndex < temp.length && temp[tempIndex] == 0) {
-      ++tempIndex;
+    final byte[] output = new byte[zeroCount + limbs.length * 4 - firstByte];
+    for (int j = firstByte; j < limbs.length * 4; j++) {
+      output[zeroCount + j - firstByte] = limbByte(limbs, j);
     }
-
-    return copyOfRange(temp, tempIndex - zeroCount, temp.length);
+    return output;
   }
 
   /**
@@ -123,12 +146,8 @@ public class Base58 {
    * @return A {@link String} containing the Base58Check encoded bytes.
    */
   public static String encodeChecked(byte[] bytes) {
-
-    byte[] checkSum = copyOfRange(Utils.doubleDigest(bytes), 0, 4);
-    byte[] output = new byte[bytes.length + checkSum.length];
-    System.arraycopy(bytes, 0, output, 0, bytes.length);
-    System.arraycopy(checkSum, 0, output, bytes.length, checkSum.length);
-
+    byte[] output = Arrays.copyOf(bytes, bytes.length + CHECKSUM_LENGTH);
+    System.arraycopy(Utils.doubleDigest(bytes), 0, output, bytes.length, CHECKSUM_LENGTH);
     return encode(output);
   }
 
@@ -141,46 +160,41 @@ public class Base58 {
    */
   public static byte[] decodeChecked(String input) throws EncodingFormatException {
     byte[] tmp = decode(input);
-    if (tmp.length < 4) {
+    if (tmp.length < CHECKSUM_LENGTH) {
       throw new EncodingFormatException("Input must be longer than 3 characters.");
     }
-    byte[] bytes = copyOfRange(tmp, 0, tmp.length - 4);
-    byte[] checksum = copyOfRange(tmp, tmp.length - 4, tmp.length);
-
-    tmp = Utils.doubleDigest(bytes);
-    byte[] hash = copyOfRange(tmp, 0, 4);
-    if (!Arrays.equals(checksum, hash)) {
-      throw new EncodingFormatException("Checksum does not validate");
+    int length = tmp.length - CHECKSUM_LENGTH;
+    byte[] hash = Utils.doubleDigest(tmp, 0, length);
+    for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+      if (tmp[length + i] != hash[i]) {
+        throw new EncodingFormatException("Checksum does not validate");
+      }
     }
 
-    return bytes;
+    return copyOfRange(tmp, 0, length);
   }
 
-  private static byte divmod58(byte[] number, int startAt) {
-    int remainder = 0;
-    for (int i = startAt; i < number.length; i++) {
-      int digit256 = (int) number[i] & 0xFF;
-      int temp = remainder * 256 + digit256;
-
-      number[i] = (byte) (temp / 58);
-
-      remainder = temp % 58;
+  /**
+   * Look up the value of the Base58 digit at {@code index} of {@code input}.
+   *
+   * @throws EncodingFormatException If the character is not in {@link #ALPHABET}.
+   */
+  private static int digit58(String input, int index) {
+    char charAtIndex = input.charAt(index);
+    int digit58 = -1;
+    if (charAtIndex < INDEXES.length) {
+      digit58 = INDEXES[charAtIndex];
     }
-
-    return (byte) remainder;
-  }
-
-  private static byte divmod256(byte[] number58, int startAt) {
-    int remainder = 0;
-    for (int i = startAt; i < number58.length; i++) {
-      int digit58 = (int) number58[i] & 0xFF;
-      int temp = remainder * 58 + digit58;
-
-      number58[i] = (byte) (temp / 256);
-
-      remainder = temp % 256;
+    if (digit58 < 0) {
+      throw new EncodingFormatException("Illegal character " + charAtIndex + " at " + index);
     }
+    return digit58;
+  }
 
-    return (byte) remainder;
+  /**
+   * Get byte {@code index} of the big-endian value held in {@code limbs}.
+   */
+  private static byte limbByte(int[] limbs, int index) {
+    return (byte) (limbs[index / 4] >>> (8 * (3 - index % 4)));
   }
 }
@@ -11,6 +11,15 @@ import java.util.Objects;
  */
 public class UnsignedByte {
 
+  // UnsignedByte is immutable and has only 256 possible values, so every instance is shared.
+  private static final UnsignedByte[] VALUES = new UnsignedByte[256];
+
+  static {
+    for (int i = 0; i < VALUES.length; i++) {
+      VALUES[i] = new UnsignedByte(i);
+    }
+  }
+
   // since Java byte is signed need to use int to handle max value 255
   private final int value;
 
@@ -27,7 +36,9 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(int value) {
-    return new UnsignedByte(value);
+    Preconditions.checkArgument(value >= 0);
+    Preconditions.checkArgument(value <= 255);
+    return VALUES[value];
   }
 
   /**
@@ -37,7 +48,7 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(byte value) {
-    return new UnsignedByte(value & 0xff);
+    return VALUES[value & 0xff];
   }
 
   /**
@@ -48,7 +59,7 @@ public class UnsignedByte {
    * @return An {@link UnsignedByte}.
    */
   public static UnsignedByte of(byte highBits, byte lowBits) {
-    return new UnsignedByte((highBits << 4) + lowBits);
+    return UnsignedByte.of((highBits << 4) + lowBits);
   }
 
   /**
@@ -1,24 +1,58 @@
 package org.xrpl.xrpl4j.codec.addresses;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import com.google.common.base.Preconditions;
+
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Wrapper for holding unsigned bytes since unsigned bytes are hard in Java and XRPL ledger does many operations
  * on arrays on unsigned bytes.
  *
+ * <p>Bytes are stored in a primitive, growable {@code byte[]} buffer. Appends grow the buffer geometrically, so a
+ * sequence of appends runs in amortized constant time per byte, and slices are views over the same buffer rather
+ * than copies.</p>
+ *
  * <p>Note: several of the methods in this class mutate the underlying value.
  */
 public class UnsignedByteArray {
 
-  private final List<UnsignedByte> unsignedBytes;
+  private static final byte[] EMPTY = new byte[0];
+  private static final int MIN_CAPACITY = 16;
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  private byte[] buffer;
+  private int offset;
+  private int length;
+
+  /**
+   * Whether {@link #buffer} may be shared with another {@link UnsignedByteArray} (i.e. this instance is a slice). A
+   * shared buffer is never grown in place; the first append copies the visible bytes into a private buffer.
+   */
+  private boolean shared;
 
+  /**
+   * Creates an {@link UnsignedByteArray} containing a copy of the given {@link UnsignedByte}s.
+   *
+   * @param unsignedBytes A {@link List} of {@link UnsignedByte}s.
+   */
   public UnsignedByteArray(final List<UnsignedByte> unsignedBytes) {
     Objects.requireNonNull(unsignedBytes);
-    this.unsignedBytes = unsignedBytes;
+    this.buffer = new byte[unsignedBytes.size()];
+    for (int i = 0; i < buffer.length; i++) {
+      buffer[i] = unsignedBytes.get(i).asByte();
+    }
+    this.length = buffer.length;
+  }
+
+  private UnsignedByteArray(final byte[] buffer, final int offset, final int length, final boolean shared) {
+    this.buffer = buffer;
+    this.offset = offset;
+    this.length = length;
+    this.shared = shared;
   }
 
   /**
@@ -29,12 +63,7 @@ public class UnsignedByteArray {
    */
   public static UnsignedByteArray of(final byte[] bytes) {
     Objects.requireNonNull(bytes);
-
-    List<UnsignedByte> unsignedBytes = new ArrayList<>(bytes.length);
-    for (int i = 0; i < bytes.length; i++) {
-      unsignedBytes.add(i, UnsignedByte.of(bytes[i]));
-    }
-    return new UnsignedByteArray(unsignedBytes);
+    return new UnsignedByteArray(Arrays.copyOf(bytes, bytes.length), 0, bytes.length, false);
   }
 
   /**
@@ -45,10 +74,12 @@ public class UnsignedByteArray {
    * @return An {@link UnsignedByteArray} with the given {@link UnsignedByte}s.
    */
   public static UnsignedByteArray of(UnsignedByte first, UnsignedByte... rest) {
-    List<UnsignedByte> unsignedBytes = new ArrayList<>();
-    unsignedBytes.add(first);
-    Collections.addAll(unsignedBytes, rest);
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = new byte[1 + rest.length];
+    bytes[0] = first.asByte();
+    for (int i = 0; i < rest.length; i++) {
+      bytes[i + 1] = rest[i].asByte();
+    }
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
   }
 
   /**
@@ -57,7 +88,7 @@ public class UnsignedByteArray {
    * @return An empty {@link UnsignedByteArray}.
    */
   public static UnsignedByteArray empty() {
-    return new UnsignedByteArray(new ArrayList<>());
+    return new UnsignedByteArray(EMPTY, 0, 0, false);
   }
 
   /**
@@ -67,51 +98,71 @@ public class UnsignedByteArray {
    * @return An {@link UnsignedByteArray} of the requested size with all 0 {@link UnsignedByte}s
    */
   public static UnsignedByteArray ofSize(int size) {
-    return new UnsignedByteArray(fill(size));
+    return new UnsignedByteArray(new byte[size], 0, size, false);
   }
 
   /**
-   * Converts a hex string to an {@link UnsignedByteArray}.
+   * Converts a hex string to an {@link UnsignedByteArray}. Hex strings with an odd number of characters are treated
+   * as if they had a leading {@code 0}.
    *
    * @param hex A hexadecimal encoded {@link String}.
    * @return The hex value as an {@link UnsignedByteArray}.
+   * @throws NumberFormatException if {@code hex} contains a non-hexadecimal character.
    */
   public static UnsignedByteArray fromHex(String hex) {
     Objects.requireNonNull(hex);
-    List<UnsignedByte> unsignedBytes = ByteUtils.parse(hex.toUpperCase(Locale.ENGLISH));
-    return new UnsignedByteArray(unsignedBytes);
+    int hexLength = hex.length();
+    int byteLength = (hexLength + 1) / 2;
+    byte[] bytes = new byte[byteLength];
+
+    int hexIndex = 0;
+    int byteIndex = 0;
+    if (hexLength % 2 != 0) {
+      bytes[byteIndex++] = (byte) hexDigit(hex, hexIndex++);
+    }
+    while (hexIndex < hexLength) {
+      int high = hexDigit(hex, hexIndex++);
+      int low = hexDigit(hex, hexIndex++);
+      bytes[byteIndex++] = (byte) ((high << 4) | low);
+    }
+    return new UnsignedByteArray(bytes, 0, byteLength, false);
   }
 
-  private static List<UnsignedByte> fill(int amount) {
-    List<UnsignedByte> unsignedBytes = new ArrayList<>();
-    for (int i = 0; i < amount; i++) {
-      unsignedBytes.add(i, UnsignedByte.of(0));
+  private static int hexDigit(String hex, int index) {
+    int digit = Character.digit(hex.charAt(index), 16);
+    if (digit < 0) {
+      throw new NumberFormatException("Invalid hex character '" + hex.charAt(index) + "' at index " + index);
     }
-    return unsignedBytes;
+    return digit;
   }
 
   /**
-   * Get the underlying {@link List} of {@link UnsignedByte}s for this {@link UnsignedByteArray}.
+   * Get a {@link List} view of the {@link UnsignedByte}s in this {@link UnsignedByteArray}. The view is backed by this
+   * array, so {@link List#set(int, Object)} writes through to it, but elements are only materialized as they are read.
+   * The view does not support adding or removing elements.
    *
-   * @return The underlying {@link List} of {@link UnsignedByte}s.
+   * @return A {@link List} of {@link UnsignedByte}s.
    */
   public List<UnsignedByte> getUnsignedBytes() {
-    return unsignedBytes;
+    return new UnsignedByteListView();
   }
 
   /**
    * Converts this {@link UnsignedByteArray} to a byte array.
    *
-   * @return This {@link UnsignedByteArray} as a byte array.
+   * @return A copy of this {@link UnsignedByteArray} as a byte array.
    */
   public byte[] toByteArray() {
-    byte[] bytes = new byte[unsignedBytes.size()];
-
-    for (int i = 0; i < unsignedBytes.size(); i++) {
-      bytes[i] = unsignedBytes.get(i).asByte();
-    }
+    return Arrays.copyOfRange(buffer, offset, offset + length);
+  }
 
-    return bytes;
+  /**
+   * Copies this {@link UnsignedByteArray} into a new array that does not share its buffer with this one.
+   *
+   * @return A copy of this {@link UnsignedByteArray}.
+   */
+  UnsignedByteArray copy() {
+    return new UnsignedByteArray(toByteArray(), 0, length, false);
   }
 
   /**
@@ -120,7 +171,13 @@ public class UnsignedByteArray {
    * @return This {@link UnsignedByteArray} as a hex encoded {@link String}.
    */
   public String hexValue() {
-    return ByteUtils.toHex(unsignedBytes).toUpperCase(Locale.ENGLISH);
+    char[] hex = new char[length * 2];
+    for (int i = 0; i < length; i++) {
+      int value = buffer[offset + i] & 0xFF;
+      hex[i * 2] = HEX_DIGITS[value >>> 4];
+      hex[i * 2 + 1] = HEX_DIGITS[value & 0x0F];
+    }
+    return new String(hex);
   }
 
   /**
@@ -129,7 +186,7 @@ public class UnsignedByteArray {
    * @return The length of this {@link UnsignedByteArray}, as an int.
    */
   public int length() {
-    return unsignedBytes.size();
+    return length;
   }
 
   /**
@@ -139,7 +196,8 @@ public class UnsignedByteArray {
    * @return The {@link UnsignedByte} at the given index.
    */
   public UnsignedByte get(int index) {
-    return unsignedBytes.get(index);
+    Preconditions.checkElementIndex(index, length);
+    return UnsignedByte.of(buffer[offset + index]);
   }
 
   /**
@@ -149,7 +207,10 @@ public class UnsignedByteArray {
    * @return This {@link UnsignedByteArray}, with the given {@link UnsignedByte} appended.
    */
   public UnsignedByteArray append(UnsignedByte unsignedByte) {
-    unsignedBytes.add(unsignedByte);
+    Objects.requireNonNull(unsignedByte);
+    ensureWritableCapacity(1);
+    buffer[offset + length] = unsignedByte.asByte();
+    length++;
     return this;
   }
 
@@ -161,10 +222,47 @@ public class UnsignedByteArray {
    * @return the same instance.
    */
   public UnsignedByteArray append(UnsignedByteArray array) {
-    unsignedBytes.addAll(array.getUnsignedBytes());
+    Objects.requireNonNull(array);
+    // Capture the source range before growing, in case array == this.
+    byte[] sourceBuffer = array.buffer;
+    int sourceOffset = array.offset;
+    int sourceLength = array.length;
+    ensureWritableCapacity(sourceLength);
+    System.arraycopy(sourceBuffer, sourceOffset, buffer, offset + length, sourceLength);
+    length += sourceLength;
     return this;
   }
 
+  /**
+   * Appends a range of a byte array to the end of this array.
+   * Note: this method mutates the instance and returns the same instance (mainly for call chaining convenience).
+   *
+   * @param bytes  A byte array to copy bytes from.
+   * @param offset The index of the first byte in {@code bytes} to append.
+   * @param length The number of bytes to append.
+   * @return the same instance.
+   */
+  public UnsignedByteArray append(byte[] bytes, int offset, int length) {
+    Objects.requireNonNull(bytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    ensureWritableCapacity(length);
+    System.arraycopy(bytes, offset, buffer, this.offset + this.length, length);
+    this.length += length;
+    return this;
+  }
+
+  /**
+   * Copies the bytes of this array into {@code destination}, starting at {@code destinationOffset}. Unlike
+   * {@link #toByteArray()}, this does not allocate.
+   *
+   * @param destination       The byte array to copy into.
+   * @param destinationOffset The index in {@code destination} of the first copied byte.
+   */
+  public void copyTo(byte[] destination, int destinationOffset) {
+    Objects.requireNonNull(destination);
+    System.arraycopy(buffer, offset, destination, destinationOffset, length);
+  }
+
   /**
    * Sets the value at the given index to the given {@link UnsignedByte}.
    *
@@ -172,18 +270,42 @@ public class UnsignedByteArray {
    * @param value The {@link UnsignedByte} to set at the given index.
    */
   public void set(int index, UnsignedByte value) {
-    unsignedBytes.set(index, value);
+    Preconditions.checkElementIndex(index, length);
+    Objects.requireNonNull(value);
+    buffer[offset + index] = value.asByte();
   }
 
   /**
-   * Returns a slice of the underlying byte array from the given start to the end index (exclusive).
+   * Returns a slice of the underlying byte array from the given start to the end index (exclusive). The slice is a
+   * view over this array, so no bytes are copied and {@link #set(int, UnsignedByte)} on either array is visible in
+   * the other.
    *
    * @param startIndex start index (inclusive)
    * @param endIndex   end index (exclusive)
    * @return An {@link UnsignedByteArray} containing the sliced elements.
    */
   public UnsignedByteArray slice(int startIndex, int endIndex) {
-    return new UnsignedByteArray(unsignedBytes.subList(startIndex, endIndex));
+    Preconditions.checkPositionIndexes(startIndex, endIndex, length);
+    return new UnsignedByteArray(buffer, offset + startIndex, endIndex - startIndex, true);
+  }
+
+  /**
+   * Makes room for {@code additional} bytes after the last byte of this array, growing (or, for a slice, detaching)
+   * the underlying buffer if required.
+   *
+   * @param additional The number of bytes about to be appended.
+   */
+  private void ensureWritableCapacity(int additional) {
+    int required = length + additional;
+    if (!shared && offset + required <= buffer.length) {
+      return;
+    }
+    int newCapacity = Math.max(required, Math.max(MIN_CAPACITY, length + (length >> 1)));
+    byte[] newBuffer = new byte[newCapacity];
+    System.arraycopy(buffer, offset, newBuffer, 0, length);
+    this.buffer = newBuffer;
+    this.offset = 0;
+    this.shared = false;
   }
 
   @Override
@@ -195,18 +317,53 @@ public class UnsignedByteArray {
       return false;
     }
     UnsignedByteArray that = (UnsignedByteArray) object;
-    return getUnsignedBytes().equals(that.getUnsignedBytes());
+    if (length != that.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (buffer[offset + i] != that.buffer[that.offset + i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getUnsignedBytes());
+    int result = 1;
+    for (int i = 0; i < length; i++) {
+      result = 31 * result + buffer[offset + i];
+    }
+    return result;
   }
 
   @Override
   public String toString() {
     return "UnsignedByteArray{" +
-      "unsignedBytes=List(size=" + unsignedBytes.size() + ")" +
+      "unsignedBytes=List(size=" + length + ")" +
       '}';
   }
+
+  /**
+   * A {@link List} view over the bytes of the enclosing {@link UnsignedByteArray}.
+   */
+  private class UnsignedByteListView extends AbstractList<UnsignedByte> implements RandomAccess {
+
+    @Override
+    public UnsignedByte get(int index) {
+      return UnsignedByteArray.this.get(index);
+    }
+
+    @Override
+    public UnsignedByte set(int index, UnsignedByte element) {
+      UnsignedByte previous = UnsignedByteArray.this.get(index);
+      UnsignedByteArray.this.set(index, element);
+      return previous;
+    }
+
+    @Override
+    public int size() {
+      return length;
+    }
+  }
 }
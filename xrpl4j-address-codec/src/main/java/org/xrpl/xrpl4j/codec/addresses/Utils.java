@@ -5,15 +5,14 @@ import java.security.NoSuchAlgorithmException;
 
 public class Utils {
 
-  private static final MessageDigest digest;
-
-  static {
+  // MessageDigest is stateful, so each thread gets its own rather than contending for a shared one.
+  private static final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(() -> {
     try {
-      digest = MessageDigest.getInstance("SHA-256");
+      return MessageDigest.getInstance("SHA-256");
     } catch (NoSuchAlgorithmException e) {
       throw new RuntimeException(e);  // Can't happen.
     }
-  }
+  });
 
   /**
    * See {@link Utils#doubleDigest(byte[], int, int)}.
@@ -29,18 +28,19 @@ public class Utils {
    * Calculates the SHA-256 hash of the given byte range, and then hashes the resulting hash again. This is
    * standard procedure in XRPL. The resulting hash is in big endian form.
    *
+   * <p>This method is thread-safe and does not lock.</p>
+   *
    * @param input  A byte array to double digest.
    * @param offset The beginning index of the input to digest.
    * @param length The length of the input to digest.
    * @return The SHA-256 hash of the SHA-256 hash of the given input.
    */
   public static byte[] doubleDigest(byte[] input, int offset, int length) {
-    synchronized (digest) {
-      digest.reset();
-      digest.update(input, offset, length);
-      byte[] first = digest.digest();
-      return digest.digest(first);
-    }
+    MessageDigest digest = Utils.digest.get();
+    digest.reset();
+    digest.update(input, offset, length);
+    byte[] first = digest.digest();
+    return digest.digest(first);
   }
 
 }
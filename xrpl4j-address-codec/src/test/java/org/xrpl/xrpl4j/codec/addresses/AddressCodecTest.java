@@ -3,12 +3,15 @@ package org.xrpl.xrpl4j.codec.addresses;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.io.BaseEncoding;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodeException;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 import com.fl.xrpl4j.model.transactions.Address;
 
 import java.util.function.Function;
@@ -132,6 +135,89 @@ public class AddressCodecTest {
     );
   }
 
+  @Test
+  public void encodeDecodeAccountIdWithCache() {
+    AddressCodec cachingCodec = new AddressCodec(CaffeineSpec.parse("maximumSize=10,recordStats"));
+    for (int i = 0; i < 3; i++) {
+      testEncodeDecode(
+          accountId -> cachingCodec.encodeAccountId(accountId).value(),
+          accountId -> cachingCodec.decodeAccountId(Address.of(accountId)),
+          unsignedByteArrayFromHex("BA8E78626EE42C41B46D46C3048DF3A1C3C87072"),
+          "rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN"
+      );
+    }
+
+    CacheStats stats = cachingCodec.cacheStats();
+    // Encoding misses once and caches the address for decoding, so every later lookup in either direction hits.
+    assertThat(stats.missCount()).isEqualTo(1);
+    assertThat(stats.hitCount()).isEqualTo(5);
+  }
+
+  @Test
+  public void cachedAccountIdsAreNotShared() {
+    AddressCodec cachingCodec = new AddressCodec(CaffeineSpec.parse("maximumSize=10"));
+    Address address = Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN");
+    UnsignedByteArray accountId = unsignedByteArrayFromHex("BA8E78626EE42C41B46D46C3048DF3A1C3C87072");
+
+    cachingCodec.decodeAccountId(address).set(0, UnsignedByte.of(0));
+    assertThat(cachingCodec.decodeAccountId(address)).isEqualTo(accountId);
+
+    UnsignedByteArray encoded = unsignedByteArrayFromHex("BA8E78626EE42C41B46D46C3048DF3A1C3C87072");
+    assertThat(cachingCodec.encodeAccountId(encoded)).isEqualTo(address);
+    encoded.set(0, UnsignedByte.of(0));
+    assertThat(cachingCodec.encodeAccountId(accountId)).isEqualTo(address);
+    assertThat(cachingCodec.encodeAccountId(encoded)).isNotEqualTo(address);
+  }
+
+  @Test
+  public void decodeInvalidAccountIdWithCache() {
+    AddressCodec cachingCodec = new AddressCodec(CaffeineSpec.parse("maximumSize=10,recordStats"));
+    expectedException.expect(EncodingFormatException.class);
+    cachingCodec.decodeAccountId(Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErX"));
+  }
+
+  @Test
+  public void encodeAccountIdFromBytes() {
+    Address address = addressCodec.encodeAccountId(
+      BaseEncoding.base16().decode("D47A2D7B7BA8C1E3BA43E1B5C3468B1C49C8A4F2")
+    );
+    assertThat(address).isEqualTo(addressCodec.encodeAccountId(
+      unsignedByteArrayFromHex("D47A2D7B7BA8C1E3BA43E1B5C3468B1C49C8A4F2")
+    ));
+    assertThat(addressCodec.decodeAccountId(address).hexValue())
+      .isEqualTo("D47A2D7B7BA8C1E3BA43E1B5C3468B1C49C8A4F2");
+  }
+
+  @Test
+  public void isValidClassicAddressWithCache() {
+    AddressCodec cachingCodec = new AddressCodec(CaffeineSpec.parse("maximumSize=10"));
+    Address valid = Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN");
+    Address invalid = Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErM");
+    for (int i = 0; i < 2; i++) {
+      assertThat(cachingCodec.isValidClassicAddress(valid)).isTrue();
+      assertThat(cachingCodec.isValidClassicAddress(invalid)).isFalse();
+    }
+    assertThat(cachingCodec.isValidClassicAddress(null)).isFalse();
+  }
+
+  @Test
+  public void encodedAddressesAreCachedForDecoding() {
+    AddressCodec cachingCodec = new AddressCodec(CaffeineSpec.parse("maximumSize=10,recordStats"));
+    UnsignedByteArray accountId = unsignedByteArrayFromHex("BA8E78626EE42C41B46D46C3048DF3A1C3C87072");
+    Address address = cachingCodec.encodeAccountId(accountId);
+    accountId.set(0, UnsignedByte.of(0));
+
+    assertThat(cachingCodec.decodeAccountId(address).hexValue()).isEqualTo("BA8E78626EE42C41B46D46C3048DF3A1C3C87072");
+    assertThat(cachingCodec.cacheStats().missCount()).isEqualTo(1);
+    assertThat(cachingCodec.cacheStats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void cacheStatsWithoutCache() {
+    addressCodec.decodeAccountId(Address.of("rJrRMgiRgrU6hDF4pgu5DXQdWyPbY35ErN"));
+    assertThat(addressCodec.cacheStats()).isEqualTo(CacheStats.empty());
+  }
+
   @Test
   public void encodeDecodeNodePublic() {
     testEncodeDecode(
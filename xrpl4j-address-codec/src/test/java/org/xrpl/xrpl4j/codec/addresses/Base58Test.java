@@ -10,7 +10,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Random;
 
 public class Base58Test {
 
@@ -69,4 +71,89 @@ public class Base58Test {
       logger.error("Test succeeded.");
     }
   }
+
+  @Test
+  public void testDecodeChecksumMismatch() {
+    String encoded = AddressBase58.encodeChecked("123456789".getBytes(), Lists.newArrayList(Version.ACCOUNT_ID));
+    // Replace the last character, which changes the checksum.
+    String corrupted = encoded.substring(0, encoded.length() - 1) + (encoded.endsWith("r") ? "p" : "r");
+    try {
+      Base58.decodeChecked(corrupted);
+      fail();
+    } catch (EncodingFormatException e) {
+      assertThat(e).hasMessage("Checksum does not validate");
+    }
+  }
+
+  @Test
+  public void testEncodeDecodeMatchesReference() {
+    Random random = new Random(58);
+    for (int length = 0; length <= 64; length++) {
+      for (int iteration = 0; iteration < 50; iteration++) {
+        byte[] input = new byte[length];
+        random.nextBytes(input);
+        // Exercise leading zero bytes, and all-zero inputs, as well.
+        int zeros = random.nextInt(4) == 0 ? random.nextInt(length + 1) : 0;
+        Arrays.fill(input, 0, zeros, (byte) 0);
+
+        String encoded = Base58.encode(input);
+        assertThat(encoded).isEqualTo(referenceEncode(input));
+        assertThat(Base58.decode(encoded)).isEqualTo(input);
+      }
+    }
+  }
+
+  @Test
+  public void testDecodeMatchesReference() {
+    Random random = new Random(58);
+    for (int length = 1; length <= 64; length++) {
+      for (int iteration = 0; iteration < 50; iteration++) {
+        char[] input = new char[length];
+        for (int i = 0; i < length; i++) {
+          // Bias towards the zero digit to produce leading zeros.
+          input[i] = Base58.ALPHABET[random.nextInt(8) == 0 ? 0 : random.nextInt(58)];
+        }
+        String encoded = new String(input);
+        assertThat(Base58.decode(encoded)).isEqualTo(referenceDecode(encoded));
+      }
+    }
+  }
+
+  /**
+   * A straightforward Base58 encoder to check {@link Base58#encode(byte[])} against.
+   */
+  private static String referenceEncode(byte[] input) {
+    StringBuilder encoded = new StringBuilder();
+    BigInteger value = new BigInteger(1, input);
+    while (value.signum() > 0) {
+      BigInteger[] quotientAndRemainder = value.divideAndRemainder(BigInteger.valueOf(58));
+      encoded.append(Base58.ALPHABET[quotientAndRemainder[1].intValue()]);
+      value = quotientAndRemainder[0];
+    }
+    for (int i = 0; i < input.length && input[i] == 0; i++) {
+      encoded.append(Base58.ALPHABET[0]);
+    }
+    return encoded.reverse().toString();
+  }
+
+  /**
+   * A straightforward Base58 decoder to check {@link Base58#decode(String)} against.
+   */
+  private static byte[] referenceDecode(String input) {
+    String alphabet = new String(Base58.ALPHABET);
+    BigInteger value = BigInteger.ZERO;
+    int zeros = 0;
+    while (zeros < input.length() && input.charAt(zeros) == Base58.ALPHABET[0]) {
+      zeros++;
+    }
+    for (int i = 0; i < input.length(); i++) {
+      value = value.multiply(BigInteger.valueOf(58)).add(BigInteger.valueOf(alphabet.indexOf(input.charAt(i))));
+    }
+    byte[] significant = value.signum() == 0 ? new byte[0] : value.toByteArray();
+    // Drop the sign byte that BigInteger adds when the top bit is set.
+    int start = significant.length > 0 && significant[0] == 0 ? 1 : 0;
+    byte[] decoded = new byte[zeros + significant.length - start];
+    System.arraycopy(significant, start, decoded, zeros, significant.length - start);
+    return decoded;
+  }
 }
@@ -42,4 +42,80 @@ public class UnsignedByteArrayTest {
     assertThat(UnsignedByteArray.fromHex("abcdef0123").hexValue()).isEqualTo("ABCDEF0123");
   }
 
+  @Test
+  public void fromHexWithOddLength() {
+    assertThat(UnsignedByteArray.fromHex("F").hexValue()).isEqualTo("0F");
+    assertThat(UnsignedByteArray.fromHex("123").hexValue()).isEqualTo("0123");
+    assertThat(UnsignedByteArray.fromHex("").length()).isEqualTo(0);
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void fromHexWithInvalidCharacter() {
+    UnsignedByteArray.fromHex("0G");
+  }
+
+  @Test
+  public void appendGrowsArray() {
+    UnsignedByteArray array = UnsignedByteArray.empty();
+    StringBuilder expectedHex = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      array.append(UnsignedByte.of(i % 256));
+      expectedHex.append(UnsignedByte.of(i % 256).hexValue());
+    }
+    assertThat(array.length()).isEqualTo(1000);
+    assertThat(array.hexValue()).isEqualTo(expectedHex.toString());
+
+    array.append(UnsignedByteArray.fromHex("ABCD")).append(array.slice(0, 2));
+    assertThat(array.length()).isEqualTo(1004);
+    assertThat(array.slice(1000, 1004).hexValue()).isEqualTo("ABCD0001");
+  }
+
+  @Test
+  public void appendToSelf() {
+    UnsignedByteArray array = UnsignedByteArray.fromHex("0102");
+    array.append(array);
+    assertThat(array.hexValue()).isEqualTo("01020102");
+  }
+
+  @Test
+  public void sliceIsView() {
+    UnsignedByteArray array = UnsignedByteArray.fromHex("0001020304");
+    UnsignedByteArray slice = array.slice(1, 4);
+    assertThat(slice.hexValue()).isEqualTo("010203");
+    assertThat(slice.toByteArray()).isEqualTo(BaseEncoding.base16().decode("010203"));
+
+    array.set(2, UnsignedByte.of(0xFF));
+    assertThat(slice.get(1)).isEqualTo(UnsignedByte.of(0xFF));
+    slice.set(0, UnsignedByte.of(0xEE));
+    assertThat(array.hexValue()).isEqualTo("00EEFF0304");
+  }
+
+  @Test
+  public void appendToSliceDoesNotModifyParent() {
+    UnsignedByteArray array = UnsignedByteArray.fromHex("0001020304");
+    UnsignedByteArray slice = array.slice(0, 2);
+    slice.append(UnsignedByte.of(0xFF));
+
+    assertThat(slice.hexValue()).isEqualTo("0001FF");
+    assertThat(array.hexValue()).isEqualTo("0001020304");
+  }
+
+  @Test
+  public void unsignedBytesView() {
+    UnsignedByteArray array = UnsignedByteArray.fromHex("00FF");
+    assertThat(array.getUnsignedBytes()).containsExactly(UnsignedByte.of(0), UnsignedByte.of(0xFF));
+
+    array.getUnsignedBytes().set(0, UnsignedByte.of(1));
+    assertThat(array.hexValue()).isEqualTo("01FF");
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    UnsignedByteArray array = UnsignedByteArray.fromHex("000102");
+    UnsignedByteArray slice = UnsignedByteArray.fromHex("FF000102").slice(1, 4);
+    assertThat(array).isEqualTo(slice);
+    assertThat(array.hashCode()).isEqualTo(slice.hashCode());
+    assertThat(array).isNotEqualTo(UnsignedByteArray.fromHex("0001"));
+  }
+
 }
@@ -0,0 +1,72 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class UtilsTest {
+
+  private static final byte[] HELLO = "hello".getBytes();
+  private static final String HELLO_DOUBLE_DIGEST = "9595C9DF90075148EB06860365DF33584B75BFF782A510C6CD4883A419833D50";
+
+  @Test
+  public void doubleDigest() {
+    assertThat(BaseEncoding.base16().encode(Utils.doubleDigest(HELLO))).isEqualTo(HELLO_DOUBLE_DIGEST);
+  }
+
+  @Test
+  public void doubleDigestRange() {
+    byte[] padded = "__hello___".getBytes();
+    assertThat(BaseEncoding.base16().encode(Utils.doubleDigest(padded, 2, HELLO.length)))
+      .isEqualTo(HELLO_DOUBLE_DIGEST);
+  }
+
+  @Test
+  public void doubleDigestConcurrently() throws Exception {
+    final int threads = 8;
+    final int iterations = 2000;
+    final byte[] expected = Utils.doubleDigest(HELLO);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int thread = 0; thread < threads; thread++) {
+        final byte[] input = ("thread " + thread).getBytes();
+        final byte[] expectedForThread = Utils.doubleDigest(input);
+        Callable<Integer> task = () -> {
+          start.await();
+          int mismatches = 0;
+          for (int i = 0; i < iterations; i++) {
+            byte[] current = i % 2 == 0 ? HELLO : input;
+            byte[] expectedDigest = i % 2 == 0 ? expected : expectedForThread;
+            if (!Arrays.equals(Utils.doubleDigest(current), expectedDigest)) {
+              mismatches++;
+            }
+          }
+          return mismatches;
+        };
+        results.add(executor.submit(task));
+      }
+      start.countDown();
+
+      for (Future<Integer> result : results) {
+        assertThat(result.get(1, TimeUnit.MINUTES)).isZero();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+}
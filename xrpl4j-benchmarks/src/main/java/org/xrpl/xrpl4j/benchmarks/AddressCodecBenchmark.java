@@ -0,0 +1,80 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fl.xrpl4j.model.transactions.Address;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.Base58;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Base58} and the {@link AddressCodec} account ID conversions that run for every {@code AccountID}
+ * field that is encoded or decoded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddressCodecBenchmark {
+
+  private static final Address ADDRESS = Address.of("rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY");
+
+  private final AddressCodec addressCodec = AddressCodec.getInstance();
+  private final AddressCodec cachingAddressCodec = AddressCodec.getCachingInstance();
+  private final UnsignedByteArray accountId = addressCodec.decodeAccountId(ADDRESS);
+  private final byte[] accountIdBytes = accountId.toByteArray();
+  private final String base58 = Base58.encode(accountIdBytes);
+  private final String base58Checked = Base58.encodeChecked(accountIdBytes);
+
+  @Benchmark
+  public String base58Encode() {
+    return Base58.encode(accountIdBytes);
+  }
+
+  @Benchmark
+  public byte[] base58Decode() {
+    return Base58.decode(base58);
+  }
+
+  @Benchmark
+  public String base58EncodeChecked() {
+    return Base58.encodeChecked(accountIdBytes);
+  }
+
+  @Benchmark
+  public byte[] base58DecodeChecked() {
+    return Base58.decodeChecked(base58Checked);
+  }
+
+  @Benchmark
+  public UnsignedByteArray decodeAccountId() {
+    return addressCodec.decodeAccountId(ADDRESS);
+  }
+
+  @Benchmark
+  public Address encodeAccountId() {
+    return addressCodec.encodeAccountId(accountId);
+  }
+
+  @Benchmark
+  public UnsignedByteArray decodeAccountIdCached() {
+    return cachingAddressCodec.decodeAccountId(ADDRESS);
+  }
+
+  @Benchmark
+  public Address encodeAccountIdCached() {
+    return cachingAddressCodec.encodeAccountId(accountId);
+  }
+
+}
@@ -0,0 +1,82 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link XrplBinaryCodec#encode(String)} and {@link XrplBinaryCodec#decode(String)} over a set of fixtures
+ * from {@code codec-fixtures.json}. One operation encodes (or decodes) the whole set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+  @Param({"accountState", "transactions"})
+  private String fixtureSet;
+
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+
+  private List<CodecFixtures.Fixture> fixtures;
+
+  /**
+   * Load the fixtures for {@link #fixtureSet}, and check that every one of them round-trips so that the benchmarks
+   * measure the whole set.
+   *
+   * @throws JsonProcessingException if a fixture cannot be parsed.
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    fixtures = CodecFixtures.load(fixtureSet);
+    for (CodecFixtures.Fixture fixture : fixtures) {
+      if (!binaryCodec.encode(fixture.json()).equals(fixture.binary())) {
+        throw new IllegalStateException("Fixture does not round-trip: " + fixture.binary());
+      }
+    }
+  }
+
+  /**
+   * Encode the JSON of every fixture.
+   *
+   * @param blackhole A {@link Blackhole} that consumes the results.
+   *
+   * @throws JsonProcessingException if a fixture cannot be parsed.
+   */
+  @Benchmark
+  public void encode(Blackhole blackhole) throws JsonProcessingException {
+    for (CodecFixtures.Fixture fixture : fixtures) {
+      blackhole.consume(binaryCodec.encode(fixture.json()));
+    }
+  }
+
+  /**
+   * Decode the binary of every fixture.
+   *
+   * @param blackhole A {@link Blackhole} that consumes the results.
+   */
+  @Benchmark
+  public void decode(Blackhole blackhole) {
+    for (CodecFixtures.Fixture fixture : fixtures) {
+      blackhole.consume(binaryCodec.decode(fixture.binary()));
+    }
+  }
+
+}
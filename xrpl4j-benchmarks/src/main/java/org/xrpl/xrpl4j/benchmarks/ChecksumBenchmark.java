@@ -0,0 +1,75 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fl.xrpl4j.model.transactions.Address;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.addresses.Utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the double SHA-256 checksum in {@link Utils#doubleDigest(byte[])}, which every checked Base58 encoding
+ * and decoding computes, and the address decoding that relies on it, with 1, 4 and 32 threads. The total throughput
+ * of the multi-threaded variants shows how well the checksum scales across threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChecksumBenchmark {
+
+  private static final Address ADDRESS = Address.of("rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY");
+
+  private final AddressCodec addressCodec = AddressCodec.getInstance();
+  // The version byte and account ID that the checksum of a classic address covers.
+  private final byte[] payload = UnsignedByteArray.ofSize(1).append(addressCodec.decodeAccountId(ADDRESS)).toByteArray();
+
+  @Benchmark
+  @Threads(1)
+  public byte[] doubleDigest1Thread() {
+    return Utils.doubleDigest(payload);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public byte[] doubleDigest4Threads() {
+    return Utils.doubleDigest(payload);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public byte[] doubleDigest32Threads() {
+    return Utils.doubleDigest(payload);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public UnsignedByteArray decodeAccountId1Thread() {
+    return addressCodec.decodeAccountId(ADDRESS);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public UnsignedByteArray decodeAccountId4Threads() {
+    return addressCodec.decodeAccountId(ADDRESS);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public UnsignedByteArray decodeAccountId32Threads() {
+    return addressCodec.decodeAccountId(ADDRESS);
+  }
+
+}
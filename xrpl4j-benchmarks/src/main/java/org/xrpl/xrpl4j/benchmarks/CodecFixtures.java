@@ -0,0 +1,72 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Loads the binary and JSON representations of ledger objects and transactions from {@code codec-fixtures.json}, the
+ * same fixtures that the binary codec's unit tests use.
+ */
+final class CodecFixtures {
+
+  private static final String FIXTURES = "/codec-fixtures.json";
+
+  private CodecFixtures() {
+  }
+
+  /**
+   * Load one set of fixtures.
+   *
+   * @param name The name of the fixture set, e.g. {@code accountState} or {@code transactions}.
+   *
+   * @return A {@link List} of {@link Fixture}s.
+   */
+  static List<Fixture> load(final String name) {
+    Objects.requireNonNull(name);
+    ObjectMapper objectMapper = new ObjectMapper();
+    try (InputStream input = CodecFixtures.class.getResourceAsStream(FIXTURES)) {
+      Objects.requireNonNull(input, FIXTURES + " not found");
+      JsonNode fixtures = objectMapper.readTree(input).get(name);
+      if (fixtures == null) {
+        throw new IllegalArgumentException("Unknown fixture set " + name);
+      }
+      List<Fixture> result = new ArrayList<>();
+      for (JsonNode fixture : fixtures) {
+        result.add(new Fixture(fixture.get("binary").asText(), objectMapper.writeValueAsString(fixture.get("json"))));
+      }
+      return result;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * A hex encoded binary object and its JSON representation.
+   */
+  static final class Fixture {
+
+    private final String binary;
+    private final String json;
+
+    Fixture(final String binary, final String json) {
+      this.binary = binary;
+      this.json = json;
+    }
+
+    String binary() {
+      return binary;
+    }
+
+    String json() {
+      return json;
+    }
+  }
+
+}
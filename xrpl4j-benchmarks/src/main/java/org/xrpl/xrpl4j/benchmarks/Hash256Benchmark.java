@@ -0,0 +1,60 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fl.xrpl4j.model.transactions.Hash256;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks deduplicating transaction hashes with a {@link HashSet} of {@link Hash256}s, which exercises
+ * {@link Hash256#hashCode()} and {@link Hash256#equals(Object)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Hash256Benchmark {
+
+  private final List<Hash256> hashes = new ArrayList<>();
+
+  /**
+   * Generate 10,000 hashes, each of which appears twice.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    byte[] bytes = new byte[32];
+    for (int i = 0; i < 5_000; i++) {
+      random.nextBytes(bytes);
+      hashes.add(Hash256.ofBytes(bytes));
+      hashes.add(Hash256.ofBytes(bytes));
+    }
+  }
+
+  @Benchmark
+  public Set<Hash256> deduplicate() {
+    return new HashSet<>(hashes);
+  }
+
+  @Benchmark
+  public boolean equals() {
+    return hashes.get(0).equals(hashes.get(1));
+  }
+
+}
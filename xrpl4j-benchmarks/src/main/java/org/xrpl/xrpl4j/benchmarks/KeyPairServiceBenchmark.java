@@ -0,0 +1,74 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.keypairs.Ed25519KeyPairService;
+import org.xrpl.xrpl4j.keypairs.KeyPairService;
+import org.xrpl.xrpl4j.keypairs.Secp256k1KeyPairService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks signing and verifying a transaction-sized message with {@link Secp256k1KeyPairService} and
+ * {@link Ed25519KeyPairService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyPairServiceBenchmark {
+
+  /**
+   * The signable bytes of a typical Payment transaction.
+   */
+  private static final UnsignedByteArray MESSAGE = UnsignedByteArray.fromHex(
+    "535458001200002280000000240000000161400000000000000A68400000000000000A7321ED5F5AC8B98974A3CA843326D9B8" +
+      "8CEBD0560177B973EE0B149F782CFAA06DC66A81145B812C9D57731E27A2DA8B1830195F88EF32A3B68314B5F762798A53D5" +
+      "43A014CAF8B297CFF8F2F937E8"
+  );
+
+  @Param({"secp256k1", "ed25519"})
+  private String keyType;
+
+  private KeyPairService keyPairService;
+  private String privateKey;
+  private String publicKey;
+  private String signature;
+
+  /**
+   * Derive a key pair of {@link #keyType} from a fixed seed and sign {@link #MESSAGE} with it.
+   */
+  @Setup
+  public void setUp() {
+    keyPairService = keyType.equals("ed25519") ?
+      Ed25519KeyPairService.getInstance() :
+      Secp256k1KeyPairService.getInstance();
+    String seed = keyPairService.generateSeed(UnsignedByteArray.ofSize(16));
+    privateKey = keyPairService.deriveKeyPair(seed).privateKey();
+    publicKey = keyPairService.deriveKeyPair(seed).publicKey();
+    signature = keyPairService.sign(MESSAGE, privateKey);
+  }
+
+  @Benchmark
+  public String sign() {
+    return keyPairService.sign(MESSAGE, privateKey);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return keyPairService.verify(MESSAGE, signature, publicKey);
+  }
+
+}
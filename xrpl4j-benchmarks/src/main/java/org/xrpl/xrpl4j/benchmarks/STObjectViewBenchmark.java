@@ -0,0 +1,91 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectView;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks reading the {@code Account}, {@code Fee} and {@code Sequence} of every transaction in
+ * {@code codec-fixtures.json}, either through an {@link STObjectView} or by decoding the whole transaction with
+ * {@link XrplBinaryCodec#decode(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("AbbreviationAsWordInName")
+public class STObjectViewBenchmark {
+
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private List<String> hexes;
+  private List<byte[]> binaries;
+
+  /**
+   * Load the transaction fixtures.
+   */
+  @Setup
+  public void setUp() {
+    hexes = CodecFixtures.load("transactions").stream()
+      .map(CodecFixtures.Fixture::binary)
+      .collect(Collectors.toList());
+    binaries = hexes.stream()
+      .map(hex -> UnsignedByteArray.fromHex(hex).toByteArray())
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Read three fields of every transaction through an {@link STObjectView}.
+   *
+   * @param blackhole A {@link Blackhole} that consumes the results.
+   */
+  @Benchmark
+  public void view(Blackhole blackhole) {
+    for (byte[] binary : binaries) {
+      STObjectView view = STObjectView.of(binary);
+      blackhole.consume(view.getAddress("Account"));
+      blackhole.consume(view.getAmount("Fee"));
+      blackhole.consume(view.getUInt("Sequence"));
+    }
+  }
+
+  /**
+   * Read three fields of every transaction by decoding it to JSON.
+   *
+   * @param blackhole A {@link Blackhole} that consumes the results.
+   *
+   * @throws JsonProcessingException if a decoded transaction cannot be parsed.
+   */
+  @Benchmark
+  public void decode(Blackhole blackhole) throws JsonProcessingException {
+    for (String hex : hexes) {
+      JsonNode transaction = objectMapper.readTree(binaryCodec.decode(hex));
+      blackhole.consume(transaction.get("Account").textValue());
+      blackhole.consume(transaction.get("Fee").textValue());
+      blackhole.consume(transaction.get("Sequence").longValue());
+    }
+  }
+
+}
@@ -0,0 +1,118 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fl.xrpl4j.model.jackson.ObjectMapperFactory;
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.Payment;
+import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
+import com.google.common.base.Strings;
+import com.google.common.primitives.UnsignedInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.MultiSigningPayload;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.serdes.GrowableByteSink;
+import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
+import org.xrpl.xrpl4j.keypairs.HashUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks {@link SignatureUtils#toSignableBytes} for a Payment, alongside the equivalent JSON round trip through
+ * {@link XrplBinaryCodec#encodeForSigning(String)} as a baseline, and the signable bytes of the same Payment when it is
+ * already encoded and signed, as when verifying a received transaction. The multi-signing benchmarks hash the bytes that
+ * each of a quorum of signers signs, either encoding the Payment for every signer or once for all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignatureUtilsBenchmark {
+
+  private static final AddressCodec ADDRESS_CODEC = AddressCodec.getInstance();
+
+  private static final Payment PAYMENT = Payment.builder()
+    .account(Address.of("r9TeThyi5xiuUUrFjtPKZiHcDxs7K9H6Rb"))
+    .fee(XrpCurrencyAmount.ofDrops(10))
+    .sequence(UnsignedInteger.ONE)
+    .destination(Address.of("r4BPgS7DHebQiU31xWELvZawwSG2fSPJ7C"))
+    .amount(XrpCurrencyAmount.ofDrops(12345))
+    .signingPublicKey("ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A")
+    .build();
+
+  private static final List<Address> SIGNERS = IntStream.range(0, 10)
+    .mapToObj(i -> ADDRESS_CODEC.encodeAccountId(new byte[] {
+      1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, (byte) i
+    }))
+    .collect(Collectors.toList());
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+  private final SignatureUtils signatureUtils = new SignatureUtils();
+
+  private byte[] signedTransaction;
+
+  /**
+   * Encode a signed copy of the Payment.
+   *
+   * @throws JsonProcessingException if the Payment cannot be serialized.
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    Payment signed = Payment.builder().from(PAYMENT)
+      .transactionSignature(Strings.repeat("AB", 64))
+      .build();
+    signedTransaction = UnsignedByteArray.fromHex(binaryCodec.encode(objectMapper.writeValueAsString(signed)))
+      .toByteArray();
+  }
+
+  @Benchmark
+  public UnsignedByteArray toSignableBytes() {
+    return signatureUtils.toSignableBytes(PAYMENT);
+  }
+
+  @Benchmark
+  public String toSignableBytesViaJson() throws JsonProcessingException {
+    return binaryCodec.encodeForSigning(objectMapper.writeValueAsString(PAYMENT));
+  }
+
+  @Benchmark
+  public void multiSignableHashesPerSigner(Blackhole blackhole) {
+    for (Address signer : SIGNERS) {
+      blackhole.consume(HashUtils.sha512Half(signatureUtils.toMultiSignableBytes(PAYMENT, signer.value())));
+    }
+  }
+
+  @Benchmark
+  public void multiSignableHashesOnce(Blackhole blackhole) {
+    MultiSigningPayload payload = signatureUtils.toMultiSignablePayload(PAYMENT);
+    for (Address signer : SIGNERS) {
+      blackhole.consume(payload.sha512HalfForSigner(signer));
+    }
+  }
+
+  @Benchmark
+  public UnsignedByteArray toSignableBytesFromBinary() {
+    GrowableByteSink sink = new GrowableByteSink();
+    binaryCodec.encodeForSigning(signedTransaction, sink);
+    return sink.toUnsignedByteArray();
+  }
+
+}
@@ -0,0 +1,91 @@
+package org.xrpl.xrpl4j.benchmarks;
+
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.Payment;
+import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
+import com.google.common.primitives.UnsignedInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.crypto.KeyMetadata;
+import org.xrpl.xrpl4j.crypto.PrivateKey;
+import org.xrpl.xrpl4j.crypto.signing.SignedTransaction;
+import org.xrpl.xrpl4j.crypto.signing.SingleKeySignatureService;
+import org.xrpl.xrpl4j.keypairs.Ed25519KeyPairService;
+import org.xrpl.xrpl4j.keypairs.KeyPairService;
+import org.xrpl.xrpl4j.keypairs.Secp256k1KeyPairService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks signing and verifying a Payment with a single {@link SingleKeySignatureService} that is shared by several
+ * threads, which measures how well the service scales under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SingleKeySignatureServiceBenchmark {
+
+  private static final KeyMetadata KEY_METADATA = KeyMetadata.builder()
+    .platformIdentifier("jks")
+    .keyringIdentifier("n/a")
+    .keyIdentifier("benchmark")
+    .keyVersion("1")
+    .keyPassword("password")
+    .build();
+
+  @Param({"secp256k1", "ed25519"})
+  private String keyType;
+
+  private SingleKeySignatureService signatureService;
+  private Payment payment;
+  private SignedTransaction<Payment> signedPayment;
+
+  /**
+   * Derive a key of {@link #keyType} from a fixed seed and build a service that holds it.
+   */
+  @Setup
+  public void setUp() {
+    KeyPairService keyPairService = keyType.equals("ed25519") ?
+      Ed25519KeyPairService.getInstance() :
+      Secp256k1KeyPairService.getInstance();
+    String seed = keyPairService.generateSeed(UnsignedByteArray.ofSize(16));
+    PrivateKey privateKey = PrivateKey.fromBase16EncodedPrivateKey(keyPairService.deriveKeyPair(seed).privateKey());
+    signatureService = new SingleKeySignatureService(privateKey);
+
+    payment = Payment.builder()
+      .account(Address.of("r9TeThyi5xiuUUrFjtPKZiHcDxs7K9H6Rb"))
+      .fee(XrpCurrencyAmount.ofDrops(10))
+      .sequence(UnsignedInteger.ONE)
+      .destination(Address.of("r4BPgS7DHebQiU31xWELvZawwSG2fSPJ7C"))
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .signingPublicKey(signatureService.getPublicKey(KEY_METADATA).base16Encoded())
+      .build();
+    signedPayment = signatureService.sign(KEY_METADATA, payment);
+  }
+
+  @Benchmark
+  public SignedTransaction<Payment> sign() {
+    return signatureService.sign(KEY_METADATA, payment);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return signatureService.verify(KEY_METADATA, signedPayment);
+  }
+
+}
@@ -3,6 +3,7 @@ package org.xrpl.xrpl4j.codec.binary;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.immutables.value.Value.Immutable;
+import org.xrpl.xrpl4j.codec.binary.serdes.ByteSink;
 
 /**
  * Represents a Field ID used to encode an XRPL field name to its binary form.
@@ -20,4 +21,34 @@ public interface FieldHeader {
 
   int typeCode();
 
+  /**
+   * Write the binary encoding of this header to a {@link ByteSink}, without allocating. The encoding is between 1 and
+   * 3 bytes depending on the size of the type and field codes.
+   *
+   * @param sink The {@link ByteSink} to write the encoded field header to.
+   */
+  default void write(ByteSink sink) {
+    int typeCode = typeCode();
+    int fieldCode = fieldCode();
+    if (typeCode < 16) {
+      if (fieldCode < 16) {
+        // single byte case where high bits contain type code, low bits contain field code
+        sink.put((byte) ((typeCode << 4) | fieldCode));
+      } else {
+        // 2 byte case where first byte contains type code + filler, second byte contains field code
+        sink.put((byte) (typeCode << 4));
+        sink.put((byte) fieldCode);
+      }
+    } else if (fieldCode < 16) {
+      // 2 byte case where first byte contains filler+field code, second byte contains typeCode
+      sink.put((byte) fieldCode);
+      sink.put((byte) typeCode);
+    } else {
+      // 3 byte case where first byte is filler, 2nd byte is type code, third byte is field code
+      sink.put((byte) 0);
+      sink.put((byte) typeCode);
+      sink.put((byte) fieldCode);
+    }
+  }
+
 }
@@ -8,8 +8,8 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.binary.definitions.Definitions;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsProvider;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInfo;
+import org.xrpl.xrpl4j.codec.binary.serdes.GrowableByteSink;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,31 +65,9 @@ public class FieldHeaderCodec {
   }
 
   protected String encode(FieldHeader fieldHeader) {
-    List<UnsignedByte> segments = new ArrayList<>();
-    int typeCode = fieldHeader.typeCode();
-    int fieldCode = fieldHeader.fieldCode();
-    if (typeCode < 16) {
-      if (fieldCode < 16) {
-        // single byte case where high bits contain type code, low bits contain field code
-        segments.add(UnsignedByte.of((byte) typeCode, (byte) fieldCode));
-      } else {
-        // 2 byte case where first byte contains type code + filler, second byte contains field code
-        segments.add(UnsignedByte.of((byte) typeCode, (byte) 0));
-        segments.add(UnsignedByte.of(fieldCode));
-      }
-    } else {
-      if (fieldCode < 16) {
-        // 2 byte case where first byte contains filler+field code, second byte contains typeCode
-        segments.add(UnsignedByte.of((byte) 0, (byte) fieldCode));
-        segments.add(UnsignedByte.of(typeCode));
-      } else {
-        // 3 byte case where first byte is filler, 2nd byte is type code, third byte is field code
-        segments.add(UnsignedByte.of((byte) 0));
-        segments.add(UnsignedByte.of(typeCode));
-        segments.add(UnsignedByte.of(fieldCode));
-      }
-    }
-    return ByteUtils.toHex(segments);
+    GrowableByteSink sink = new GrowableByteSink(3);
+    fieldHeader.write(sink);
+    return sink.hexValue();
   }
 
   public String decode(String hex) {
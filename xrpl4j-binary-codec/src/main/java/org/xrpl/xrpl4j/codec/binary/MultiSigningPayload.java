@@ -0,0 +1,113 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+import com.fl.xrpl4j.model.transactions.Address;
+import com.google.common.base.Suppliers;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.ByteSink;
+import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The bytes that the signers of a multi-signed transaction sign, encoded once for all of them.
+ *
+ * <p>Every signer signs the multi-signing prefix and the signing fields of the transaction, followed by their own
+ * account ID. This class holds the shared part, so that the payload of each signer only costs appending 20 bytes, and
+ * the SHA-512 state over the shared part, so that hashing the payload of each signer only costs hashing those 20
+ * bytes.</p>
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ */
+public class MultiSigningPayload {
+
+  private final byte[] prefix;
+
+  private final Supplier<MessageDigest> prefixDigest = Suppliers.memoize(this::digestPrefix);
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param prefix An {@link UnsignedByteArray} containing the multi-signing prefix and the signing fields of a
+   *               transaction, with an empty {@code SigningPubKey}.
+   */
+  public MultiSigningPayload(final UnsignedByteArray prefix) {
+    this.prefix = Objects.requireNonNull(prefix).toByteArray();
+  }
+
+  /**
+   * The part of the payload that is the same for every signer.
+   *
+   * @return An {@link UnsignedByteArray} containing the multi-signing prefix and the signing fields.
+   */
+  public UnsignedByteArray prefix() {
+    return UnsignedByteArray.of(prefix);
+  }
+
+  /**
+   * The bytes that {@code signer} signs.
+   *
+   * @param signer The {@link Address} of a signer.
+   *
+   * @return An {@link UnsignedByteArray} containing {@link #prefix()} followed by the account ID of {@code signer}.
+   */
+  public UnsignedByteArray forSigner(final Address signer) {
+    byte[] accountId = accountId(signer);
+    byte[] payload = Arrays.copyOf(prefix, prefix.length + accountId.length);
+    System.arraycopy(accountId, 0, payload, prefix.length, accountId.length);
+    return UnsignedByteArray.of(payload);
+  }
+
+  /**
+   * Write the bytes that {@code signer} signs to {@code sink}.
+   *
+   * @param signer The {@link Address} of a signer.
+   * @param sink   The {@link ByteSink} to write the payload to.
+   */
+  public void writeForSigner(final Address signer, final ByteSink sink) {
+    Objects.requireNonNull(sink);
+    byte[] accountId = accountId(signer);
+    sink.put(prefix);
+    sink.put(accountId);
+  }
+
+  /**
+   * Compute the first half of the SHA-512 hash of the bytes that {@code signer} signs, which is what a secp256k1
+   * signature signs. The hash state over {@link #prefix()} is computed once and copied for each signer.
+   *
+   * @param signer The {@link Address} of a signer.
+   *
+   * @return An {@link UnsignedByteArray} containing the first 32 bytes of the SHA-512 hash of
+   *   {@link #forSigner(Address)}.
+   */
+  public UnsignedByteArray sha512HalfForSigner(final Address signer) {
+    byte[] accountId = accountId(signer);
+    MessageDigest digest;
+    try {
+      digest = (MessageDigest) prefixDigest.get().clone();
+    } catch (CloneNotSupportedException e) {
+      digest = digestPrefix();
+    }
+    digest.update(accountId);
+    return UnsignedByteArray.of(Arrays.copyOf(digest.digest(), 32));
+  }
+
+  private byte[] accountId(final Address signer) {
+    Objects.requireNonNull(signer);
+    return new AccountIdType().fromAddress(signer).toBytes();
+  }
+
+  private MessageDigest digestPrefix() {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-512");
+      digest.update(prefix);
+      return digest;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
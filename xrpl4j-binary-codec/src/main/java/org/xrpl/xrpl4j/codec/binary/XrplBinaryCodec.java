@@ -11,8 +11,12 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.serdes.ByteSink;
+import org.xrpl.xrpl4j.codec.binary.serdes.GrowableByteSink;
 import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
 import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectView;
 import org.xrpl.xrpl4j.codec.binary.types.UInt64Type;
 
 import java.util.Map;
@@ -30,6 +34,10 @@ public class XrplBinaryCodec {
   public static final String CHANNEL_FIELD_NAME = "Channel";
   public static final String AMOUNT_FIELD_NAME = "Amount";
 
+  private static final UnsignedByteArray TRX_SIGNATURE_PREFIX_BYTES = UnsignedByteArray.fromHex(TRX_SIGNATURE_PREFIX);
+  private static final UnsignedByteArray TRX_MULTI_SIGNATURE_PREFIX_BYTES =
+    UnsignedByteArray.fromHex(TRX_MULTI_SIGNATURE_PREFIX);
+
   private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
 
@@ -48,20 +56,37 @@ public class XrplBinaryCodec {
     return encode(node);
   }
 
+  /**
+   * Encodes JSON to canonical XRPL binary, writing the bytes to {@code sink}.
+   *
+   * @param json A {@link String} containing JSON to be encoded.
+   * @param sink The {@link ByteSink} to write the encoded bytes to.
+   *
+   * @throws JsonProcessingException if {@code json} is not valid JSON.
+   */
+  public void encode(String json, ByteSink sink) throws JsonProcessingException {
+    Objects.requireNonNull(json);
+    Objects.requireNonNull(sink);
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
+    encode(node, sink);
+  }
+
   /**
    * Encodes JSON to canonical XRPL binary as a hex string.
    *
    * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
    *
    * @return A {@link String} containing the hex-encoded representation of {@code jsonNode}.
-   *
-   * @throws JsonProcessingException if {@code jsonNode} is not valid JSON.
    */
   private String encode(final JsonNode jsonNode) {
+    GrowableByteSink sink = new GrowableByteSink();
+    encode(jsonNode, sink);
+    return sink.hexValue();
+  }
+
+  private void encode(final JsonNode jsonNode, final ByteSink sink) {
     Objects.requireNonNull(jsonNode);
-    UnsignedByteArray byteList = UnsignedByteArray.empty();
-    new STObjectType().fromJson(jsonNode).toBytesSink(byteList);
-    return byteList.hexValue();
+    new STObjectType().writeJson(jsonNode, new BinarySerializer(sink));
   }
 
   /**
@@ -78,6 +103,59 @@ public class XrplBinaryCodec {
     return TRX_SIGNATURE_PREFIX + encode(removeNonSigningFields(node));
   }
 
+  /**
+   * Encodes JSON to canonical XRPL binary for signing purposes, writing the signing prefix and the encoded bytes to
+   * {@code sink}.
+   *
+   * @param json A {@link String} containing JSON to be encoded.
+   * @param sink The {@link ByteSink} to write the encoded bytes to.
+   *
+   * @throws JsonProcessingException if JSON is not valid.
+   */
+  public void encodeForSigning(String json, ByteSink sink) throws JsonProcessingException {
+    Objects.requireNonNull(sink);
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
+    sink.put(TRX_SIGNATURE_PREFIX_BYTES);
+    encode(removeNonSigningFields(node), sink);
+  }
+
+  /**
+   * Produces the bytes to sign for a transaction that is already encoded as canonical XRPL binary, such as a received
+   * {@code tx_blob}. The signing fields are copied from {@code transaction} as they are, and non-signing fields like
+   * {@code TxnSignature} and {@code Signers} are skipped, so no values are decoded or re-encoded.
+   *
+   * @param transaction An {@link UnsignedByteArray} containing a binary transaction.
+   *
+   * @return An {@link UnsignedByteArray} containing the signing prefix followed by the signing fields.
+   *
+   * @throws IllegalArgumentException if the fields of {@code transaction} are not in canonical order.
+   */
+  public UnsignedByteArray encodeForSigning(final UnsignedByteArray transaction) {
+    Objects.requireNonNull(transaction);
+    GrowableByteSink sink = new GrowableByteSink();
+    encodeForSigning(transaction.toByteArray(), sink);
+    return sink.toUnsignedByteArray();
+  }
+
+  /**
+   * Produces the bytes to sign for a transaction that is already encoded as canonical XRPL binary, writing the signing
+   * prefix and the signing fields of {@code transaction} to {@code sink}.
+   *
+   * @param transaction A byte array containing a binary transaction. The array is not copied.
+   * @param sink        The {@link ByteSink} to write the bytes to sign to.
+   *
+   * @throws IllegalArgumentException if the fields of {@code transaction} are not in canonical order, in which case
+   *                                  nothing is written to {@code sink}.
+   * @see #encodeForSigning(UnsignedByteArray)
+   */
+  public void encodeForSigning(final byte[] transaction, final ByteSink sink) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(sink);
+    STObjectView view = STObjectView.of(transaction);
+    sink.put(TRX_SIGNATURE_PREFIX_BYTES);
+    view.writeFields(FieldInstance::isSigningField, sink);
+  }
+
   /**
    * Encodes JSON to canonical XRPL binary as a hex string for signing purposes.
    *
@@ -99,6 +177,29 @@ public class XrplBinaryCodec {
     return TRX_MULTI_SIGNATURE_PREFIX + encode(removeNonSigningFields(node)) + suffix;
   }
 
+  /**
+   * Encodes JSON to canonical XRPL binary once for all the signers of a multi-signed transaction.
+   *
+   * @param json A {@link String} containing JSON to be encoded.
+   *
+   * @return A {@link MultiSigningPayload} that produces the same bytes as
+   *   {@link #encodeForMultiSigning(String, String)} for each signer.
+   *
+   * @throws JsonProcessingException if JSON is not valid.
+   */
+  public MultiSigningPayload encodeForMultiSigning(String json) throws JsonProcessingException {
+    JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
+    if (!node.isObject()) {
+      throw new IllegalArgumentException("JSON object required for signing");
+    }
+    // any existing signing keys should not also be signed
+    ((ObjectNode) node).set("SigningPubKey", new TextNode(""));
+    GrowableByteSink sink = new GrowableByteSink();
+    sink.put(TRX_MULTI_SIGNATURE_PREFIX_BYTES);
+    encode(removeNonSigningFields(node), sink);
+    return new MultiSigningPayload(sink.toUnsignedByteArray());
+  }
+
   /**
    * Encodes JSON to canonical XRPL binary as a hex string for signing payment channel claims. The only JSON fields
    * which will be encoded are "Channel" and "Amount".
@@ -166,7 +267,7 @@ public class XrplBinaryCodec {
     return new ObjectNode(objectMapper.getNodeFactory(), signingFields);
   }
 
-  private Boolean isSigningField(String fieldName) {
+  private boolean isSigningField(String fieldName) {
     return definitionsService.getFieldInstance(fieldName).map(FieldInstance::isSigningField).orElse(false);
   }
 
@@ -2,11 +2,11 @@ package org.xrpl.xrpl4j.codec.binary.definitions;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -20,10 +20,27 @@ public class DefinitionsService {
   private static final DefinitionsService INSTANCE = new DefinitionsService(DefinitionsProvider.getInstance(),
     BinaryCodecObjectMapperFactory.getObjectMapper());
 
+  /**
+   * The largest type or field code that can be encoded in a binary field header.
+   */
+  private static final int MAX_CODE = 255;
+
   private final Definitions definitions;
 
   private final Map<String, FieldInfo> fieldInfoMap;
 
+  /**
+   * Canonical {@link FieldInstance}s keyed by field name. Values are pre-wrapped so that lookups return a shared
+   * {@link Optional} instead of allocating one per call.
+   */
+  private final Map<String, Optional<FieldInstance>> fieldInstanceMap;
+
+  /**
+   * Canonical {@link FieldInstance}s indexed by type code and then field code. Only fields whose codes both fit in a
+   * single byte can appear in a binary field header, so only those are present.
+   */
+  private final FieldInstance[][] fieldInstanceTable;
+
   private final Map<FieldHeader, String> fieldIdNameMap;
 
   private final Map<String, Integer> typeOrdinalMap;
@@ -46,6 +63,8 @@ public class DefinitionsService {
 
     Map<String, FieldInfo> tempFieldInfoMap = new HashMap<>();
     Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
+    Map<String, Optional<FieldInstance>> tempFieldInstanceMap = new HashMap<>();
+    this.fieldInstanceTable = new FieldInstance[MAX_CODE + 1][];
     this.definitions.fields().forEach(field -> {
       try {
         String fieldName = field.get(0).textValue();
@@ -53,14 +72,26 @@ public class DefinitionsService {
         FieldHeader fieldHeader = FieldHeader.builder().fieldCode(metadata.nth())
           .typeCode(typeOrdinalMap.get(metadata.type()))
           .build();
+        FieldInstance fieldInstance = FieldInstance.builder()
+          .header(fieldHeader)
+          .isSerialized(metadata.isSerialized())
+          .isSigningField(metadata.isSigningField())
+          .isVariableLengthEncoded(metadata.isVariableLengthEncoded())
+          .nth(metadata.nth())
+          .name(fieldName)
+          .type(metadata.type())
+          .build();
         tempFieldInfoMap.put(fieldName, metadata);
         tempFieldIdNameMap.put(fieldHeader, fieldName);
+        tempFieldInstanceMap.put(fieldName, Optional.of(fieldInstance));
+        indexFieldInstance(fieldInstance);
       } catch (JsonProcessingException e) {
         throw new IllegalArgumentException("invalid json", e);
       }
     });
     this.fieldInfoMap = ImmutableMap.copyOf(tempFieldInfoMap);
     this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
+    this.fieldInstanceMap = ImmutableMap.copyOf(tempFieldInstanceMap);
     this.transactionTypeReverseLookupMap = inverse(definitions.transactionTypes());
     this.transactionResultReverseLookupNap = inverse(definitions.transactionResults());
     this.ledgerEntryTypeReverseLookupMap = inverse(definitions.ledgerEntryTypes());
@@ -116,33 +147,53 @@ public class DefinitionsService {
    * @return An {@link Optional} of type {@link FieldHeader}.
    */
   public Optional<FieldHeader> getFieldHeader(String fieldName) {
-    return getFieldInfo(fieldName).map(info -> {
-      Integer typeCode = getTypeOrdinal(info.type());
-      Preconditions.checkNotNull(typeCode, typeCode + " is not a valid type");
-      return FieldHeader.builder().typeCode(typeCode).fieldCode(info.nth()).build();
-    });
+    return getFieldInstance(fieldName).map(FieldInstance::header);
   }
 
   /**
-   * Obtain an optionally-present field instance with the specified field header name.
+   * Obtain an optionally-present field instance with the specified field header name. The same {@link FieldInstance}
+   * is returned for every call with the same name.
    *
    * @param fieldName A {@link String} for the field instance to obtain.
    *
    * @return An {@link Optional} of type {@link FieldInstance}.
    */
   public Optional<FieldInstance> getFieldInstance(String fieldName) {
-    return DefinitionsService.getInstance().getFieldInfo(fieldName)
-      .flatMap(info -> getFieldHeader(fieldName)
-        .map(header ->
-          FieldInstance.builder()
-            .header(header)
-            .isSerialized(info.isSerialized())
-            .isSigningField(info.isSigningField())
-            .isVariableLengthEncoded(info.isVariableLengthEncoded())
-            .nth(info.nth())
-            .name(fieldName)
-            .type(info.type())
-            .build()));
+    if (fieldName == null) {
+      return Optional.empty();
+    }
+    return fieldInstanceMap.getOrDefault(fieldName, Optional.empty());
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified type and field codes, as read from a binary field
+   * header.
+   *
+   * @param typeCode  The type code of the field.
+   * @param fieldCode The field code of the field.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(int typeCode, int fieldCode) {
+    if (typeCode < 0 || typeCode > MAX_CODE || fieldCode < 0 || fieldCode > MAX_CODE) {
+      return Optional.empty();
+    }
+    FieldInstance[] fieldsOfType = fieldInstanceTable[typeCode];
+    if (fieldsOfType == null || fieldCode >= fieldsOfType.length) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(fieldsOfType[fieldCode]);
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified field header.
+   *
+   * @param fieldHeader A {@link FieldHeader}.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(FieldHeader fieldHeader) {
+    return getFieldInstance(fieldHeader.typeCode(), fieldHeader.fieldCode());
   }
 
   /**
@@ -193,6 +244,28 @@ public class DefinitionsService {
     }
   }
 
+  /**
+   * Add a {@link FieldInstance} to {@link #fieldInstanceTable}, if its header can be encoded in binary.
+   *
+   * @param fieldInstance The {@link FieldInstance} to add.
+   */
+  private void indexFieldInstance(FieldInstance fieldInstance) {
+    int typeCode = fieldInstance.header().typeCode();
+    int fieldCode = fieldInstance.header().fieldCode();
+    if (typeCode < 1 || typeCode > MAX_CODE || fieldCode < 1 || fieldCode > MAX_CODE) {
+      return;
+    }
+    FieldInstance[] fieldsOfType = fieldInstanceTable[typeCode];
+    if (fieldsOfType == null) {
+      fieldsOfType = new FieldInstance[fieldCode + 1];
+      fieldInstanceTable[typeCode] = fieldsOfType;
+    } else if (fieldsOfType.length <= fieldCode) {
+      fieldsOfType = Arrays.copyOf(fieldsOfType, fieldCode + 1);
+      fieldInstanceTable[typeCode] = fieldsOfType;
+    }
+    fieldsOfType[fieldCode] = fieldInstance;
+  }
+
   private Map<Integer, String> inverse(Map<String, Integer> map) {
     return map.entrySet()
       .stream()
@@ -2,6 +2,7 @@ package org.xrpl.xrpl4j.codec.binary.definitions;
 
 import org.immutables.value.Value.Immutable;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.binary.serdes.ByteSink;
 
 /**
  * Holder of {@link FieldHeader} and {@link FieldInfo} data. Provided by {@link DefinitionsService} for looking up
@@ -73,6 +74,17 @@ public interface FieldInstance extends Comparable<FieldInstance> {
    */
   FieldHeader header();
 
+  /**
+   * Write the binary encoding of {@link #header()} to a {@link ByteSink}, without allocating.
+   *
+   * @param sink The {@link ByteSink} to write the encoded field header to.
+   *
+   * @see FieldHeader#write(ByteSink)
+   */
+  default void writeHeader(ByteSink sink) {
+    header().write(sink);
+  }
+
   @Override
   default int compareTo(FieldInstance other) {
     return Integer.compare(this.ordinal(), other.ordinal());
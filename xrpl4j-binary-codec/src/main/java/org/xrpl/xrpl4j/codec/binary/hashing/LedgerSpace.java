@@ -0,0 +1,35 @@
+package org.xrpl.xrpl4j.codec.binary.hashing;
+
+/**
+ * The namespaces of the XRP Ledger's state tree. The index of a ledger object is the SHA-512Half of the two-byte code
+ * of its namespace followed by its key fields, so that objects of different types never share an index.
+ *
+ * @see "https://xrpl.org/ledger-object-ids.html"
+ */
+enum LedgerSpace {
+
+  ACCOUNT('a'),
+  TRUST_LINE('r'),
+  OFFER('o'),
+  ESCROW('u'),
+  PAYMENT_CHANNEL('x'),
+  CHECK('C'),
+  SIGNER_LIST('S'),
+  DEPOSIT_PREAUTH('p');
+
+  private final byte[] code;
+
+  LedgerSpace(final char code) {
+    this.code = new byte[] {0, (byte) code};
+  }
+
+  /**
+   * The two bytes that prefix the key fields of objects in this namespace.
+   *
+   * @return A byte array of length 2. Callers must not modify it.
+   */
+  byte[] code() {
+    return code;
+  }
+
+}
@@ -0,0 +1,336 @@
+package org.xrpl.xrpl4j.codec.binary.hashing;
+
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.Hash256;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.UnsignedBytes;
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
+import org.xrpl.xrpl4j.codec.binary.types.CurrencyType;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Computes the hashes that identify transactions and ledger objects on the XRP Ledger, so that a transaction can be
+ * tracked before it is submitted, and a ledger object can be looked up with {@code ledger_entry} without first listing
+ * {@code account_objects}.
+ *
+ * <p>Every hash is the SHA-512Half of a prefix followed by binary fields, computed without any JSON encoding.</p>
+ *
+ * @see "https://xrpl.org/basic-data-types.html#hashes"
+ * @see "https://xrpl.org/ledger-object-ids.html"
+ */
+public final class XrplHashes {
+
+  /**
+   * The prefix of a signed transaction when computing its transaction ID, {@code "TXN\0"}.
+   */
+  private static final byte[] TRANSACTION_ID_PREFIX = {0x54, 0x58, 0x4E, 0x00};
+
+  /**
+   * The length of an AccountID, in bytes.
+   */
+  private static final int ACCOUNT_ID_LENGTH = 20;
+
+  /**
+   * The length of a binary currency code, in bytes.
+   */
+  private static final int CURRENCY_LENGTH = 20;
+
+  /**
+   * The ID of the only signer list an account can have.
+   */
+  private static final int DEFAULT_SIGNER_LIST_ID = 0;
+
+  private XrplHashes() {
+  }
+
+  /**
+   * Compute the ID of a signed transaction, which is the same as the {@code hash} that {@code submit} returns.
+   *
+   * @param signedTransaction An {@link UnsignedByteArray} containing a signed transaction encoded as canonical XRPL
+   *                          binary.
+   *
+   * @return The {@link Hash256} that identifies the transaction.
+   */
+  public static Hash256 transactionId(final UnsignedByteArray signedTransaction) {
+    Objects.requireNonNull(signedTransaction);
+    return transactionId(signedTransaction.toByteArray());
+  }
+
+  /**
+   * Compute the ID of a signed transaction, which is the same as the {@code hash} that {@code submit} returns.
+   *
+   * @param signedTransaction A byte array containing a signed transaction encoded as canonical XRPL binary.
+   *
+   * @return The {@link Hash256} that identifies the transaction.
+   */
+  public static Hash256 transactionId(final byte[] signedTransaction) {
+    Objects.requireNonNull(signedTransaction);
+    return sha512Half(Hashing.sha512().newHasher()
+      .putBytes(TRANSACTION_ID_PREFIX)
+      .putBytes(signedTransaction));
+  }
+
+  /**
+   * Compute the index of the {@code AccountRoot} ledger object of an account.
+   *
+   * @param account The {@link Address} of the account.
+   *
+   * @return The {@link Hash256} index of the {@code AccountRoot}.
+   */
+  public static Hash256 accountRootIndex(final Address account) {
+    return accountRootIndex(accountId(account));
+  }
+
+  /**
+   * Compute the index of the {@code AccountRoot} ledger object of an account.
+   *
+   * @param accountId The 20-byte AccountID of the account.
+   *
+   * @return The {@link Hash256} index of the {@code AccountRoot}.
+   */
+  public static Hash256 accountRootIndex(final byte[] accountId) {
+    return sha512Half(ledgerSpace(LedgerSpace.ACCOUNT)
+      .putBytes(checkAccountId(accountId)));
+  }
+
+  /**
+   * Compute the index of the {@code RippleState} ledger object of the trust line between two accounts. The order of
+   * {@code account} and {@code counterparty} does not matter.
+   *
+   * @param account      The {@link Address} of one side of the trust line.
+   * @param counterparty The {@link Address} of the other side of the trust line.
+   * @param currency     The currency of the trust line, either a three character ISO code or 40 hex characters.
+   *
+   * @return The {@link Hash256} index of the {@code RippleState}.
+   */
+  public static Hash256 rippleStateIndex(final Address account, final Address counterparty, final String currency) {
+    Objects.requireNonNull(currency);
+    return rippleStateIndex(
+      accountId(account), accountId(counterparty), new CurrencyType().fromCurrencyCode(currency).toBytes()
+    );
+  }
+
+  /**
+   * Compute the index of the {@code RippleState} ledger object of the trust line between two accounts. The order of
+   * {@code accountId} and {@code counterpartyId} does not matter.
+   *
+   * @param accountId      The 20-byte AccountID of one side of the trust line.
+   * @param counterpartyId The 20-byte AccountID of the other side of the trust line.
+   * @param currency       The 20-byte binary currency code of the trust line.
+   *
+   * @return The {@link Hash256} index of the {@code RippleState}.
+   */
+  public static Hash256 rippleStateIndex(final byte[] accountId, final byte[] counterpartyId, final byte[] currency) {
+    checkAccountId(accountId);
+    checkAccountId(counterpartyId);
+    Objects.requireNonNull(currency);
+    Preconditions.checkArgument(currency.length == CURRENCY_LENGTH, "A currency code must be 20 bytes long.");
+    if (Arrays.equals(accountId, counterpartyId)) {
+      throw new IllegalArgumentException("A trust line must be between two different accounts.");
+    }
+
+    boolean accountIsLow = UnsignedBytes.lexicographicalComparator().compare(accountId, counterpartyId) < 0;
+    return sha512Half(ledgerSpace(LedgerSpace.TRUST_LINE)
+      .putBytes(accountIsLow ? accountId : counterpartyId)
+      .putBytes(accountIsLow ? counterpartyId : accountId)
+      .putBytes(currency));
+  }
+
+  /**
+   * Compute the index of the {@code Offer} ledger object created by an {@code OfferCreate} transaction.
+   *
+   * @param account  The {@link Address} of the account that placed the offer.
+   * @param sequence The {@code Sequence} of the {@code OfferCreate} transaction.
+   *
+   * @return The {@link Hash256} index of the {@code Offer}.
+   */
+  public static Hash256 offerIndex(final Address account, final UnsignedInteger sequence) {
+    return offerIndex(accountId(account), sequence);
+  }
+
+  /**
+   * Compute the index of the {@code Offer} ledger object created by an {@code OfferCreate} transaction.
+   *
+   * @param accountId The 20-byte AccountID of the account that placed the offer.
+   * @param sequence  The {@code Sequence} of the {@code OfferCreate} transaction.
+   *
+   * @return The {@link Hash256} index of the {@code Offer}.
+   */
+  public static Hash256 offerIndex(final byte[] accountId, final UnsignedInteger sequence) {
+    return sequencedIndex(LedgerSpace.OFFER, accountId, sequence);
+  }
+
+  /**
+   * Compute the index of the {@code Escrow} ledger object created by an {@code EscrowCreate} transaction.
+   *
+   * @param account  The {@link Address} of the account that created the escrow.
+   * @param sequence The {@code Sequence} of the {@code EscrowCreate} transaction.
+   *
+   * @return The {@link Hash256} index of the {@code Escrow}.
+   */
+  public static Hash256 escrowIndex(final Address account, final UnsignedInteger sequence) {
+    return escrowIndex(accountId(account), sequence);
+  }
+
+  /**
+   * Compute the index of the {@code Escrow} ledger object created by an {@code EscrowCreate} transaction.
+   *
+   * @param accountId The 20-byte AccountID of the account that created the escrow.
+   * @param sequence  The {@code Sequence} of the {@code EscrowCreate} transaction.
+   *
+   * @return The {@link Hash256} index of the {@code Escrow}.
+   */
+  public static Hash256 escrowIndex(final byte[] accountId, final UnsignedInteger sequence) {
+    return sequencedIndex(LedgerSpace.ESCROW, accountId, sequence);
+  }
+
+  /**
+   * Compute the index of the {@code PayChannel} ledger object created by a {@code PaymentChannelCreate} transaction,
+   * which is also the ID of the payment channel.
+   *
+   * @param account     The {@link Address} of the account that created the channel.
+   * @param destination The {@link Address} of the destination of the channel.
+   * @param sequence    The {@code Sequence} of the {@code PaymentChannelCreate} transaction.
+   *
+   * @return The {@link Hash256} index of the {@code PayChannel}.
+   */
+  public static Hash256 payChannelIndex(
+    final Address account, final Address destination, final UnsignedInteger sequence
+  ) {
+    return payChannelIndex(accountId(account), accountId(destination), sequence);
+  }
+
+  /**
+   * Compute the index of the {@code PayChannel} ledger object created by a {@code PaymentChannelCreate} transaction,
+   * which is also the ID of the payment channel.
+   *
+   * @param accountId     The 20-byte AccountID of the account that created the channel.
+   * @param destinationId The 20-byte AccountID of the destination of the channel.
+   * @param sequence      The {@code Sequence} of the {@code PaymentChannelCreate} transaction.
+   *
+   * @return The {@link Hash256} index of the {@code PayChannel}.
+   */
+  public static Hash256 payChannelIndex(
+    final byte[] accountId, final byte[] destinationId, final UnsignedInteger sequence
+  ) {
+    Objects.requireNonNull(sequence);
+    return sha512Half(ledgerSpace(LedgerSpace.PAYMENT_CHANNEL)
+      .putBytes(checkAccountId(accountId))
+      .putBytes(checkAccountId(destinationId))
+      .putBytes(Ints.toByteArray(sequence.intValue())));
+  }
+
+  /**
+   * Compute the index of the {@code Check} ledger object created by a {@code CheckCreate} transaction, which is also
+   * the ID of the check.
+   *
+   * @param account  The {@link Address} of the account that created the check.
+   * @param sequence The {@code Sequence} of the {@code CheckCreate} transaction.
+   *
+   * @return The {@link Hash256} index of the {@code Check}.
+   */
+  public static Hash256 checkIndex(final Address account, final UnsignedInteger sequence) {
+    return checkIndex(accountId(account), sequence);
+  }
+
+  /**
+   * Compute the index of the {@code Check} ledger object created by a {@code CheckCreate} transaction, which is also
+   * the ID of the check.
+   *
+   * @param accountId The 20-byte AccountID of the account that created the check.
+   * @param sequence  The {@code Sequence} of the {@code CheckCreate} transaction.
+   *
+   * @return The {@link Hash256} index of the {@code Check}.
+   */
+  public static Hash256 checkIndex(final byte[] accountId, final UnsignedInteger sequence) {
+    return sequencedIndex(LedgerSpace.CHECK, accountId, sequence);
+  }
+
+  /**
+   * Compute the index of the {@code SignerList} ledger object of an account.
+   *
+   * @param account The {@link Address} of the account that owns the signer list.
+   *
+   * @return The {@link Hash256} index of the {@code SignerList}.
+   */
+  public static Hash256 signerListIndex(final Address account) {
+    return signerListIndex(accountId(account));
+  }
+
+  /**
+   * Compute the index of the {@code SignerList} ledger object of an account.
+   *
+   * @param accountId The 20-byte AccountID of the account that owns the signer list.
+   *
+   * @return The {@link Hash256} index of the {@code SignerList}.
+   */
+  public static Hash256 signerListIndex(final byte[] accountId) {
+    return sha512Half(ledgerSpace(LedgerSpace.SIGNER_LIST)
+      .putBytes(checkAccountId(accountId))
+      .putBytes(Ints.toByteArray(DEFAULT_SIGNER_LIST_ID)));
+  }
+
+  /**
+   * Compute the index of the {@code DepositPreauth} ledger object that preauthorizes one account to send payments to
+   * another.
+   *
+   * @param account    The {@link Address} of the account that granted the preauthorization.
+   * @param authorized The {@link Address} of the preauthorized account.
+   *
+   * @return The {@link Hash256} index of the {@code DepositPreauth}.
+   */
+  public static Hash256 depositPreauthIndex(final Address account, final Address authorized) {
+    return depositPreauthIndex(accountId(account), accountId(authorized));
+  }
+
+  /**
+   * Compute the index of the {@code DepositPreauth} ledger object that preauthorizes one account to send payments to
+   * another.
+   *
+   * @param accountId    The 20-byte AccountID of the account that granted the preauthorization.
+   * @param authorizedId The 20-byte AccountID of the preauthorized account.
+   *
+   * @return The {@link Hash256} index of the {@code DepositPreauth}.
+   */
+  public static Hash256 depositPreauthIndex(final byte[] accountId, final byte[] authorizedId) {
+    return sha512Half(ledgerSpace(LedgerSpace.DEPOSIT_PREAUTH)
+      .putBytes(checkAccountId(accountId))
+      .putBytes(checkAccountId(authorizedId)));
+  }
+
+  private static Hash256 sequencedIndex(
+    final LedgerSpace ledgerSpace, final byte[] accountId, final UnsignedInteger sequence
+  ) {
+    Objects.requireNonNull(sequence);
+    return sha512Half(ledgerSpace(ledgerSpace)
+      .putBytes(checkAccountId(accountId))
+      .putBytes(Ints.toByteArray(sequence.intValue())));
+  }
+
+  private static Hasher ledgerSpace(final LedgerSpace ledgerSpace) {
+    return Hashing.sha512().newHasher().putBytes(ledgerSpace.code());
+  }
+
+  private static byte[] accountId(final Address account) {
+    Objects.requireNonNull(account);
+    return new AccountIdType().fromAddress(account).toBytes();
+  }
+
+  private static byte[] checkAccountId(final byte[] accountId) {
+    Objects.requireNonNull(accountId);
+    Preconditions.checkArgument(accountId.length == ACCOUNT_ID_LENGTH, "An AccountID must be 20 bytes long.");
+    return accountId;
+  }
+
+  private static Hash256 sha512Half(final Hasher hasher) {
+    return Hash256.ofBytes(Arrays.copyOf(hasher.hash().asBytes(), 32));
+  }
+
+}
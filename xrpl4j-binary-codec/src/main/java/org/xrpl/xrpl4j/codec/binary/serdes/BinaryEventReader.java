@@ -0,0 +1,422 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.base.Preconditions;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.STArrayType;
+import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A pull parser that reads a binary STObject, such as a transaction or its metadata, as a stream of {@link Event}s.
+ *
+ * <p>Unlike {@link BinaryParser}, which needs the whole object in memory and decodes every nested object and array
+ * as it goes, this reader holds only a small read buffer, the value of the current field and one entry per open
+ * object or array. That makes it possible to walk payloads that are too large to decode at once, like the
+ * {@code AffectedNodes} of the metadata of a large ledger. Values are only read from the stream if
+ * {@link #value()} or {@link #valueJson()} is called; otherwise they are skipped.</p>
+ *
+ * <p>The top-level object has no field header and ends at the end of the stream. A Payment with one memo is read as
+ * follows:</p>
+ * <pre>
+ * START_OBJECT
+ *   FIELD (TransactionType) VALUE
+ *   ...
+ *   FIELD (Memos) START_ARRAY
+ *     FIELD (Memo) START_OBJECT
+ *       FIELD (MemoData) VALUE
+ *     END_OBJECT
+ *   END_ARRAY
+ * END_OBJECT
+ * </pre>
+ */
+public class BinaryEventReader implements Closeable {
+
+  /**
+   * The events produced by a {@link BinaryEventReader}.
+   */
+  public enum Event {
+    /**
+     * The start of the top-level object, or of the value of an {@code STObject} field.
+     */
+    START_OBJECT,
+    /**
+     * A field header. The next event is the value of the field: {@link #START_OBJECT}, {@link #START_ARRAY} or
+     * {@link #VALUE}.
+     */
+    FIELD,
+    /**
+     * The value of a field that is neither an {@code STObject} nor an {@code STArray}.
+     */
+    VALUE,
+    /**
+     * The end of an object.
+     */
+    END_OBJECT,
+    /**
+     * The start of the value of an {@code STArray} field. Each element of the array is a {@link #FIELD} followed by
+     * an object.
+     */
+    START_ARRAY,
+    /**
+     * The end of an array.
+     */
+    END_ARRAY
+  }
+
+  private static final String OBJECT_END_MARKER = "ObjectEndMarker";
+  private static final int BUFFER_SIZE = 8192;
+
+  private final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private final InputStream inputStream;
+  private final StreamSource source = new StreamSource();
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+
+  // one entry per open object or array; the field at index 0 is the top-level object, which has no field
+  private boolean[] isArray = new boolean[8];
+  private FieldInstance[] containerFields = new FieldInstance[8];
+  private int depth;
+  private boolean started;
+
+  private Event event;
+  private FieldInstance field;
+  private int valueLength;
+  private byte[] value;
+
+  /**
+   * Construct a reader over an {@link InputStream}. The stream is buffered by this reader, and is closed by
+   * {@link #close()}.
+   *
+   * @param inputStream An {@link InputStream} containing a binary STObject.
+   */
+  public BinaryEventReader(final InputStream inputStream) {
+    this.inputStream = Objects.requireNonNull(inputStream);
+  }
+
+  /**
+   * Construct a reader over a byte array containing a binary STObject.
+   *
+   * @param bytes A byte array containing a binary STObject.
+   */
+  public BinaryEventReader(final byte[] bytes) {
+    this(new ByteArrayInputStream(Objects.requireNonNull(bytes)));
+  }
+
+  /**
+   * Whether there are more events to read.
+   *
+   * @return {@code true} until the {@link Event#END_OBJECT} of the top-level object has been read.
+   */
+  public boolean hasNext() {
+    return !started || depth > 0;
+  }
+
+  /**
+   * Read the next event.
+   *
+   * @return The next {@link Event}.
+   *
+   * @throws NoSuchElementException if the top-level object has already ended.
+   * @throws UncheckedIOException   if the stream cannot be read or ends in the middle of the object.
+   * @throws IllegalArgumentException if the stream contains an unknown field or type.
+   */
+  public Event next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("end of top-level object");
+    }
+    if (!started) {
+      started = true;
+      push(false, null);
+      return setEvent(Event.START_OBJECT);
+    }
+    if (event == Event.FIELD) {
+      return startValue();
+    }
+    if (event == Event.VALUE && value == null) {
+      skipBytes(valueLength);
+    }
+    value = null;
+    field = containerFields[depth - 1];
+
+    if (depth == 1 && atEnd()) {
+      depth--;
+      return setEvent(Event.END_OBJECT);
+    }
+    FieldInstance nextField = readField();
+    if (isArray[depth - 1] && nextField.name().equals(STArrayType.ARRAY_END_MARKER_NAME)) {
+      depth--;
+      return setEvent(Event.END_ARRAY);
+    }
+    if (!isArray[depth - 1] && nextField.name().equals(OBJECT_END_MARKER)) {
+      depth--;
+      return setEvent(Event.END_OBJECT);
+    }
+    field = nextField;
+    return setEvent(Event.FIELD);
+  }
+
+  /**
+   * The most recent event returned by {@link #next()}.
+   *
+   * @return The current {@link Event}, or {@code null} if {@link #next()} has not been called.
+   */
+  public Event currentEvent() {
+    return event;
+  }
+
+  /**
+   * The field of the current event. For {@link Event#FIELD}, {@link Event#VALUE}, {@link Event#START_OBJECT} and
+   * {@link Event#START_ARRAY} this is the field whose value is being read; for {@link Event#END_OBJECT} and
+   * {@link Event#END_ARRAY} it is the field whose value has just ended.
+   *
+   * @return The {@link FieldInstance}, or empty for the start and end of the top-level object.
+   */
+  public Optional<FieldInstance> field() {
+    return Optional.ofNullable(field);
+  }
+
+  /**
+   * The number of objects and arrays that are open, including the top-level object.
+   *
+   * @return The nesting depth of the reader.
+   */
+  public int depth() {
+    return depth;
+  }
+
+  /**
+   * Read the bytes of the current {@link Event#VALUE}, without the length prefix of variable length fields.
+   *
+   * @return An {@link UnsignedByteArray} containing the value.
+   *
+   * @throws IllegalStateException if the current event is not a {@link Event#VALUE}.
+   */
+  public UnsignedByteArray value() {
+    return UnsignedByteArray.of(readValue().clone());
+  }
+
+  /**
+   * Decode the current {@link Event#VALUE} to the same JSON that {@link org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec}
+   * produces for it.
+   *
+   * @return A {@link JsonNode} containing the value.
+   *
+   * @throws IllegalStateException if the current event is not a {@link Event#VALUE}.
+   */
+  public JsonNode valueJson() {
+    byte[] bytes = readValue();
+    SerializedType<?> type = SerializedType.getTypeByName(field.type());
+    JsonNode json;
+    if (field.isVariableLengthEncoded()) {
+      json = type.fromParser(new BinaryParser(bytes), bytes.length).toJson();
+    } else {
+      json = type.fromParser(new BinaryParser(bytes)).toJson();
+    }
+    return definitionsService.mapFieldRawValueToSpecialization(field.name(), json.asText())
+      .map(TextNode::new)
+      .map(JsonNode.class::cast)
+      .orElse(json);
+  }
+
+  /**
+   * Skip the rest of the current object or array without reading any of its values. After this call, the current
+   * event is the matching {@link Event#END_OBJECT} or {@link Event#END_ARRAY}. Does nothing for other events.
+   */
+  public void skipChildren() {
+    if (event != Event.START_OBJECT && event != Event.START_ARRAY) {
+      return;
+    }
+    int containerDepth = depth;
+    while (depth >= containerDepth) {
+      next();
+    }
+  }
+
+  /**
+   * Close the underlying {@link InputStream}.
+   *
+   * @throws IOException if the stream cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    inputStream.close();
+  }
+
+  private Event setEvent(final Event event) {
+    this.event = event;
+    return event;
+  }
+
+  private Event startValue() {
+    switch (field.type()) {
+      case "STObject":
+        push(false, field);
+        return setEvent(Event.START_OBJECT);
+      case "STArray":
+        push(true, field);
+        return setEvent(Event.START_ARRAY);
+      case "PathSet":
+        value = readPathSet();
+        valueLength = value.length;
+        return setEvent(Event.VALUE);
+      default:
+        valueLength = field.isVariableLengthEncoded() ?
+          BinaryParser.readVariableLengthLength(source) : BinaryParser.fixedValueLength(source, field);
+        return setEvent(Event.VALUE);
+    }
+  }
+
+  private void push(final boolean array, final FieldInstance containerField) {
+    if (depth == isArray.length) {
+      isArray = Arrays.copyOf(isArray, depth * 2);
+      containerFields = Arrays.copyOf(containerFields, depth * 2);
+    }
+    isArray[depth] = array;
+    containerFields[depth] = containerField;
+    depth++;
+  }
+
+  private byte[] readValue() {
+    Preconditions.checkState(event == Event.VALUE, "current event is %s, not VALUE", event);
+    if (value == null) {
+      value = new byte[valueLength];
+      readFully(value);
+    }
+    return value;
+  }
+
+  private byte[] readPathSet() {
+    source.capture = new ByteArrayOutputStream();
+    try {
+      BinaryParser.skipPathSet(source);
+      return source.capture.toByteArray();
+    } finally {
+      source.capture = null;
+    }
+  }
+
+  private FieldInstance readField() {
+    int ordinal = BinaryParser.readFieldOrdinal(source);
+    return definitionsService.getFieldInstance(ordinal >>> 16, ordinal & 0xFFFF)
+      .orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+  }
+
+  private boolean atEnd() {
+    return position == limit && !fill();
+  }
+
+  private int peekUInt8() {
+    if (atEnd()) {
+      throw unexpectedEnd();
+    }
+    return buffer[position] & 0xFF;
+  }
+
+  private int readUInt8() {
+    int value = peekUInt8();
+    position++;
+    return value;
+  }
+
+  private void readFully(final byte[] destination) {
+    int length = destination.length;
+    int copied = 0;
+    while (copied < length) {
+      if (atEnd()) {
+        throw unexpectedEnd();
+      }
+      int count = Math.min(length - copied, limit - position);
+      System.arraycopy(buffer, position, destination, copied, count);
+      position += count;
+      copied += count;
+    }
+  }
+
+  private void skipBytes(final int length) {
+    int remaining = length;
+    while (remaining > 0) {
+      if (atEnd()) {
+        throw unexpectedEnd();
+      }
+      int count = Math.min(remaining, limit - position);
+      position += count;
+      remaining -= count;
+    }
+  }
+
+  /**
+   * Refill the buffer from the stream.
+   *
+   * @return {@code false} if the stream has ended.
+   */
+  private boolean fill() {
+    try {
+      int count = inputStream.read(buffer);
+      while (count == 0) {
+        count = inputStream.read(buffer);
+      }
+      position = 0;
+      limit = Math.max(count, 0);
+      return count > 0;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private UncheckedIOException unexpectedEnd() {
+    return new UncheckedIOException(new EOFException("stream ended in the middle of an object"));
+  }
+
+  /**
+   * Lets {@link BinaryParser}'s header and value walking logic read from the stream buffer.
+   */
+  private final class StreamSource implements ByteSource {
+
+    // while set, every byte that is read or skipped is also copied here, so a path set is kept as it is walked
+    private ByteArrayOutputStream capture;
+
+    @Override
+    public int readUInt8() {
+      int value = BinaryEventReader.this.readUInt8();
+      if (capture != null) {
+        capture.write(value);
+      }
+      return value;
+    }
+
+    @Override
+    public int peekUInt8() {
+      return BinaryEventReader.this.peekUInt8();
+    }
+
+    @Override
+    public void skip(final int bytesToSkip) {
+      if (capture == null) {
+        skipBytes(bytesToSkip);
+        return;
+      }
+      byte[] skipped = new byte[bytesToSkip];
+      readFully(skipped);
+      capture.write(skipped, 0, bytesToSkip);
+    }
+
+  }
+
+}
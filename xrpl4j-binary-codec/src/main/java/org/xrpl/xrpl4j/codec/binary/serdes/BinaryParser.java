@@ -1,24 +1,28 @@
 package org.xrpl.xrpl4j.codec.binary.serdes;
 
-import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.AmountType;
 import org.xrpl.xrpl4j.codec.binary.types.FieldWithValue;
+import org.xrpl.xrpl4j.codec.binary.types.HopType;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
- * Parser for XRPL binary hex values.
+ * Parser for XRPL binary values.
+ *
+ * <p>The parser reads directly from a byte array using an int cursor. Hex input is decoded once, up front, by the
+ * hex-input constructor; all reads after that are byte-oriented.</p>
  */
-public class BinaryParser {
+public class BinaryParser implements ByteSource {
 
   // max length that can be represented in a single byte per XRPL serialization restrictions
   public static final int MAX_SINGLE_BYTE_LENGTH = 192;
@@ -30,65 +34,179 @@ public class BinaryParser {
   public static final int MAX_BYTE_VALUE = 256;
   // max value that can be represented in using two 8-bit bytes
   public static final int MAX_DOUBLE_BYTE_VALUE = 65536;
-  // 1 byte encodes to 2 characters in hex
-  private static final int BYTE_HEX_LENGTH = 2;
-  private final String hex;
 
-  private int cursor = 0;
+  private static final int PATH_SEPARATOR_BYTE = 0xFF;
+  private static final int PATHSET_END_BYTE = 0x00;
+  private static final int HOP_FIELD_LENGTH = 20;
 
-  public BinaryParser(String hex) {
-    this.hex = hex;
+  private final byte[] bytes;
+  private final int start;
+  private final int end;
+
+  private int cursor;
+
+  /**
+   * Construct a parser over hex-encoded binary data.
+   *
+   * @param hex A {@link String} containing hex-encoded binary data.
+   */
+  public BinaryParser(final String hex) {
+    this(UnsignedByteArray.fromHex(Objects.requireNonNull(hex)).toByteArray());
+  }
+
+  /**
+   * Construct a parser over the bytes of an {@link UnsignedByteArray}.
+   *
+   * @param bytes An {@link UnsignedByteArray} containing binary data.
+   */
+  public BinaryParser(final UnsignedByteArray bytes) {
+    this(Objects.requireNonNull(bytes).toByteArray());
+  }
+
+  /**
+   * Construct a parser over binary data. The array is not copied, so it must not be modified while this parser is in
+   * use.
+   *
+   * @param bytes A byte array containing binary data.
+   */
+  public BinaryParser(final byte[] bytes) {
+    this(bytes, 0, Objects.requireNonNull(bytes).length);
+  }
+
+  /**
+   * Construct a parser over a range of a byte array. The array is not copied, so it must not be modified while this
+   * parser is in use.
+   *
+   * @param bytes  A byte array containing binary data.
+   * @param offset The index of the first byte to parse.
+   * @param length The number of bytes to parse.
+   */
+  public BinaryParser(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    this.bytes = bytes;
+    this.start = offset;
+    this.end = offset + length;
+    this.cursor = offset;
   }
 
+  /**
+   * Construct a parser over the remaining bytes of a {@link ByteBuffer}. Array-backed buffers are parsed in place;
+   * other buffers are copied. The position of {@code buffer} is not modified.
+   *
+   * @param buffer A {@link ByteBuffer} containing binary data.
+   */
+  public BinaryParser(final ByteBuffer buffer) {
+    this(toArray(Objects.requireNonNull(buffer)), offsetOf(buffer), buffer.remaining());
+  }
+
+  private static byte[] toArray(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    byte[] copy = new byte[buffer.remaining()];
+    buffer.duplicate().get(copy);
+    return copy;
+  }
+
+  private static int offsetOf(ByteBuffer buffer) {
+    return buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : 0;
+  }
+
+  /**
+   * Look at the next byte without advancing the cursor.
+   *
+   * @return The next {@link UnsignedByte}.
+   */
   public UnsignedByte peek() {
-    return UnsignedByte.of(hex.substring(cursor, cursor + BYTE_HEX_LENGTH));
+    return UnsignedByte.of(bytes[checkReadable(1)]);
   }
 
+  /**
+   * Look at the next byte as an unsigned 8-bit integer without advancing the cursor.
+   *
+   * @return The value, in the range 0 to 255.
+   */
+  @Override
+  public int peekUInt8() {
+    return bytes[checkReadable(1)] & 0xFF;
+  }
+
+  @Override
   public void skip(int bytesToSkip) {
-    cursor += bytesToSkip * BYTE_HEX_LENGTH;
+    checkReadable(bytesToSkip);
+    cursor += bytesToSkip;
   }
 
   /**
-   * Read from this parser.
+   * Read from this parser. Reading zero bytes is allowed even when there are no bytes left, so that an empty
+   * variable length value can be the last value of its input.
    *
    * @param bytesToRead An int representing the number of bytes to read.
    *
    * @return An {@link UnsignedByteArray}.
    */
   public UnsignedByteArray read(int bytesToRead) {
-    if (cursor >= hex.length()) {
-      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
-    }
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < bytesToRead; i++) {
-      result.add(peek());
-      skip(1);
-    }
-    return new UnsignedByteArray(result);
+    int from = checkReadable(bytesToRead);
+    cursor += bytesToRead;
+    return UnsignedByteArray.of(Arrays.copyOfRange(bytes, from, cursor));
   }
 
-  public UnsignedLong readUInt8() {
-    return readUInt(1);
+  /**
+   * Read an unsigned 8-bit integer.
+   *
+   * @return The value, in the range 0 to 255.
+   */
+  @Override
+  public int readUInt8() {
+    checkReadable(1);
+    return bytes[cursor++] & 0xFF;
   }
 
-  public UnsignedLong readUInt16() {
-    return readUInt(2);
+  /**
+   * Read a big-endian unsigned 16-bit integer.
+   *
+   * @return The value, in the range 0 to 65535.
+   */
+  public int readUInt16() {
+    return (int) readUInt(2);
   }
 
-  public UnsignedLong readUInt32() {
+  /**
+   * Read a big-endian unsigned 32-bit integer.
+   *
+   * @return The value, in the range 0 to 2^32 - 1.
+   */
+  public long readUInt32() {
     return readUInt(4);
   }
 
-  public UnsignedLong readUInt64() {
+  /**
+   * Read a big-endian unsigned 64-bit integer. Values of 2^63 or more are returned as negative longs; use
+   * {@link com.google.common.primitives.UnsignedLong#fromLongBits(long)} to interpret them as unsigned.
+   *
+   * @return The raw 64 bits of the value.
+   */
+  public long readUInt64() {
     return readUInt(8);
   }
 
   public int size() {
-    return hex.length() / BYTE_HEX_LENGTH;
+    return end - start;
+  }
+
+  /**
+   * The index of the next byte to be read in the byte array that this parser reads from, so that callers can
+   * remember where a value starts or ends without copying it.
+   *
+   * @return The position of the cursor in the underlying byte array.
+   */
+  public int position() {
+    return cursor;
   }
 
   public boolean hasMore() {
-    return cursor < hex.length();
+    return cursor < end;
   }
 
   /**
@@ -97,15 +215,22 @@ public class BinaryParser {
    * @return The length of the variable length encoded bytes.
    */
   public int readVariableLengthLength() {
-    int firstByte = this.readUInt8().intValue();
+    return readVariableLengthLength(this);
+  }
+
+  /**
+   * Reads the length prefix of a variable length encoded value from {@code source}.
+   */
+  static int readVariableLengthLength(final ByteSource source) {
+    int firstByte = source.readUInt8();
     if (firstByte <= MAX_SINGLE_BYTE_LENGTH) {
       return firstByte;
     } else if (firstByte <= MAX_SECOND_BYTE_VALUE) {
-      int b2 = this.readUInt8().intValue();
-      return MAX_SECOND_BYTE_VALUE - 1 + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_BYTE_VALUE + b2;
+      int b2 = source.readUInt8();
+      return MAX_SINGLE_BYTE_LENGTH + 1 + (firstByte - MAX_SINGLE_BYTE_LENGTH - 1) * MAX_BYTE_VALUE + b2;
     } else if (firstByte <= 254) {
-      int b2 = this.readUInt8().intValue();
-      int b3 = this.readUInt8().intValue();
+      int b2 = source.readUInt8();
+      int b3 = source.readUInt8();
       return MAX_DOUBLE_BYTE_LENGTH + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_DOUBLE_BYTE_VALUE +
         b2 * MAX_BYTE_VALUE +
         b3;
@@ -119,25 +244,8 @@ public class BinaryParser {
    * @return Field ordinal.
    */
   public FieldHeader readFieldHeader() {
-    int type = this.readUInt8().intValue();
-    int nth = type & 15;
-    type >>= 4;
-
-    if (type == 0) {
-      type = this.readUInt8().intValue();
-      if (type == 0 || type < 16) {
-        throw new Error("Cannot read FieldOrdinal, type_code out of range");
-      }
-    }
-
-    if (nth == 0) {
-      nth = this.readUInt8().intValue();
-      if (nth == 0 || nth < 16) {
-        throw new Error("Cannot read FieldOrdinal, field_code out of range");
-      }
-    }
-
-    return FieldHeader.builder().fieldCode(nth).typeCode(type).build();
+    int ordinal = readFieldOrdinal(this);
+    return FieldHeader.builder().fieldCode(ordinal & 0xFFFF).typeCode(ordinal >>> 16).build();
   }
 
   /**
@@ -146,9 +254,8 @@ public class BinaryParser {
    * @return The field represented by the bytes at the head of the BinaryParser.
    */
   public Optional<FieldInstance> readField() {
-    FieldHeader header = readFieldHeader();
-    String fieldName = DefinitionsService.getInstance().getFieldName(header);
-    return DefinitionsService.getInstance().getFieldInstance(fieldName);
+    int ordinal = readFieldOrdinal(this);
+    return DefinitionsService.getInstance().getFieldInstance(ordinal >>> 16, ordinal & 0xFFFF);
   }
 
   /**
@@ -219,8 +326,140 @@ public class BinaryParser {
           .build());
   }
 
-  private UnsignedLong readUInt(int bytes) {
-    return ByteUtils.toUnsignedLong(read(bytes));
+  /**
+   * Move past the value of a field without decoding it. The parser must be positioned just after the field's header.
+   *
+   * @param field A {@link FieldInstance} whose type is neither {@code STObject} nor {@code STArray}, which have no
+   *              length of their own and must be skipped field by field.
+   *
+   * @throws IllegalArgumentException if {@code field} is an {@code STObject}, an {@code STArray} or of an unknown type.
+   */
+  public void skipFieldValue(final FieldInstance field) {
+    Objects.requireNonNull(field);
+    skipFieldValue(this, field);
+  }
+
+  /**
+   * Move {@code source} past the value of {@code field}, which must be neither an {@code STObject} nor an
+   * {@code STArray}.
+   */
+  static void skipFieldValue(final ByteSource source, final FieldInstance field) {
+    if (field.isVariableLengthEncoded()) {
+      source.skip(readVariableLengthLength(source));
+    } else if (field.type().equals("PathSet")) {
+      skipPathSet(source);
+    } else {
+      source.skip(fixedValueLength(source, field));
+    }
+  }
+
+  /**
+   * Reads a 1 to 3 byte field header and packs its type and field codes into a single int, in the same form as
+   * {@link FieldInstance#ordinal()}, so that no {@link FieldHeader} has to be built.
+   *
+   * @return The type code in the high 16 bits and the field code in the low 16 bits.
+   */
+  static int readFieldOrdinal(final ByteSource source) {
+    int type = source.readUInt8();
+    int nth = type & 15;
+    type >>= 4;
+
+    if (type == 0) {
+      type = source.readUInt8();
+      if (type == 0 || type < 16) {
+        throw new Error("Cannot read FieldOrdinal, type_code out of range");
+      }
+    }
+
+    if (nth == 0) {
+      nth = source.readUInt8();
+      if (nth == 0 || nth < 16) {
+        throw new Error("Cannot read FieldOrdinal, field_code out of range");
+      }
+    }
+
+    return (type << 16) | nth;
+  }
+
+  /**
+   * The length of the value of a field that is not variable length encoded. {@code Amount} values are peeked at to
+   * tell native amounts from issued currency amounts.
+   *
+   * @throws IllegalArgumentException if values of the field's type have no fixed length.
+   */
+  static int fixedValueLength(final ByteSource source, final FieldInstance field) {
+    switch (field.type()) {
+      case "UInt8":
+        return 1;
+      case "UInt16":
+        return 2;
+      case "UInt32":
+        return 4;
+      case "UInt64":
+        return 8;
+      case "Hash128":
+        return 16;
+      case "Hash160":
+      case "Currency":
+        return 20;
+      case "Hash256":
+        return 32;
+      case "Amount":
+        return (source.peekUInt8() & 0x80) != 0 ?
+          AmountType.CURRENCY_AMOUNT_BYTE_LENGTH : AmountType.NATIVE_AMOUNT_BYTE_LENGTH;
+      default:
+        throw new IllegalArgumentException("unsupported type " + field.type());
+    }
+  }
+
+  /**
+   * Move {@code source} past a path set, including its end byte.
+   */
+  static void skipPathSet(final ByteSource source) {
+    while (true) {
+      int type = source.readUInt8();
+      if (type == PATHSET_END_BYTE) {
+        return;
+      }
+      if (type == PATH_SEPARATOR_BYTE) {
+        continue;
+      }
+      int hopLength = 0;
+      if ((type & HopType.TYPE_ACCOUNT) > 0) {
+        hopLength += HOP_FIELD_LENGTH;
+      }
+      if ((type & HopType.TYPE_CURRENCY) > 0) {
+        hopLength += HOP_FIELD_LENGTH;
+      }
+      if ((type & HopType.TYPE_ISSUER) > 0) {
+        hopLength += HOP_FIELD_LENGTH;
+      }
+      source.skip(hopLength);
+    }
+  }
+
+  private long readUInt(int byteCount) {
+    int from = checkReadable(byteCount);
+    long value = 0;
+    for (int i = from; i < from + byteCount; i++) {
+      value = (value << 8) | (bytes[i] & 0xFF);
+    }
+    cursor += byteCount;
+    return value;
+  }
+
+  /**
+   * Checks that {@code byteCount} bytes can be read from the current cursor position.
+   *
+   * @param byteCount The number of bytes about to be read.
+   *
+   * @return The current cursor position.
+   */
+  private int checkReadable(int byteCount) {
+    if (byteCount < 0 || byteCount > end - cursor) {
+      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
+    }
+    return cursor;
   }
 
 }
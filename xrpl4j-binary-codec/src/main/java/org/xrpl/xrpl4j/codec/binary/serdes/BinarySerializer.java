@@ -4,7 +4,6 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.FieldHeaderCodec;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 
@@ -12,49 +11,64 @@ import java.util.Objects;
 
 /**
  * Serializes JSON to XRPL binary format.
+ *
+ * <p>Field headers, variable length prefixes and values are written straight into a {@link ByteSink}, so no
+ * intermediate hex is produced.</p>
  */
 public class BinarySerializer {
 
-  private final UnsignedByteArray sink;
+  private final ByteSink sink;
 
   /**
    * Required-args Constructor.
    *
-   * @param sink An {@link UnsignedByteArray}.
+   * @param sink An {@link UnsignedByteArray} that serialized bytes are appended to.
    */
   public BinarySerializer(final UnsignedByteArray sink) {
-    this.sink = sink;
+    this(new UnsignedByteArraySink(sink));
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param sink A {@link ByteSink} that serialized bytes are written to.
+   */
+  public BinarySerializer(final ByteSink sink) {
+    this.sink = Objects.requireNonNull(sink);
   }
 
   public void put(final String hexBytes) {
-    sink.append(UnsignedByteArray.fromHex(hexBytes));
+    sink.put(UnsignedByteArray.fromHex(hexBytes));
+  }
+
+  public void put(final UnsignedByte value) {
+    sink.put(value.asByte());
   }
 
   public void write(final UnsignedByteArray list) {
-    this.sink.append(list);
+    this.sink.put(list);
   }
 
   /**
-   * Calculate the header of Variable Length encoded bytes.
+   * Write the header of Variable Length encoded bytes.
    *
    * @param length the length of the bytes.
    */
-  private UnsignedByteArray encodeVariableLength(int length) {
+  private void writeVariableLength(int length) {
     if (length <= 192) {
-      return UnsignedByteArray.of(UnsignedByte.of(length));
+      sink.put((byte) length);
     } else if (length <= 12480) {
       length -= 193;
-      int byte1 = 193 + (length >>> 8);
-      int byte2 = length & 0xff;
-      return UnsignedByteArray.of(UnsignedByte.of(byte1), UnsignedByte.of(byte2));
+      sink.put((byte) (193 + (length >>> 8)));
+      sink.put((byte) (length & 0xff));
     } else if (length <= 918744) {
       length -= 12481;
-      int byte1 = 241 + (length >>> 16);
-      int byte2 = (length >> 8) & 0xff;
-      int byte3 = length & 0xff;
-      return UnsignedByteArray.of(UnsignedByte.of(byte1), UnsignedByte.of(byte2), UnsignedByte.of(byte3));
+      sink.put((byte) (241 + (length >>> 16)));
+      sink.put((byte) ((length >> 8) & 0xff));
+      sink.put((byte) (length & 0xff));
+    } else {
+      throw new Error("Overflow error");
     }
-    throw new Error("Overflow error");
   }
 
   /**
@@ -66,8 +80,7 @@ public class BinarySerializer {
   public void writeFieldAndValue(final FieldInstance field, final SerializedType value) {
     Objects.requireNonNull(field);
     Objects.requireNonNull(value);
-    String fieldHeaderHex = FieldHeaderCodec.getInstance().encode(field.name());
-    this.sink.append(UnsignedByteArray.fromHex(fieldHeaderHex));
+    field.writeHeader(this.sink);
 
     if (field.isVariableLengthEncoded()) {
       this.writeLengthEncoded(value);
@@ -98,10 +111,35 @@ public class BinarySerializer {
    */
   public void writeLengthEncoded(final SerializedType value) {
     Objects.requireNonNull(value);
-    UnsignedByteArray bytes = UnsignedByteArray.empty();
-    value.toBytesSink(bytes);
-    this.put(this.encodeVariableLength(bytes.length()).hexValue());
-    this.write(bytes);
+    this.writeVariableLength(value.length());
+    value.toBytesSink(this.sink);
+  }
+
+  /**
+   * A {@link ByteSink} that appends to an {@link UnsignedByteArray}.
+   */
+  private static class UnsignedByteArraySink implements ByteSink {
+
+    private final UnsignedByteArray array;
+
+    UnsignedByteArraySink(final UnsignedByteArray array) {
+      this.array = Objects.requireNonNull(array);
+    }
+
+    @Override
+    public void put(final byte value) {
+      array.append(UnsignedByte.of(value));
+    }
+
+    @Override
+    public void put(final byte[] bytes, final int offset, final int length) {
+      array.append(bytes, offset, length);
+    }
+
+    @Override
+    public void put(final UnsignedByteArray bytes) {
+      array.append(bytes);
+    }
   }
 
 }
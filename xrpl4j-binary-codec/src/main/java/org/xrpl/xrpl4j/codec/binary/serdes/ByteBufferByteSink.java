@@ -0,0 +1,52 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A {@link ByteSink} that writes bytes into a {@link ByteBuffer}, starting at the buffer's current position. Writing
+ * more bytes than the buffer has remaining throws a {@link BufferOverflowException}.
+ */
+public class ByteBufferByteSink implements ByteSink {
+
+  private final ByteBuffer buffer;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param buffer The {@link ByteBuffer} to write to.
+   */
+  public ByteBufferByteSink(final ByteBuffer buffer) {
+    this.buffer = Objects.requireNonNull(buffer);
+  }
+
+  @Override
+  public void put(final byte value) {
+    buffer.put(value);
+  }
+
+  @Override
+  public void put(final byte[] bytes, final int offset, final int length) {
+    buffer.put(bytes, offset, length);
+  }
+
+  @Override
+  public void put(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    if (!buffer.hasArray()) {
+      ByteSink.super.put(bytes);
+      return;
+    }
+    if (bytes.length() > buffer.remaining()) {
+      throw new BufferOverflowException();
+    }
+    bytes.copyTo(buffer.array(), buffer.arrayOffset() + buffer.position());
+    // call Buffer.position(int), which Java 8 has, rather than the ByteBuffer override that Java 9 added
+    ((Buffer) buffer).position(buffer.position() + bytes.length());
+  }
+
+}
@@ -0,0 +1,48 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+/**
+ * A destination for the bytes written by a {@link BinarySerializer}.
+ *
+ * @see GrowableByteSink
+ * @see OutputStreamByteSink
+ * @see ByteBufferByteSink
+ */
+public interface ByteSink {
+
+  /**
+   * Write a single byte.
+   *
+   * @param value The byte to write.
+   */
+  void put(byte value);
+
+  /**
+   * Write a range of a byte array.
+   *
+   * @param bytes  A byte array containing the bytes to write.
+   * @param offset The index of the first byte in {@code bytes} to write.
+   * @param length The number of bytes to write.
+   */
+  void put(byte[] bytes, int offset, int length);
+
+  /**
+   * Write all of the bytes in a byte array.
+   *
+   * @param bytes A byte array containing the bytes to write.
+   */
+  default void put(byte[] bytes) {
+    put(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Write all of the bytes in an {@link UnsignedByteArray}.
+   *
+   * @param bytes An {@link UnsignedByteArray} containing the bytes to write.
+   */
+  default void put(UnsignedByteArray bytes) {
+    put(bytes.toByteArray());
+  }
+
+}
@@ -0,0 +1,30 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/**
+ * The byte-level reads that {@link BinaryParser}'s field header, length prefix and value skipping logic needs, so that
+ * the same logic can walk both a byte array and the buffered stream of a {@link BinaryEventReader}.
+ */
+interface ByteSource {
+
+  /**
+   * Read an unsigned 8-bit integer.
+   *
+   * @return The value, in the range 0 to 255.
+   */
+  int readUInt8();
+
+  /**
+   * Look at the next unsigned 8-bit integer without consuming it.
+   *
+   * @return The value, in the range 0 to 255.
+   */
+  int peekUInt8();
+
+  /**
+   * Move past bytes without reading them.
+   *
+   * @param bytesToSkip The number of bytes to skip.
+   */
+  void skip(int bytesToSkip);
+
+}
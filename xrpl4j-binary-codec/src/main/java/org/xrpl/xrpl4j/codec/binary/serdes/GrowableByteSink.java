@@ -0,0 +1,110 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.BaseEncoding;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link ByteSink} that collects bytes in an in-memory buffer which grows as needed.
+ *
+ * <p>A sink can be {@link #reset()} and reused for any number of encodes, keeping the capacity it has grown to. It is
+ * not thread-safe, so callers that encode concurrently should keep one sink per thread.</p>
+ */
+public class GrowableByteSink implements ByteSink {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+  private byte[] buffer;
+  private int length;
+
+  public GrowableByteSink() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param initialCapacity The number of bytes this sink can hold before its buffer has to grow.
+   */
+  public GrowableByteSink(final int initialCapacity) {
+    Preconditions.checkArgument(initialCapacity >= 0, "initialCapacity must not be negative");
+    this.buffer = new byte[initialCapacity];
+  }
+
+  @Override
+  public void put(final byte value) {
+    ensureCapacity(1);
+    buffer[length++] = value;
+  }
+
+  @Override
+  public void put(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    ensureCapacity(length);
+    System.arraycopy(bytes, offset, buffer, this.length, length);
+    this.length += length;
+  }
+
+  @Override
+  public void put(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    ensureCapacity(bytes.length());
+    bytes.copyTo(buffer, length);
+    length += bytes.length();
+  }
+
+  /**
+   * The number of bytes written since this sink was created or last {@link #reset()}.
+   *
+   * @return The number of bytes in this sink.
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Discard all written bytes, keeping the current buffer for reuse.
+   */
+  public void reset() {
+    length = 0;
+  }
+
+  /**
+   * Copy the written bytes into a new byte array.
+   *
+   * @return A byte array.
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer, length);
+  }
+
+  /**
+   * Copy the written bytes into a new {@link UnsignedByteArray}.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  public UnsignedByteArray toUnsignedByteArray() {
+    return UnsignedByteArray.empty().append(buffer, 0, length);
+  }
+
+  /**
+   * Get the written bytes as an upper-cased hex-encoded {@link String}.
+   *
+   * @return A {@link String}.
+   */
+  public String hexValue() {
+    return BaseEncoding.base16().encode(buffer, 0, length);
+  }
+
+  private void ensureCapacity(int additional) {
+    int required = length + additional;
+    if (required > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+    }
+  }
+
+}
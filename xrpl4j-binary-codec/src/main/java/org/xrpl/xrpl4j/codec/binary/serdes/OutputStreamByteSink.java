@@ -0,0 +1,43 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * A {@link ByteSink} that writes bytes to an {@link OutputStream}. The stream is neither buffered nor closed by this
+ * sink.
+ */
+public class OutputStreamByteSink implements ByteSink {
+
+  private final OutputStream outputStream;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param outputStream The {@link OutputStream} to write to.
+   */
+  public OutputStreamByteSink(final OutputStream outputStream) {
+    this.outputStream = Objects.requireNonNull(outputStream);
+  }
+
+  @Override
+  public void put(final byte value) {
+    try {
+      outputStream.write(value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void put(final byte[] bytes, final int offset, final int length) {
+    try {
+      outputStream.write(bytes, offset, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
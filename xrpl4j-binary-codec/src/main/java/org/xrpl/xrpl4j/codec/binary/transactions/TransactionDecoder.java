@@ -0,0 +1,632 @@
+package org.xrpl.xrpl4j.codec.binary.transactions;
+
+import com.fl.xrpl4j.model.client.common.LedgerIndex;
+import com.fl.xrpl4j.model.flags.Flags;
+import com.fl.xrpl4j.model.ledger.SignerEntry;
+import com.fl.xrpl4j.model.ledger.SignerEntryWrapper;
+import com.fl.xrpl4j.model.transactions.AccountDelete;
+import com.fl.xrpl4j.model.transactions.AccountSet;
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.CheckCancel;
+import com.fl.xrpl4j.model.transactions.CheckCash;
+import com.fl.xrpl4j.model.transactions.CheckCreate;
+import com.fl.xrpl4j.model.transactions.CurrencyAmount;
+import com.fl.xrpl4j.model.transactions.DepositPreAuth;
+import com.fl.xrpl4j.model.transactions.EscrowCancel;
+import com.fl.xrpl4j.model.transactions.EscrowCreate;
+import com.fl.xrpl4j.model.transactions.EscrowFinish;
+import com.fl.xrpl4j.model.transactions.Hash256;
+import com.fl.xrpl4j.model.transactions.ImmutableOfferCancel;
+import com.fl.xrpl4j.model.transactions.ImmutableOfferCreate;
+import com.fl.xrpl4j.model.transactions.ImmutablePathStep;
+import com.fl.xrpl4j.model.transactions.ImmutablePayment;
+import com.fl.xrpl4j.model.transactions.ImmutablePaymentChannelClaim;
+import com.fl.xrpl4j.model.transactions.ImmutablePaymentChannelCreate;
+import com.fl.xrpl4j.model.transactions.ImmutableTrustSet;
+import com.fl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import com.fl.xrpl4j.model.transactions.Memo;
+import com.fl.xrpl4j.model.transactions.MemoWrapper;
+import com.fl.xrpl4j.model.transactions.OfferCancel;
+import com.fl.xrpl4j.model.transactions.OfferCreate;
+import com.fl.xrpl4j.model.transactions.PathStep;
+import com.fl.xrpl4j.model.transactions.Payment;
+import com.fl.xrpl4j.model.transactions.PaymentChannelClaim;
+import com.fl.xrpl4j.model.transactions.PaymentChannelCreate;
+import com.fl.xrpl4j.model.transactions.PaymentChannelFund;
+import com.fl.xrpl4j.model.transactions.SetRegularKey;
+import com.fl.xrpl4j.model.transactions.Signer;
+import com.fl.xrpl4j.model.transactions.SignerListSet;
+import com.fl.xrpl4j.model.transactions.SignerWrapper;
+import com.fl.xrpl4j.model.transactions.Transaction;
+import com.fl.xrpl4j.model.transactions.TransactionType;
+import com.fl.xrpl4j.model.transactions.TrustSet;
+import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import com.ripple.cryptoconditions.Condition;
+import com.ripple.cryptoconditions.CryptoConditionReader;
+import com.ripple.cryptoconditions.Fulfillment;
+import com.ripple.cryptoconditions.der.DerEncodingException;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
+import org.xrpl.xrpl4j.codec.binary.types.AmountType;
+import org.xrpl.xrpl4j.codec.binary.types.CurrencyType;
+import org.xrpl.xrpl4j.codec.binary.types.HopType;
+import org.xrpl.xrpl4j.codec.binary.types.STArrayType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decodes canonical XRPL binary, such as a {@code tx_blob} or a transaction read from ledger data, straight into the
+ * concrete {@link Transaction} type named by its {@code TransactionType} field, without going through JSON.
+ *
+ * <p>The result is equal to decoding the same bytes with {@link XrplBinaryCodec#decode(String)} and reading the JSON
+ * with the model's {@code ObjectMapper}. As with that {@code ObjectMapper}, fields that the model does not know about
+ * are ignored.</p>
+ */
+public class TransactionDecoder {
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private static final String OBJECT_END_MARKER = "ObjectEndMarker";
+
+  private static final int PATH_SEPARATOR_BYTE = 0xFF;
+  private static final int PATHSET_END_BYTE = 0x00;
+
+  private static final Map<Long, TransactionType> TRANSACTION_TYPES = transactionTypes();
+
+  /**
+   * Decode a hex encoded transaction into a {@link Transaction}.
+   *
+   * @param hex A {@link String} containing the hex encoded transaction.
+   *
+   * @return The decoded {@link Transaction}.
+   */
+  public Transaction decode(final String hex) {
+    Objects.requireNonNull(hex);
+    return decode(new BinaryParser(hex));
+  }
+
+  /**
+   * Decode an encoded transaction into a {@link Transaction}.
+   *
+   * @param bytes An {@link UnsignedByteArray} containing the encoded transaction.
+   *
+   * @return The decoded {@link Transaction}.
+   */
+  public Transaction decode(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    return decode(new BinaryParser(bytes));
+  }
+
+  /**
+   * Decode an encoded transaction into a {@link Transaction}.
+   *
+   * @param bytes A byte array containing the encoded transaction.
+   *
+   * @return The decoded {@link Transaction}.
+   */
+  public Transaction decode(final byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return decode(new BinaryParser(bytes));
+  }
+
+  /**
+   * Decode an encoded transaction that occupies part of a larger byte array, such as a ledger entry, into a
+   * {@link Transaction}. The bytes are not copied.
+   *
+   * @param bytes  A byte array containing the encoded transaction.
+   * @param offset The index of the first byte of the transaction.
+   * @param length The number of bytes in the transaction.
+   *
+   * @return The decoded {@link Transaction}.
+   */
+  public Transaction decode(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    return decode(new BinaryParser(bytes, offset, length));
+  }
+
+  private Transaction decode(final BinaryParser parser) {
+    FieldValues fields = readObject(parser, false);
+
+    long typeCode = fields.uint("TransactionType")
+      .orElseThrow(() -> new IllegalArgumentException("TransactionType is missing"));
+    TransactionType transactionType = TRANSACTION_TYPES.get(typeCode);
+    if (transactionType == null || !Transaction.typeMap.inverse().containsKey(transactionType)) {
+      throw new IllegalArgumentException("Unsupported transaction type " + typeCode);
+    }
+
+    CommonFields common = new CommonFields(fields);
+    switch (transactionType) {
+      case ACCOUNT_DELETE:
+        return AccountDelete.builder().from(common)
+          .destination(fields.requiredAddress("Destination"))
+          .destinationTag(fields.unsignedInteger("DestinationTag"))
+          .build();
+      case ACCOUNT_SET:
+        return AccountSet.builder().from(common)
+          .clearFlag(fields.uint("ClearFlag").map(value -> AccountSet.AccountSetFlag.forValue(value.intValue())))
+          .setFlag(fields.uint("SetFlag").map(value -> AccountSet.AccountSetFlag.forValue(value.intValue())))
+          .domain(fields.hex("Domain"))
+          .emailHash(fields.hex("EmailHash"))
+          .messageKey(fields.hex("MessageKey"))
+          .transferRate(fields.unsignedInteger("TransferRate"))
+          .tickSize(fields.unsignedInteger("TickSize"))
+          .build();
+      case CHECK_CANCEL:
+        return CheckCancel.builder().from(common)
+          .checkId(fields.requiredHash256("CheckID"))
+          .build();
+      case CHECK_CASH:
+        return CheckCash.builder().from(common)
+          .checkId(fields.requiredHash256("CheckID"))
+          .amount(fields.amount("Amount"))
+          .deliverMin(fields.amount("DeliverMin"))
+          .build();
+      case CHECK_CREATE:
+        return CheckCreate.builder().from(common)
+          .destination(fields.requiredAddress("Destination"))
+          .destinationTag(fields.unsignedInteger("DestinationTag"))
+          .sendMax(fields.requiredAmount("SendMax"))
+          .expiration(fields.unsignedInteger("Expiration"))
+          .invoiceId(fields.hash256("InvoiceID"))
+          .build();
+      case DEPOSIT_PRE_AUTH:
+        return DepositPreAuth.builder().from(common)
+          .authorize(fields.address("Authorize"))
+          .unauthorize(fields.address("Unauthorize"))
+          .build();
+      case ESCROW_CANCEL:
+        return EscrowCancel.builder().from(common)
+          .owner(fields.requiredAddress("Owner"))
+          .offerSequence(fields.requiredUnsignedInteger("OfferSequence"))
+          .build();
+      case ESCROW_CREATE:
+        return EscrowCreate.builder().from(common)
+          .amount(fields.requiredXrpAmount("Amount"))
+          .destination(fields.requiredAddress("Destination"))
+          .destinationTag(fields.unsignedInteger("DestinationTag"))
+          .cancelAfter(fields.unsignedLong("CancelAfter"))
+          .finishAfter(fields.unsignedLong("FinishAfter"))
+          .condition(fields.condition("Condition"))
+          .build();
+      case ESCROW_FINISH:
+        return EscrowFinish.builder().from(common)
+          .owner(fields.requiredAddress("Owner"))
+          .offerSequence(fields.requiredUnsignedInteger("OfferSequence"))
+          .condition(fields.condition("Condition"))
+          .fulfillment(fields.fulfillment("Fulfillment"))
+          .build();
+      case OFFER_CANCEL:
+        ImmutableOfferCancel.Builder offerCancel = OfferCancel.builder().from(common)
+          .offerSequence(fields.unsignedInteger("OfferSequence"));
+        fields.uint("Flags").map(Flags.TransactionFlags::of).ifPresent(offerCancel::flags);
+        return offerCancel.build();
+      case OFFER_CREATE:
+        ImmutableOfferCreate.Builder offerCreate = OfferCreate.builder().from(common)
+          .offerSequence(fields.unsignedInteger("OfferSequence"))
+          .takerPays(fields.requiredAmount("TakerPays"))
+          .takerGets(fields.requiredAmount("TakerGets"))
+          .expiration(fields.unsignedInteger("Expiration"));
+        fields.uint("Flags").map(Flags.OfferCreateFlags::of).ifPresent(offerCreate::flags);
+        return offerCreate.build();
+      case PAYMENT:
+        ImmutablePayment.Builder payment = Payment.builder().from(common)
+          .amount(fields.requiredAmount("Amount"))
+          .destination(fields.requiredAddress("Destination"))
+          .destinationTag(fields.unsignedInteger("DestinationTag"))
+          .invoiceId(fields.hash256("InvoiceID"))
+          .paths(fields.paths("Paths"))
+          .sendMax(fields.amount("SendMax"))
+          .deliverMin(fields.amount("DeliverMin"));
+        fields.uint("Flags").map(Flags.PaymentFlags::of).ifPresent(payment::flags);
+        return payment.build();
+      case PAYMENT_CHANNEL_CLAIM:
+        ImmutablePaymentChannelClaim.Builder paymentChannelClaim = PaymentChannelClaim.builder().from(common)
+          .channel(fields.requiredHash256("Channel"))
+          .balance(fields.xrpAmount("Balance"))
+          .amount(fields.xrpAmount("Amount"))
+          .signature(fields.hex("Signature"))
+          .publicKey(fields.hex("PublicKey"));
+        fields.uint("Flags").map(Flags.PaymentChannelClaimFlags::of).ifPresent(paymentChannelClaim::flags);
+        return paymentChannelClaim.build();
+      case PAYMENT_CHANNEL_CREATE:
+        ImmutablePaymentChannelCreate.Builder paymentChannelCreate = PaymentChannelCreate.builder().from(common)
+          .amount(fields.requiredXrpAmount("Amount"))
+          .destination(fields.requiredAddress("Destination"))
+          .settleDelay(fields.requiredUnsignedInteger("SettleDelay"))
+          .publicKey(fields.requiredHex("PublicKey"))
+          .cancelAfter(fields.unsignedLong("CancelAfter"))
+          .destinationTag(fields.unsignedInteger("DestinationTag"));
+        fields.uint("Flags").map(Flags.TransactionFlags::of).ifPresent(paymentChannelCreate::flags);
+        return paymentChannelCreate.build();
+      case PAYMENT_CHANNEL_FUND:
+        return PaymentChannelFund.builder().from(common)
+          .channel(fields.requiredHash256("Channel"))
+          .amount(fields.requiredXrpAmount("Amount"))
+          .expiration(fields.unsignedLong("Expiration"))
+          .build();
+      case SET_REGULAR_KEY:
+        return SetRegularKey.builder().from(common)
+          .regularKey(fields.address("RegularKey"))
+          .build();
+      case SIGNER_LIST_SET:
+        return SignerListSet.builder().from(common)
+          .signerQuorum(fields.requiredUnsignedInteger("SignerQuorum"))
+          .signerEntries(fields.signerEntries("SignerEntries"))
+          .build();
+      case TRUST_SET:
+        ImmutableTrustSet.Builder trustSet = TrustSet.builder().from(common)
+          .limitAmount(fields.requiredIssuedAmount("LimitAmount"))
+          .qualityIn(fields.unsignedInteger("QualityIn"))
+          .qualityOut(fields.unsignedInteger("QualityOut"));
+        fields.uint("Flags").map(Flags.TrustSetFlags::of).ifPresent(trustSet::flags);
+        return trustSet.build();
+      default:
+        throw new IllegalArgumentException("Unsupported transaction type " + transactionType);
+    }
+  }
+
+  /**
+   * Read the fields of an object. Nested objects end with an object end marker; the top level object ends with the
+   * input.
+   */
+  private FieldValues readObject(final BinaryParser parser, final boolean nested) {
+    FieldValues fields = new FieldValues();
+    while (parser.hasMore()) {
+      FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+      if (nested && field.name().equals(OBJECT_END_MARKER)) {
+        break;
+      }
+      fields.put(field.name(), readValue(parser, field));
+    }
+    return fields;
+  }
+
+  private Object readValue(final BinaryParser parser, final FieldInstance field) {
+    switch (field.type()) {
+      case "UInt8":
+        return (long) parser.readUInt8();
+      case "UInt16":
+        return (long) parser.readUInt16();
+      case "UInt32":
+        return parser.readUInt32();
+      case "UInt64":
+        return parser.readUInt64();
+      case "Amount":
+        return new AmountType().fromParser(parser).toCurrencyAmount();
+      case "AccountID":
+        return ((AccountIdType) parser.readFieldValue(field)).toAddress();
+      case "PathSet":
+        return readPathSet(parser);
+      case "STObject":
+        return readObject(parser, true);
+      case "STArray":
+        return readArray(parser);
+      default:
+        return parser.readFieldValue(field).toHex();
+    }
+  }
+
+  /**
+   * Read an array of single-field objects, such as {@code [{"Memo": {...}}]}, keeping only the inner objects.
+   */
+  private List<FieldValues> readArray(final BinaryParser parser) {
+    List<FieldValues> elements = new ArrayList<>();
+    while (parser.hasMore()) {
+      FieldInstance field = parser.readField()
+        .orElseThrow(() -> new IllegalArgumentException("Parser should have had more fields but did not."));
+      if (field.name().equals(STArrayType.ARRAY_END_MARKER_NAME)) {
+        break;
+      }
+      elements.add(readObject(parser, true));
+    }
+    return elements;
+  }
+
+  private List<List<PathStep>> readPathSet(final BinaryParser parser) {
+    List<List<PathStep>> paths = new ArrayList<>();
+    List<PathStep> path = new ArrayList<>();
+    while (parser.hasMore()) {
+      int type = parser.readUInt8();
+      if (type == PATH_SEPARATOR_BYTE || type == PATHSET_END_BYTE) {
+        paths.add(path);
+        if (type == PATHSET_END_BYTE) {
+          break;
+        }
+        path = new ArrayList<>();
+        continue;
+      }
+      ImmutablePathStep.Builder step = PathStep.builder();
+      if ((type & HopType.TYPE_ACCOUNT) > 0) {
+        step.account(new AccountIdType().fromParser(parser).toAddress());
+      }
+      if ((type & HopType.TYPE_CURRENCY) > 0) {
+        step.currency(new CurrencyType().fromParser(parser).toCurrencyCode());
+      }
+      if ((type & HopType.TYPE_ISSUER) > 0) {
+        step.issuer(new AccountIdType().fromParser(parser).toAddress());
+      }
+      path.add(step.build());
+    }
+    return paths;
+  }
+
+  private static Map<Long, TransactionType> transactionTypes() {
+    Map<Long, TransactionType> types = new HashMap<>();
+    for (TransactionType type : TransactionType.values()) {
+      definitionsService.mapFieldSpecialization("TransactionType", type.value())
+        .ifPresent(code -> types.put(code.longValue(), type));
+    }
+    return Collections.unmodifiableMap(types);
+  }
+
+  /**
+   * The decoded values of one object's fields, keyed by field name. Unsigned integers are held as {@code long}s,
+   * amounts as {@link CurrencyAmount}s, account IDs as {@link Address}es, path sets as lists of {@link PathStep}s,
+   * objects as {@link FieldValues}, arrays as lists of {@link FieldValues} and everything else as hex.
+   */
+  private static class FieldValues {
+
+    private final Map<String, Object> values = new HashMap<>();
+
+    void put(final String name, final Object value) {
+      values.put(name, value);
+    }
+
+    private <T> Optional<T> get(final String name, final Class<T> type) {
+      Object value = values.get(name);
+      if (value == null) {
+        return Optional.empty();
+      }
+      if (!type.isInstance(value)) {
+        throw new IllegalArgumentException(name + " is not a " + type.getSimpleName());
+      }
+      return Optional.of(type.cast(value));
+    }
+
+    private <T> T required(final String name, final Optional<T> value) {
+      return value.orElseThrow(() -> new IllegalArgumentException(name + " is missing"));
+    }
+
+    Optional<Long> uint(final String name) {
+      return get(name, Long.class);
+    }
+
+    Optional<UnsignedInteger> unsignedInteger(final String name) {
+      return uint(name).map(UnsignedInteger::valueOf);
+    }
+
+    UnsignedInteger requiredUnsignedInteger(final String name) {
+      return required(name, unsignedInteger(name));
+    }
+
+    Optional<UnsignedLong> unsignedLong(final String name) {
+      return uint(name).map(UnsignedLong::fromLongBits);
+    }
+
+    Optional<String> hex(final String name) {
+      return get(name, String.class);
+    }
+
+    String requiredHex(final String name) {
+      return required(name, hex(name));
+    }
+
+    Optional<Hash256> hash256(final String name) {
+      return hex(name).map(Hash256::of);
+    }
+
+    Hash256 requiredHash256(final String name) {
+      return required(name, hash256(name));
+    }
+
+    Optional<Address> address(final String name) {
+      return get(name, Address.class);
+    }
+
+    Address requiredAddress(final String name) {
+      return required(name, address(name));
+    }
+
+    Optional<CurrencyAmount> amount(final String name) {
+      return get(name, CurrencyAmount.class);
+    }
+
+    CurrencyAmount requiredAmount(final String name) {
+      return required(name, amount(name));
+    }
+
+    Optional<XrpCurrencyAmount> xrpAmount(final String name) {
+      return get(name, XrpCurrencyAmount.class);
+    }
+
+    XrpCurrencyAmount requiredXrpAmount(final String name) {
+      return required(name, xrpAmount(name));
+    }
+
+    IssuedCurrencyAmount requiredIssuedAmount(final String name) {
+      return required(name, get(name, IssuedCurrencyAmount.class));
+    }
+
+    Optional<Condition> condition(final String name) {
+      try {
+        return hex(name).isPresent() ?
+          Optional.of(CryptoConditionReader.readCondition(BaseEncoding.base16().decode(hex(name).get()))) :
+          Optional.empty();
+      } catch (DerEncodingException e) {
+        throw new IllegalArgumentException("Unable to decode " + name, e);
+      }
+    }
+
+    Optional<Fulfillment<?>> fulfillment(final String name) {
+      try {
+        return hex(name).isPresent() ?
+          Optional.of(CryptoConditionReader.readFulfillment(BaseEncoding.base16().decode(hex(name).get()))) :
+          Optional.empty();
+      } catch (DerEncodingException e) {
+        throw new IllegalArgumentException("Unable to decode " + name, e);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    List<List<PathStep>> paths(final String name) {
+      return (List<List<PathStep>>) get(name, List.class).orElse(Collections.emptyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    List<FieldValues> array(final String name) {
+      return (List<FieldValues>) get(name, List.class).orElse(Collections.emptyList());
+    }
+
+    List<MemoWrapper> memos(final String name) {
+      List<MemoWrapper> memos = new ArrayList<>();
+      for (FieldValues memo : array(name)) {
+        memos.add(MemoWrapper.builder()
+          .memo(Memo.builder()
+            .memoData(memo.hex("MemoData"))
+            .memoFormat(memo.hex("MemoFormat"))
+            .memoType(memo.hex("MemoType"))
+            .build())
+          .build());
+      }
+      return memos;
+    }
+
+    List<SignerWrapper> signers(final String name) {
+      List<SignerWrapper> signers = new ArrayList<>();
+      for (FieldValues signer : array(name)) {
+        signers.add(SignerWrapper.of(Signer.builder()
+          .account(signer.requiredAddress("Account"))
+          .transactionSignature(signer.requiredHex("TxnSignature"))
+          .signingPublicKey(signer.requiredHex("SigningPubKey"))
+          .build()));
+      }
+      return signers;
+    }
+
+    List<SignerEntryWrapper> signerEntries(final String name) {
+      List<SignerEntryWrapper> signerEntries = new ArrayList<>();
+      for (FieldValues signerEntry : array(name)) {
+        signerEntries.add(SignerEntryWrapper.of(SignerEntry.builder()
+          .account(signerEntry.requiredAddress("Account"))
+          .signerWeight(signerEntry.requiredUnsignedInteger("SignerWeight"))
+          .build()));
+      }
+      return signerEntries;
+    }
+  }
+
+  /**
+   * The fields common to all {@link Transaction}s, so that each concrete builder can copy them with
+   * {@code from(Transaction)}.
+   */
+  private static class CommonFields implements Transaction {
+
+    private final Optional<Address> account;
+    private final XrpCurrencyAmount fee;
+    private final Optional<UnsignedInteger> sequence;
+    private final Optional<Hash256> accountTransactionId;
+    private final Optional<UnsignedInteger> lastLedgerSequence;
+    private final List<MemoWrapper> memos;
+    private final List<SignerWrapper> signers;
+    private final Optional<UnsignedInteger> sourceTag;
+    private final Optional<String> signingPublicKey;
+    private final Optional<String> transactionSignature;
+
+    CommonFields(final FieldValues fields) {
+      this.account = fields.address("Account");
+      this.fee = fields.requiredXrpAmount("Fee");
+      this.sequence = fields.unsignedInteger("Sequence");
+      this.accountTransactionId = fields.hash256("AccountTxnID");
+      this.lastLedgerSequence = fields.unsignedInteger("LastLedgerSequence");
+      this.memos = fields.memos("Memos");
+      this.signers = fields.signers("Signers");
+      this.sourceTag = fields.unsignedInteger("SourceTag");
+      this.signingPublicKey = fields.hex("SigningPubKey");
+      this.transactionSignature = fields.hex("TxnSignature");
+    }
+
+    @Override
+    public Optional<Address> account() {
+      return account;
+    }
+
+    @Override
+    public XrpCurrencyAmount fee() {
+      return fee;
+    }
+
+    @Override
+    public Optional<UnsignedInteger> sequence() {
+      return sequence;
+    }
+
+    @Override
+    public Optional<Hash256> accountTransactionId() {
+      return accountTransactionId;
+    }
+
+    @Override
+    public Optional<UnsignedInteger> lastLedgerSequence() {
+      return lastLedgerSequence;
+    }
+
+    @Override
+    public List<MemoWrapper> memos() {
+      return memos;
+    }
+
+    @Override
+    public List<SignerWrapper> signers() {
+      return signers;
+    }
+
+    @Override
+    public Optional<UnsignedInteger> sourceTag() {
+      return sourceTag;
+    }
+
+    @Override
+    public Optional<String> signingPublicKey() {
+      return signingPublicKey;
+    }
+
+    @Override
+    public Optional<String> transactionSignature() {
+      return transactionSignature;
+    }
+
+    @Override
+    public Optional<Hash256> hash() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<UnsignedLong> closeDate() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<LedgerIndex> ledgerIndex() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> domain() {
+      return Optional.empty();
+    }
+  }
+
+}
@@ -0,0 +1,761 @@
+package org.xrpl.xrpl4j.codec.binary.transactions;
+
+import com.fl.xrpl4j.model.flags.Flags;
+import com.fl.xrpl4j.model.ledger.SignerEntry;
+import com.fl.xrpl4j.model.ledger.SignerEntryWrapper;
+import com.fl.xrpl4j.model.transactions.AccountDelete;
+import com.fl.xrpl4j.model.transactions.AccountSet;
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.CheckCancel;
+import com.fl.xrpl4j.model.transactions.CheckCash;
+import com.fl.xrpl4j.model.transactions.CheckCreate;
+import com.fl.xrpl4j.model.transactions.CurrencyAmount;
+import com.fl.xrpl4j.model.transactions.DepositPreAuth;
+import com.fl.xrpl4j.model.transactions.EscrowCancel;
+import com.fl.xrpl4j.model.transactions.EscrowCreate;
+import com.fl.xrpl4j.model.transactions.EscrowFinish;
+import com.fl.xrpl4j.model.transactions.Hash256;
+import com.fl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import com.fl.xrpl4j.model.transactions.Memo;
+import com.fl.xrpl4j.model.transactions.MemoWrapper;
+import com.fl.xrpl4j.model.transactions.OfferCancel;
+import com.fl.xrpl4j.model.transactions.OfferCreate;
+import com.fl.xrpl4j.model.transactions.PathStep;
+import com.fl.xrpl4j.model.transactions.Payment;
+import com.fl.xrpl4j.model.transactions.PaymentChannelClaim;
+import com.fl.xrpl4j.model.transactions.PaymentChannelCreate;
+import com.fl.xrpl4j.model.transactions.PaymentChannelFund;
+import com.fl.xrpl4j.model.transactions.SetRegularKey;
+import com.fl.xrpl4j.model.transactions.Signer;
+import com.fl.xrpl4j.model.transactions.SignerListSet;
+import com.fl.xrpl4j.model.transactions.SignerWrapper;
+import com.fl.xrpl4j.model.transactions.Transaction;
+import com.fl.xrpl4j.model.transactions.TransactionType;
+import com.fl.xrpl4j.model.transactions.TrustSet;
+import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import com.ripple.cryptoconditions.Condition;
+import com.ripple.cryptoconditions.CryptoConditionWriter;
+import com.ripple.cryptoconditions.Fulfillment;
+import com.ripple.cryptoconditions.der.DerEncodingException;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.MultiSigningPayload;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
+import org.xrpl.xrpl4j.codec.binary.serdes.ByteSink;
+import org.xrpl.xrpl4j.codec.binary.serdes.GrowableByteSink;
+import org.xrpl.xrpl4j.codec.binary.types.AccountIdType;
+import org.xrpl.xrpl4j.codec.binary.types.AmountType;
+import org.xrpl.xrpl4j.codec.binary.types.BlobType;
+import org.xrpl.xrpl4j.codec.binary.types.CurrencyType;
+import org.xrpl.xrpl4j.codec.binary.types.FieldWithValue;
+import org.xrpl.xrpl4j.codec.binary.types.Hash128Type;
+import org.xrpl.xrpl4j.codec.binary.types.Hash160Type;
+import org.xrpl.xrpl4j.codec.binary.types.Hash256Type;
+import org.xrpl.xrpl4j.codec.binary.types.HopType;
+import org.xrpl.xrpl4j.codec.binary.types.PathSetType;
+import org.xrpl.xrpl4j.codec.binary.types.STArrayType;
+import org.xrpl.xrpl4j.codec.binary.types.STObjectType;
+import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+import org.xrpl.xrpl4j.codec.binary.types.UInt16Type;
+import org.xrpl.xrpl4j.codec.binary.types.UInt32Type;
+import org.xrpl.xrpl4j.codec.binary.types.UInt64Type;
+import org.xrpl.xrpl4j.codec.binary.types.UInt8Type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Encodes {@link Transaction}s straight to canonical XRPL binary, without first serializing them to JSON.
+ *
+ * <p>The output is identical to serializing a transaction with the model's {@code ObjectMapper} and passing the
+ * resulting JSON to {@link XrplBinaryCodec}. In particular, empty strings and empty lists are left out, just as the
+ * {@code ObjectMapper} leaves them out of the JSON.</p>
+ */
+public class TransactionEncoder {
+
+  private static final UnsignedByteArray TRX_SIGNATURE_PREFIX_BYTES =
+    UnsignedByteArray.fromHex(XrplBinaryCodec.TRX_SIGNATURE_PREFIX);
+
+  private static final UnsignedByteArray TRX_MULTI_SIGNATURE_PREFIX_BYTES =
+    UnsignedByteArray.fromHex(XrplBinaryCodec.TRX_MULTI_SIGNATURE_PREFIX);
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private static final String ST_OBJECT = "STObject";
+
+  private static final FieldInstance ACCOUNT = field("Account");
+  private static final FieldInstance ACCOUNT_TXN_ID = field("AccountTxnID");
+  private static final FieldInstance AMOUNT = field("Amount");
+  private static final FieldInstance AUTHORIZE = field("Authorize");
+  private static final FieldInstance BALANCE = field("Balance");
+  private static final FieldInstance CANCEL_AFTER = field("CancelAfter");
+  private static final FieldInstance CHANNEL = field("Channel");
+  private static final FieldInstance CHECK_ID = field("CheckID");
+  private static final FieldInstance CLEAR_FLAG = field("ClearFlag");
+  private static final FieldInstance CONDITION = field("Condition");
+  private static final FieldInstance DELIVER_MIN = field("DeliverMin");
+  private static final FieldInstance DESTINATION = field("Destination");
+  private static final FieldInstance DESTINATION_TAG = field("DestinationTag");
+  private static final FieldInstance DOMAIN = field("Domain");
+  private static final FieldInstance EMAIL_HASH = field("EmailHash");
+  private static final FieldInstance EXPIRATION = field("Expiration");
+  private static final FieldInstance FEE = field("Fee");
+  private static final FieldInstance FINISH_AFTER = field("FinishAfter");
+  private static final FieldInstance FLAGS = field("Flags");
+  private static final FieldInstance FULFILLMENT = field("Fulfillment");
+  private static final FieldInstance INVOICE_ID = field("InvoiceID");
+  private static final FieldInstance LAST_LEDGER_SEQUENCE = field("LastLedgerSequence");
+  private static final FieldInstance LIMIT_AMOUNT = field("LimitAmount");
+  private static final FieldInstance MEMO = field("Memo");
+  private static final FieldInstance MEMO_DATA = field("MemoData");
+  private static final FieldInstance MEMO_FORMAT = field("MemoFormat");
+  private static final FieldInstance MEMO_TYPE = field("MemoType");
+  private static final FieldInstance MEMOS = field("Memos");
+  private static final FieldInstance MESSAGE_KEY = field("MessageKey");
+  private static final FieldInstance OFFER_SEQUENCE = field("OfferSequence");
+  private static final FieldInstance OWNER = field("Owner");
+  private static final FieldInstance PATHS = field("Paths");
+  private static final FieldInstance PUBLIC_KEY = field("PublicKey");
+  private static final FieldInstance QUALITY_IN = field("QualityIn");
+  private static final FieldInstance QUALITY_OUT = field("QualityOut");
+  private static final FieldInstance REGULAR_KEY = field("RegularKey");
+  private static final FieldInstance SEND_MAX = field("SendMax");
+  private static final FieldInstance SEQUENCE = field("Sequence");
+  private static final FieldInstance SET_FLAG = field("SetFlag");
+  private static final FieldInstance SETTLE_DELAY = field("SettleDelay");
+  private static final FieldInstance SIGNATURE = field("Signature");
+  private static final FieldInstance SIGNER = field("Signer");
+  private static final FieldInstance SIGNER_ENTRIES = field("SignerEntries");
+  private static final FieldInstance SIGNER_ENTRY = field("SignerEntry");
+  private static final FieldInstance SIGNER_QUORUM = field("SignerQuorum");
+  private static final FieldInstance SIGNER_WEIGHT = field("SignerWeight");
+  private static final FieldInstance SIGNERS = field("Signers");
+  private static final FieldInstance SIGNING_PUB_KEY = field("SigningPubKey");
+  private static final FieldInstance SOURCE_TAG = field("SourceTag");
+  private static final FieldInstance TAKER_GETS = field("TakerGets");
+  private static final FieldInstance TAKER_PAYS = field("TakerPays");
+  private static final FieldInstance TICK_SIZE = field("TickSize");
+  private static final FieldInstance TRANSACTION_TYPE = field("TransactionType");
+  private static final FieldInstance TRANSFER_RATE = field("TransferRate");
+  private static final FieldInstance TXN_SIGNATURE = field("TxnSignature");
+  private static final FieldInstance UNAUTHORIZE = field("Unauthorize");
+
+  private static final Map<TransactionType, UInt16Type> TRANSACTION_TYPE_CODES = transactionTypeCodes();
+
+  /**
+   * Encodes a {@link Transaction} to canonical XRPL binary.
+   *
+   * @param transaction The {@link Transaction} to encode.
+   *
+   * @return An {@link UnsignedByteArray} containing the encoded transaction.
+   */
+  public UnsignedByteArray encode(final Transaction transaction) {
+    GrowableByteSink sink = new GrowableByteSink();
+    encode(transaction, sink);
+    return sink.toUnsignedByteArray();
+  }
+
+  /**
+   * Encodes a {@link Transaction} to canonical XRPL binary, writing the bytes to {@code sink}.
+   *
+   * @param transaction The {@link Transaction} to encode.
+   * @param sink        The {@link ByteSink} to write the encoded bytes to.
+   */
+  public void encode(final Transaction transaction, final ByteSink sink) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(sink);
+    FieldList fields = new FieldList(false);
+    addFields(transaction, fields, false);
+    fields.writeTo(new BinarySerializer(sink));
+  }
+
+  /**
+   * Encodes the signing fields of a {@link Transaction} to canonical XRPL binary, prefixed so that the result can be
+   * signed directly.
+   *
+   * @param transaction The {@link Transaction} to encode.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to sign.
+   */
+  public UnsignedByteArray encodeForSigning(final Transaction transaction) {
+    GrowableByteSink sink = new GrowableByteSink();
+    encodeForSigning(transaction, sink);
+    return sink.toUnsignedByteArray();
+  }
+
+  /**
+   * Encodes the signing fields of a {@link Transaction} to canonical XRPL binary, prefixed so that the result can be
+   * signed directly, writing the bytes to {@code sink}.
+   *
+   * @param transaction The {@link Transaction} to encode.
+   * @param sink        The {@link ByteSink} to write the encoded bytes to.
+   */
+  public void encodeForSigning(final Transaction transaction, final ByteSink sink) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(sink);
+    FieldList fields = new FieldList(true);
+    addFields(transaction, fields, false);
+    sink.put(TRX_SIGNATURE_PREFIX_BYTES);
+    fields.writeTo(new BinarySerializer(sink));
+  }
+
+  /**
+   * Encodes the signing fields of a {@link Transaction} to canonical XRPL binary for one signer of a multi-signed
+   * transaction.
+   *
+   * @param transaction   The {@link Transaction} to encode.
+   * @param signerAddress The {@link Address} of the account that will sign the result.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to sign.
+   */
+  public UnsignedByteArray encodeForMultiSigning(final Transaction transaction, final Address signerAddress) {
+    GrowableByteSink sink = new GrowableByteSink();
+    encodeForMultiSigning(transaction, signerAddress, sink);
+    return sink.toUnsignedByteArray();
+  }
+
+  /**
+   * Encodes the signing fields of a {@link Transaction} to canonical XRPL binary for one signer of a multi-signed
+   * transaction, writing the bytes to {@code sink}.
+   *
+   * @param transaction   The {@link Transaction} to encode.
+   * @param signerAddress The {@link Address} of the account that will sign the result.
+   * @param sink          The {@link ByteSink} to write the encoded bytes to.
+   */
+  public void encodeForMultiSigning(final Transaction transaction, final Address signerAddress, final ByteSink sink) {
+    Objects.requireNonNull(transaction);
+    Objects.requireNonNull(signerAddress);
+    Objects.requireNonNull(sink);
+    writeMultiSigningPrefix(transaction, sink);
+    new AccountIdType().fromAddress(signerAddress).toBytesSink(sink);
+  }
+
+  /**
+   * Encodes the signing fields of a {@link Transaction} to canonical XRPL binary once for all the signers of a
+   * multi-signed transaction.
+   *
+   * @param transaction The {@link Transaction} to encode.
+   *
+   * @return A {@link MultiSigningPayload} that produces the bytes to sign for each signer.
+   */
+  public MultiSigningPayload encodeForMultiSigning(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+    GrowableByteSink sink = new GrowableByteSink();
+    writeMultiSigningPrefix(transaction, sink);
+    return new MultiSigningPayload(sink.toUnsignedByteArray());
+  }
+
+  private void writeMultiSigningPrefix(final Transaction transaction, final ByteSink sink) {
+    FieldList fields = new FieldList(true);
+    addFields(transaction, fields, true);
+    // any existing signing keys should not also be signed
+    fields.add(SIGNING_PUB_KEY, new BlobType(UnsignedByteArray.empty()));
+    sink.put(TRX_MULTI_SIGNATURE_PREFIX_BYTES);
+    fields.writeTo(new BinarySerializer(sink));
+  }
+
+  private void addFields(final Transaction transaction, final FieldList fields, final boolean omitSigningPublicKey) {
+    TransactionType transactionType = transaction.transactionType();
+    if (transactionType == null) {
+      throw new IllegalArgumentException("Unsupported transaction class " + transaction.getClass().getName());
+    }
+    addCommonFields(transaction, fields, omitSigningPublicKey);
+    switch (transactionType) {
+      case ACCOUNT_DELETE:
+        addAccountDeleteFields((AccountDelete) transaction, fields);
+        break;
+      case ACCOUNT_SET:
+        addAccountSetFields((AccountSet) transaction, fields);
+        break;
+      case CHECK_CANCEL:
+        addCheckCancelFields((CheckCancel) transaction, fields);
+        break;
+      case CHECK_CASH:
+        addCheckCashFields((CheckCash) transaction, fields);
+        break;
+      case CHECK_CREATE:
+        addCheckCreateFields((CheckCreate) transaction, fields);
+        break;
+      case DEPOSIT_PRE_AUTH:
+        addDepositPreAuthFields((DepositPreAuth) transaction, fields);
+        break;
+      case ESCROW_CANCEL:
+        addEscrowCancelFields((EscrowCancel) transaction, fields);
+        break;
+      case ESCROW_CREATE:
+        addEscrowCreateFields((EscrowCreate) transaction, fields);
+        break;
+      case ESCROW_FINISH:
+        addEscrowFinishFields((EscrowFinish) transaction, fields);
+        break;
+      case OFFER_CANCEL:
+        addOfferCancelFields((OfferCancel) transaction, fields);
+        break;
+      case OFFER_CREATE:
+        addOfferCreateFields((OfferCreate) transaction, fields);
+        break;
+      case PAYMENT:
+        addPaymentFields((Payment) transaction, fields);
+        break;
+      case PAYMENT_CHANNEL_CLAIM:
+        addPaymentChannelClaimFields((PaymentChannelClaim) transaction, fields);
+        break;
+      case PAYMENT_CHANNEL_CREATE:
+        addPaymentChannelCreateFields((PaymentChannelCreate) transaction, fields);
+        break;
+      case PAYMENT_CHANNEL_FUND:
+        addPaymentChannelFundFields((PaymentChannelFund) transaction, fields);
+        break;
+      case SET_REGULAR_KEY:
+        addSetRegularKeyFields((SetRegularKey) transaction, fields);
+        break;
+      case SIGNER_LIST_SET:
+        addSignerListSetFields((SignerListSet) transaction, fields);
+        break;
+      case TRUST_SET:
+        addTrustSetFields((TrustSet) transaction, fields);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported transaction type " + transactionType);
+    }
+  }
+
+  private void addCommonFields(
+    final Transaction transaction,
+    final FieldList fields,
+    final boolean omitSigningPublicKey
+  ) {
+    fields.add(TRANSACTION_TYPE, TRANSACTION_TYPE_CODES.get(transaction.transactionType()));
+    fields.addAccount(ACCOUNT, transaction.account());
+    fields.addAmount(FEE, transaction.fee());
+    fields.addUInt(SEQUENCE, transaction.sequence());
+    fields.addHash(ACCOUNT_TXN_ID, transaction.accountTransactionId());
+    fields.addUInt(LAST_LEDGER_SEQUENCE, transaction.lastLedgerSequence());
+    fields.addUInt(SOURCE_TAG, transaction.sourceTag());
+    if (!omitSigningPublicKey) {
+      // unlike other strings, an empty SigningPubKey is serialized because it marks a multi-signed transaction
+      transaction.signingPublicKey().ifPresent(publicKey -> fields.addHex(SIGNING_PUB_KEY, publicKey, true));
+    }
+    fields.addHex(TXN_SIGNATURE, transaction.transactionSignature());
+    if (!transaction.memos().isEmpty() && fields.accepts(MEMOS)) {
+      ArrayWriter memos = new ArrayWriter();
+      for (MemoWrapper wrapper : transaction.memos()) {
+        Memo memo = wrapper.memo();
+        FieldList memoFields = memos.newObject();
+        memoFields.addHex(MEMO_DATA, memo.memoData());
+        memoFields.addHex(MEMO_FORMAT, memo.memoFormat());
+        memoFields.addHex(MEMO_TYPE, memo.memoType());
+        memos.writeObject(MEMO, memoFields);
+      }
+      fields.add(MEMOS, memos.build());
+    }
+    if (!transaction.signers().isEmpty() && fields.accepts(SIGNERS)) {
+      ArrayWriter signers = new ArrayWriter();
+      for (SignerWrapper wrapper : transaction.signers()) {
+        Signer signer = wrapper.signer();
+        FieldList signerFields = signers.newObject();
+        signerFields.addAccount(ACCOUNT, signer.account());
+        signerFields.addHex(TXN_SIGNATURE, signer.transactionSignature());
+        signerFields.addHex(SIGNING_PUB_KEY, signer.signingPublicKey());
+        signers.writeObject(SIGNER, signerFields);
+      }
+      fields.add(SIGNERS, signers.build());
+    }
+  }
+
+  private void addAccountDeleteFields(final AccountDelete transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAccount(DESTINATION, transaction.destination());
+    fields.addUInt(DESTINATION_TAG, transaction.destinationTag());
+  }
+
+  private void addAccountSetFields(final AccountSet transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    transaction.clearFlag().ifPresent(flag -> fields.addUInt(CLEAR_FLAG, flag.getValue()));
+    transaction.setFlag().ifPresent(flag -> fields.addUInt(SET_FLAG, flag.getValue()));
+    fields.addHex(DOMAIN, transaction.domain());
+    fields.addHex(EMAIL_HASH, transaction.emailHash());
+    fields.addHex(MESSAGE_KEY, transaction.messageKey());
+    fields.addUInt(TRANSFER_RATE, transaction.transferRate());
+    fields.addUInt(TICK_SIZE, transaction.tickSize());
+  }
+
+  private void addCheckCancelFields(final CheckCancel transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addHash(CHECK_ID, transaction.checkId());
+  }
+
+  private void addCheckCashFields(final CheckCash transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addHash(CHECK_ID, transaction.checkId());
+    fields.addAmount(AMOUNT, transaction.amount());
+    fields.addAmount(DELIVER_MIN, transaction.deliverMin());
+  }
+
+  private void addCheckCreateFields(final CheckCreate transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAccount(DESTINATION, transaction.destination());
+    fields.addUInt(DESTINATION_TAG, transaction.destinationTag());
+    fields.addAmount(SEND_MAX, transaction.sendMax());
+    fields.addUInt(EXPIRATION, transaction.expiration());
+    fields.addHash(INVOICE_ID, transaction.invoiceId());
+  }
+
+  private void addDepositPreAuthFields(final DepositPreAuth transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAccount(AUTHORIZE, transaction.authorize());
+    fields.addAccount(UNAUTHORIZE, transaction.unauthorize());
+  }
+
+  private void addEscrowCancelFields(final EscrowCancel transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAccount(OWNER, transaction.owner());
+    fields.addUInt(OFFER_SEQUENCE, transaction.offerSequence());
+  }
+
+  private void addEscrowCreateFields(final EscrowCreate transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAmount(AMOUNT, transaction.amount());
+    fields.addAccount(DESTINATION, transaction.destination());
+    fields.addUInt(DESTINATION_TAG, transaction.destinationTag());
+    transaction.cancelAfter().ifPresent(value -> fields.addUInt(CANCEL_AFTER, value));
+    transaction.finishAfter().ifPresent(value -> fields.addUInt(FINISH_AFTER, value));
+    transaction.condition().ifPresent(condition -> fields.addCondition(CONDITION, condition));
+  }
+
+  private void addEscrowFinishFields(final EscrowFinish transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAccount(OWNER, transaction.owner());
+    fields.addUInt(OFFER_SEQUENCE, transaction.offerSequence());
+    transaction.condition().ifPresent(condition -> fields.addCondition(CONDITION, condition));
+    transaction.fulfillment().ifPresent(fulfillment -> fields.addFulfillment(FULFILLMENT, fulfillment));
+  }
+
+  private void addOfferCancelFields(final OfferCancel transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addUInt(OFFER_SEQUENCE, transaction.offerSequence());
+  }
+
+  private void addOfferCreateFields(final OfferCreate transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addUInt(OFFER_SEQUENCE, transaction.offerSequence());
+    fields.addAmount(TAKER_PAYS, transaction.takerPays());
+    fields.addAmount(TAKER_GETS, transaction.takerGets());
+    fields.addUInt(EXPIRATION, transaction.expiration());
+  }
+
+  private void addPaymentFields(final Payment transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAmount(AMOUNT, transaction.amount());
+    fields.addAccount(DESTINATION, transaction.destination());
+    fields.addUInt(DESTINATION_TAG, transaction.destinationTag());
+    fields.addHash(INVOICE_ID, transaction.invoiceId());
+    if (!transaction.paths().isEmpty() && fields.accepts(PATHS)) {
+      fields.add(PATHS, pathSet(transaction.paths()));
+    }
+    fields.addAmount(SEND_MAX, transaction.sendMax());
+    fields.addAmount(DELIVER_MIN, transaction.deliverMin());
+  }
+
+  private void addPaymentChannelClaimFields(final PaymentChannelClaim transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addHash(CHANNEL, transaction.channel());
+    fields.addAmount(BALANCE, transaction.balance());
+    fields.addAmount(AMOUNT, transaction.amount());
+    fields.addHex(SIGNATURE, transaction.signature());
+    fields.addHex(PUBLIC_KEY, transaction.publicKey());
+  }
+
+  private void addPaymentChannelCreateFields(final PaymentChannelCreate transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAmount(AMOUNT, transaction.amount());
+    fields.addAccount(DESTINATION, transaction.destination());
+    fields.addUInt(SETTLE_DELAY, transaction.settleDelay());
+    fields.addHex(PUBLIC_KEY, transaction.publicKey());
+    transaction.cancelAfter().ifPresent(value -> fields.addUInt(CANCEL_AFTER, value));
+    fields.addUInt(DESTINATION_TAG, transaction.destinationTag());
+  }
+
+  private void addPaymentChannelFundFields(final PaymentChannelFund transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addHash(CHANNEL, transaction.channel());
+    fields.addAmount(AMOUNT, transaction.amount());
+    transaction.expiration().ifPresent(value -> fields.addUInt(EXPIRATION, value));
+  }
+
+  private void addSetRegularKeyFields(final SetRegularKey transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAccount(REGULAR_KEY, transaction.regularKey());
+  }
+
+  private void addSignerListSetFields(final SignerListSet transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addUInt(SIGNER_QUORUM, transaction.signerQuorum());
+    if (!transaction.signerEntries().isEmpty() && fields.accepts(SIGNER_ENTRIES)) {
+      ArrayWriter signerEntries = new ArrayWriter();
+      for (SignerEntryWrapper wrapper : transaction.signerEntries()) {
+        SignerEntry signerEntry = wrapper.signerEntry();
+        FieldList signerEntryFields = signerEntries.newObject();
+        signerEntryFields.addAccount(ACCOUNT, signerEntry.account());
+        signerEntryFields.addUInt(SIGNER_WEIGHT, signerEntry.signerWeight());
+        signerEntries.writeObject(SIGNER_ENTRY, signerEntryFields);
+      }
+      fields.add(SIGNER_ENTRIES, signerEntries.build());
+    }
+  }
+
+  private void addTrustSetFields(final TrustSet transaction, final FieldList fields) {
+    fields.addFlags(FLAGS, transaction.flags());
+    fields.addAmount(LIMIT_AMOUNT, transaction.limitAmount());
+    fields.addUInt(QUALITY_IN, transaction.qualityIn());
+    fields.addUInt(QUALITY_OUT, transaction.qualityOut());
+  }
+
+  /**
+   * Encode a list of paths the same way as {@link PathSetType#fromJson}: each path is a run of hops, paths are
+   * separated by a separator byte, and the final separator is replaced by the end byte.
+   */
+  private PathSetType pathSet(final List<List<PathStep>> paths) {
+    UnsignedByteArray bytes = UnsignedByteArray.empty();
+    for (List<PathStep> path : paths) {
+      for (PathStep step : path) {
+        int type = 0;
+        final int typeIndex = bytes.length();
+        bytes.append(UnsignedByte.of(0));
+        if (step.account().isPresent()) {
+          type |= HopType.TYPE_ACCOUNT;
+          new AccountIdType().fromAddress(step.account().get()).toBytesSink(bytes);
+        }
+        Optional<String> currency = step.currency().filter(value -> !value.isEmpty());
+        if (currency.isPresent()) {
+          type |= HopType.TYPE_CURRENCY;
+          new CurrencyType().fromCurrencyCode(currency.get()).toBytesSink(bytes);
+        }
+        if (step.issuer().isPresent()) {
+          type |= HopType.TYPE_ISSUER;
+          new AccountIdType().fromAddress(step.issuer().get()).toBytesSink(bytes);
+        }
+        bytes.set(typeIndex, UnsignedByte.of(type));
+      }
+      bytes.append(UnsignedByte.of(PathSetType.PATH_SEPARATOR_HEX));
+    }
+    bytes.set(bytes.length() - 1, UnsignedByte.of(PathSetType.PATHSET_END_HEX));
+    return new PathSetType(bytes);
+  }
+
+  private static FieldInstance field(final String name) {
+    return definitionsService.getFieldInstance(name)
+      .orElseThrow(() -> new IllegalStateException(name + " is not a known field"));
+  }
+
+  private static Map<TransactionType, UInt16Type> transactionTypeCodes() {
+    Map<TransactionType, UInt16Type> codes = new EnumMap<>(TransactionType.class);
+    for (TransactionType type : TransactionType.values()) {
+      definitionsService.mapFieldSpecialization(TRANSACTION_TYPE.name(), type.value())
+        .ifPresent(code -> codes.put(type, new UInt16Type(UnsignedLong.valueOf(code))));
+    }
+    return Collections.unmodifiableMap(codes);
+  }
+
+  /**
+   * The fields of one object, collected in any order and written in canonical field order.
+   */
+  private static class FieldList {
+
+    private final boolean signingFieldsOnly;
+
+    private final List<FieldWithValue<SerializedType<?>>> fields = new ArrayList<>();
+
+    FieldList(final boolean signingFieldsOnly) {
+      this.signingFieldsOnly = signingFieldsOnly;
+    }
+
+    boolean accepts(final FieldInstance field) {
+      return field.isSerialized() && (!signingFieldsOnly || field.isSigningField());
+    }
+
+    void add(final FieldInstance field, final SerializedType<?> value) {
+      if (accepts(field)) {
+        fields.add(FieldWithValue.<SerializedType<?>>builder().field(field).value(value).build());
+      }
+    }
+
+    void addFlags(final FieldInstance field, final Flags flags) {
+      addUInt(field, flags.getValue());
+    }
+
+    void addUInt(final FieldInstance field, final Optional<UnsignedInteger> value) {
+      value.ifPresent(present -> addUInt(field, present));
+    }
+
+    void addUInt(final FieldInstance field, final UnsignedInteger value) {
+      addUInt(field, value.longValue());
+    }
+
+    void addUInt(final FieldInstance field, final UnsignedLong value) {
+      addUInt(field, value.longValue());
+    }
+
+    void addUInt(final FieldInstance field, final long value) {
+      if (!accepts(field)) {
+        return;
+      }
+      UnsignedLong unsignedValue = UnsignedLong.fromLongBits(value);
+      switch (field.type()) {
+        case "UInt8":
+          add(field, new UInt8Type(unsignedValue));
+          break;
+        case "UInt16":
+          add(field, new UInt16Type(unsignedValue));
+          break;
+        case "UInt32":
+          add(field, new UInt32Type(unsignedValue));
+          break;
+        case "UInt64":
+          add(field, new UInt64Type(unsignedValue));
+          break;
+        default:
+          throw new IllegalArgumentException(field.name() + " is not an unsigned integer field");
+      }
+    }
+
+    void addHex(final FieldInstance field, final Optional<String> hex) {
+      hex.ifPresent(present -> addHex(field, present));
+    }
+
+    void addHex(final FieldInstance field, final String hex) {
+      addHex(field, hex, false);
+    }
+
+    void addHex(final FieldInstance field, final String hex, final boolean includeEmpty) {
+      if ((hex.isEmpty() && !includeEmpty) || !accepts(field)) {
+        return;
+      }
+      add(field, hexValue(field, UnsignedByteArray.fromHex(hex)));
+    }
+
+    void addHash(final FieldInstance field, final Optional<Hash256> hash) {
+      hash.ifPresent(present -> addHash(field, present));
+    }
+
+    void addHash(final FieldInstance field, final Hash256 hash) {
+      if (accepts(field)) {
+        add(field, hexValue(field, UnsignedByteArray.of(hash.toBytes())));
+      }
+    }
+
+    void addCondition(final FieldInstance field, final Condition condition) {
+      if (accepts(field)) {
+        try {
+          add(field, hexValue(field, UnsignedByteArray.of(CryptoConditionWriter.writeCondition(condition))));
+        } catch (DerEncodingException e) {
+          throw new IllegalArgumentException("Unable to encode " + field.name(), e);
+        }
+      }
+    }
+
+    void addFulfillment(final FieldInstance field, final Fulfillment<?> fulfillment) {
+      if (accepts(field)) {
+        try {
+          add(field, hexValue(field, UnsignedByteArray.of(CryptoConditionWriter.writeFulfillment(fulfillment))));
+        } catch (DerEncodingException e) {
+          throw new IllegalArgumentException("Unable to encode " + field.name(), e);
+        }
+      }
+    }
+
+    void addAccount(final FieldInstance field, final Optional<Address> address) {
+      address.ifPresent(present -> addAccount(field, present));
+    }
+
+    void addAccount(final FieldInstance field, final Address address) {
+      if (accepts(field)) {
+        add(field, new AccountIdType().fromAddress(address));
+      }
+    }
+
+    void addAmount(final FieldInstance field, final Optional<? extends CurrencyAmount> amount) {
+      amount.ifPresent(present -> addAmount(field, present));
+    }
+
+    void addAmount(final FieldInstance field, final CurrencyAmount amount) {
+      if (!accepts(field)) {
+        return;
+      }
+      if (amount instanceof XrpCurrencyAmount) {
+        add(field, new AmountType().fromDrops(((XrpCurrencyAmount) amount).value()));
+      } else if (amount instanceof IssuedCurrencyAmount) {
+        IssuedCurrencyAmount issuedAmount = (IssuedCurrencyAmount) amount;
+        add(field, new AmountType().fromIssuedCurrency(
+          issuedAmount.value(),
+          issuedAmount.currency(),
+          issuedAmount.issuer()
+        ));
+      } else {
+        throw new IllegalArgumentException("Unsupported CurrencyAmount type " + amount.getClass().getName());
+      }
+    }
+
+    private static SerializedType<?> hexValue(final FieldInstance field, final UnsignedByteArray bytes) {
+      switch (field.type()) {
+        case "Blob":
+          return new BlobType(bytes);
+        case "Hash128":
+          return new Hash128Type(bytes);
+        case "Hash160":
+          return new Hash160Type(bytes);
+        case "Hash256":
+          return new Hash256Type(bytes);
+        default:
+          throw new IllegalArgumentException(field.name() + " is not a hex field");
+      }
+    }
+
+    void writeTo(final BinarySerializer serializer) {
+      Collections.sort(fields);
+      for (FieldWithValue<SerializedType<?>> field : fields) {
+        serializer.writeFieldAndValue(field.field(), field.value());
+        if (field.field().type().equals(ST_OBJECT)) {
+          serializer.put(STObjectType.OBJECT_END_MARKER_BYTE);
+        }
+      }
+    }
+  }
+
+  /**
+   * Builds an {@link STArrayType} whose elements are single-field objects, such as {@code {"Memo": {...}}}.
+   */
+  private static class ArrayWriter {
+
+    private final UnsignedByteArray bytes = UnsignedByteArray.empty();
+
+    private final BinarySerializer serializer = new BinarySerializer(bytes);
+
+    FieldList newObject() {
+      return new FieldList(false);
+    }
+
+    void writeObject(final FieldInstance wrapperField, final FieldList fields) {
+      UnsignedByteArray objectBytes = UnsignedByteArray.empty();
+      fields.writeTo(new BinarySerializer(objectBytes));
+      serializer.writeFieldAndValue(wrapperField, new STObjectType(objectBytes));
+      serializer.put(STObjectType.OBJECT_END_MARKER_BYTE);
+    }
+
+    STArrayType build() {
+      serializer.put(STArrayType.ARRAY_END_MARKER_BYTE);
+      return new STArrayType(bytes);
+    }
+  }
+
+}
@@ -2,17 +2,17 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
-import com.fl.xrpl4j.model.transactions.Address;
 
 /**
  * Codec for XRPL AccountID type.
  */
 public class AccountIdType extends Hash160Type {
 
-  private static final AddressCodec addressCodec = new AddressCodec();
+  private static final AddressCodec addressCodec = AddressCodec.getCachingInstance();
 
   public AccountIdType() {
     this(UnsignedByteArray.ofSize(20));
@@ -38,9 +38,36 @@ public class AccountIdType extends Hash160Type {
       : new AccountIdType(addressCodec.decodeAccountId(Address.of(textValue)));
   }
 
+  /**
+   * Construct an {@link AccountIdType} from an {@link Address}, in the same way as {@link #fromJson(JsonNode)} does for
+   * a JSON string containing {@code address}.
+   *
+   * @param address An {@link Address}.
+   *
+   * @return An {@link AccountIdType}.
+   */
+  public AccountIdType fromAddress(Address address) {
+    String textValue = address.value();
+    if (textValue.isEmpty()) {
+      return new AccountIdType();
+    }
+    return HEX_REGEX.matcher(textValue).matches() ?
+      new AccountIdType(UnsignedByteArray.fromHex(textValue))
+      : new AccountIdType(addressCodec.decodeAccountId(address));
+  }
+
+  /**
+   * Convert this account ID to the classic {@link Address} that {@link #toJson()} would produce.
+   *
+   * @return An {@link Address}.
+   */
+  public Address toAddress() {
+    return addressCodec.encodeAccountId(value());
+  }
+
   @Override
   public JsonNode toJson() {
-    return new TextNode(addressCodec.encodeAccountId(value()).value());
+    return new TextNode(toAddress().value());
   }
 
 }
@@ -4,6 +4,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.CurrencyAmount;
+import com.fl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
+import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
@@ -17,10 +22,11 @@ import java.math.BigInteger;
 /**
  * Codec for XRPL Amount type.
  */
-class AmountType extends SerializedType<AmountType> {
+public class AmountType extends SerializedType<AmountType> {
 
   public static final BigDecimal MAX_DROPS = new BigDecimal("1e17");
   public static final BigDecimal MIN_XRP = new BigDecimal("1e-6");
+  private static final UnsignedLong MAX_DROPS_VALUE = UnsignedLong.valueOf(MAX_DROPS.longValueExact());
 
   public static final String DEFAULT_AMOUNT_HEX = "4000000000000000";
   public static final String ZERO_CURRENCY_AMOUNT_HEX = "8000000000000000";
@@ -30,6 +36,23 @@ class AmountType extends SerializedType<AmountType> {
   private static final int MIN_IOU_EXPONENT = -96;
   private static final int MAX_IOU_EXPONENT = 80;
 
+  private static final long NOT_NATIVE_BIT = 0x8000000000000000L;
+  private static final long POSITIVE_BIT = 0x4000000000000000L;
+  private static final long DROPS_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final long MANTISSA_MASK = 0x003FFFFFFFFFFFFFL;
+  private static final int EXPONENT_SHIFT = 54;
+  private static final int EXPONENT_BIAS = 97;
+  private static final long MIN_IOU_MANTISSA = 1_000_000_000_000_000L;
+  private static final long MAX_DROPS_LONG = MAX_DROPS.longValueExact();
+  private static final int MAX_DROPS_DIGITS = 18;
+  private static final int MAX_EXPLICIT_EXPONENT = 1000;
+
+  /**
+   * Returned by {@link #encodeIssuedValue(String)} when a value cannot be encoded with long arithmetic. Every valid
+   * issued currency encoding has its top bit set, so it can never be {@code 0}.
+   */
+  private static final long NO_FAST_PATH = 0;
+
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
 
   public AmountType() {
@@ -105,29 +128,212 @@ class AmountType extends SerializedType<AmountType> {
   @Override
   public AmountType fromJson(JsonNode value) throws JsonProcessingException {
     if (value.isValueNode()) {
+      long drops = parseDrops(value.asText());
+      if (drops >= 0) {
+        return nativeAmount(drops);
+      }
       assertXrpIsValid(value.asText());
-      UInt64Type number = new UInt64Type().fromJson(value.asText());
+      UInt64Type number = new UInt64Type(UnsignedLong.valueOf(value.asText()));
       byte[] rawBytes = number.toBytes();
       rawBytes[0] |= 0x40;
       return new AmountType(UnsignedByteArray.of(rawBytes));
     }
 
     Amount amount = objectMapper.treeToValue(value, Amount.class);
-    BigDecimal number = new BigDecimal(amount.value());
+    return issuedCurrencyAmount(
+      amount.value(),
+      new CurrencyType().fromJson(value.get("currency")),
+      new AccountIdType().fromJson(value.get("issuer"))
+    );
+  }
+
+  /**
+   * Construct an XRP {@link AmountType} from a number of drops, in the same way as {@link #fromJson(JsonNode)} does for
+   * a JSON string containing {@code drops}.
+   *
+   * @param drops An {@link UnsignedLong} number of drops.
+   *
+   * @return An {@link AmountType}.
+   */
+  public AmountType fromDrops(UnsignedLong drops) {
+    if (drops.compareTo(MAX_DROPS_VALUE) > 0) {
+      throw new IllegalArgumentException(drops + " is an illegal amount");
+    }
+    return nativeAmount(drops.longValue());
+  }
+
+  private static AmountType nativeAmount(long drops) {
+    return new AmountType(UnsignedByteArray.of(toBytes(drops | POSITIVE_BIT, NATIVE_AMOUNT_BYTE_LENGTH)));
+  }
+
+  /**
+   * Parse a plain, non-negative number of drops without going through {@link BigDecimal}.
+   *
+   * @param drops A {@link String} that may contain a number of drops.
+   *
+   * @return The number of drops, or {@code -1} if {@code drops} is not a plain number of at most {@link #MAX_DROPS}
+   *     drops and needs the slower, validating path.
+   */
+  private static long parseDrops(String drops) {
+    int length = drops.length();
+    if (length == 0 || length > MAX_DROPS_DIGITS) {
+      return -1;
+    }
+    long value = 0;
+    for (int i = 0; i < length; i++) {
+      char digit = drops.charAt(i);
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+      value = value * 10 + (digit - '0');
+    }
+    return value > MAX_DROPS_LONG ? -1 : value;
+  }
+
+  /**
+   * Construct an issued currency {@link AmountType}, in the same way as {@link #fromJson(JsonNode)} does for a JSON
+   * object with {@code value}, {@code currency} and {@code issuer} fields.
+   *
+   * @param value    A {@link String} containing the decimal value of the amount.
+   * @param currency A {@link String} containing the currency code.
+   * @param issuer   The {@link Address} of the issuer.
+   *
+   * @return An {@link AmountType}.
+   */
+  public AmountType fromIssuedCurrency(String value, String currency, Address issuer) {
+    return issuedCurrencyAmount(
+      value,
+      new CurrencyType().fromCurrencyCode(currency),
+      new AccountIdType().fromAddress(issuer)
+    );
+  }
+
+  private AmountType issuedCurrencyAmount(String value, CurrencyType currency, AccountIdType issuer) {
+    long amount = encodeIssuedValue(value);
+    if (amount != NO_FAST_PATH) {
+      byte[] bytes = toBytes(amount, CURRENCY_AMOUNT_BYTE_LENGTH);
+      currency.value().copyTo(bytes, NATIVE_AMOUNT_BYTE_LENGTH);
+      issuer.value().copyTo(bytes, NATIVE_AMOUNT_BYTE_LENGTH + currency.length());
+      return new AmountType(UnsignedByteArray.of(bytes));
+    }
+
+    BigDecimal number = new BigDecimal(value);
 
     UnsignedByteArray result = number.unscaledValue().equals(BigInteger.ZERO) ?
       UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
       getAmountBytes(number);
 
-    UnsignedByteArray currency = new CurrencyType().fromJson(value.get("currency")).value();
-    UnsignedByteArray issuer = new AccountIdType().fromJson(value.get("issuer")).value();
-
-    result.append(currency);
-    result.append(issuer);
+    result.append(currency.value());
+    result.append(issuer.value());
 
     return new AmountType(result);
   }
 
+  /**
+   * Normalize a decimal {@link String} into a mantissa in {@code [10^15, 10^16)} and an exponent using long arithmetic,
+   * and encode them as the first 8 bytes of an issued currency amount. Values that have more than 16 significant
+   * digits, an exponent that is out of range or an unusual format are left to the {@link BigDecimal} path, which
+   * produces the appropriate error.
+   *
+   * @param value A {@link String} containing a decimal number, optionally in scientific notation.
+   *
+   * @return The encoded amount as a long, or {@link #NO_FAST_PATH}.
+   */
+  private static long encodeIssuedValue(String value) {
+    int length = value.length();
+    int index = 0;
+    boolean negative = false;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      negative = value.charAt(0) == '-';
+      index++;
+    }
+
+    long mantissa = 0;
+    int exponent = 0;
+    int significantDigits = 0;
+    int pendingZeros = 0;
+    boolean seenDigit = false;
+    boolean seenPoint = false;
+    for (; index < length; index++) {
+      char character = value.charAt(index);
+      if (character == '.') {
+        if (seenPoint) {
+          return NO_FAST_PATH;
+        }
+        seenPoint = true;
+        continue;
+      }
+      if (character == 'e' || character == 'E') {
+        break;
+      }
+      if (character < '0' || character > '9') {
+        return NO_FAST_PATH;
+      }
+      seenDigit = true;
+      if (seenPoint) {
+        exponent--;
+      }
+      if (character == '0') {
+        // Zeros are only significant once another digit follows them.
+        if (mantissa != 0) {
+          pendingZeros++;
+        }
+        continue;
+      }
+      significantDigits += pendingZeros + 1;
+      if (significantDigits > MAX_IOU_PRECISION) {
+        return NO_FAST_PATH;
+      }
+      for (; pendingZeros > 0; pendingZeros--) {
+        mantissa *= 10;
+      }
+      mantissa = mantissa * 10 + (character - '0');
+    }
+    if (!seenDigit) {
+      return NO_FAST_PATH;
+    }
+    exponent += pendingZeros;
+
+    if (index < length) {
+      index++;
+      boolean negativeExponent = false;
+      if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+        negativeExponent = value.charAt(index) == '-';
+        index++;
+      }
+      if (index == length) {
+        return NO_FAST_PATH;
+      }
+      int explicitExponent = 0;
+      for (; index < length; index++) {
+        char character = value.charAt(index);
+        if (character < '0' || character > '9') {
+          return NO_FAST_PATH;
+        }
+        explicitExponent = explicitExponent * 10 + (character - '0');
+        if (explicitExponent > MAX_EXPLICIT_EXPONENT) {
+          return NO_FAST_PATH;
+        }
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+
+    if (mantissa == 0) {
+      return NOT_NATIVE_BIT;
+    }
+    while (mantissa < MIN_IOU_MANTISSA) {
+      mantissa *= 10;
+      exponent--;
+    }
+    int decimalExponent = exponent + MAX_IOU_PRECISION - 1;
+    if (decimalExponent > MAX_IOU_EXPONENT || decimalExponent < MIN_IOU_EXPONENT || exponent + EXPONENT_BIAS < 0) {
+      return NO_FAST_PATH;
+    }
+
+    long amount = NOT_NATIVE_BIT | ((long) (exponent + EXPONENT_BIAS) << EXPONENT_SHIFT) | mantissa;
+    return negative ? amount : amount | POSITIVE_BIT;
+  }
+
   private UnsignedByteArray getAmountBytes(BigDecimal number) {
     BigInteger paddedNumber = MathUtils.toPaddedBigInteger(number, 16);
     byte[] amountBytes = ByteUtils.toByteArray(paddedNumber, 8);
@@ -150,43 +356,142 @@ class AmountType extends SerializedType<AmountType> {
   @Override
   public JsonNode toJson() {
     if (this.isNative()) {
-      byte[] rawBytes = toBytes();
-      rawBytes[0] &= 0x3f;
-      BigInteger value = new BigInteger(rawBytes);
-      if (!this.isPositive()) {
-        value = value.negate();
+      return new TextNode(Long.toString(nativeValue()));
+    } else {
+      IssuedCurrencyAmount issuedAmount = toIssuedCurrencyAmount();
+      Amount amount = Amount.builder()
+        .currency(issuedAmount.currency())
+        .issuer(issuedAmount.issuer().value())
+        .value(issuedAmount.value())
+        .build();
+
+      return objectMapper.valueToTree(amount);
+    }
+  }
+
+  /**
+   * Convert this amount to the {@link CurrencyAmount} that the model's {@code ObjectMapper} would read from the JSON
+   * produced by {@link #toJson()}.
+   *
+   * @return An {@link XrpCurrencyAmount} for native amounts, otherwise an {@link IssuedCurrencyAmount}.
+   */
+  public CurrencyAmount toCurrencyAmount() {
+    if (this.isNative()) {
+      long drops = nativeValue();
+      if (drops < 0) {
+        throw new IllegalArgumentException(drops + " is an illegal amount");
       }
-      return new TextNode(value.toString());
+      return XrpCurrencyAmount.ofDrops(UnsignedLong.valueOf(drops));
+    }
+    return toIssuedCurrencyAmount();
+  }
+
+  private long nativeValue() {
+    long drops = readLong() & DROPS_MASK;
+    return this.isPositive() ? drops : -drops;
+  }
+
+  private IssuedCurrencyAmount toIssuedCurrencyAmount() {
+    int issuerOffset = NATIVE_AMOUNT_BYTE_LENGTH + Hash160Type.WIDTH;
+    CurrencyType currency = new CurrencyType(value().slice(NATIVE_AMOUNT_BYTE_LENGTH, issuerOffset));
+    AccountIdType issuer = new AccountIdType(value().slice(issuerOffset, CURRENCY_AMOUNT_BYTE_LENGTH));
+
+    String value = decodeIssuedValue(readLong());
+    if (value == null) {
+      value = decodeIssuedValueExactly();
+    }
+
+    return IssuedCurrencyAmount.builder()
+      .currency(currency.toCurrencyCode())
+      .issuer(issuer.toAddress())
+      .value(value)
+      .build();
+  }
+
+  /**
+   * Format the value of an issued currency amount in the same way as {@link BigDecimal#toPlainString()} would after
+   * stripping trailing zeros, using long arithmetic.
+   *
+   * @param amount The first 8 bytes of an issued currency amount.
+   *
+   * @return The formatted value, or {@code null} if the amount has too many digits or an exponent that is out of range
+   *     and needs the slower, validating path.
+   */
+  private static String decodeIssuedValue(long amount) {
+    long mantissa = amount & MANTISSA_MASK;
+    if (mantissa == 0) {
+      return "0";
+    }
+    int exponent = (int) ((amount >>> EXPONENT_SHIFT) & 0xFF) - EXPONENT_BIAS;
+    while (mantissa % 10 == 0) {
+      mantissa /= 10;
+      exponent++;
+    }
+
+    String digits = Long.toString(mantissa);
+    int decimalExponent = exponent + digits.length() - 1;
+    if (digits.length() > MAX_IOU_PRECISION || decimalExponent > MAX_IOU_EXPONENT ||
+      decimalExponent < MIN_IOU_EXPONENT) {
+      return null;
+    }
+
+    StringBuilder value = new StringBuilder(digits.length() + Math.abs(exponent) + 3);
+    if ((amount & POSITIVE_BIT) == 0) {
+      value.append('-');
+    }
+    int pointIndex = digits.length() + exponent;
+    if (exponent >= 0) {
+      value.append(digits);
+      for (int i = 0; i < exponent; i++) {
+        value.append('0');
+      }
+    } else if (pointIndex > 0) {
+      value.append(digits, 0, pointIndex).append('.').append(digits, pointIndex, digits.length());
     } else {
-      BinaryParser parser = new BinaryParser(this.toHex());
-      UnsignedByteArray mantissa = parser.read(8);
-      final SerializedType<?> currency = new CurrencyType().fromParser(parser);
-      final SerializedType<?> issuer = new AccountIdType().fromParser(parser);
+      value.append("0.");
+      for (int i = pointIndex; i < 0; i++) {
+        value.append('0');
+      }
+      value.append(digits);
+    }
+    return value.toString();
+  }
 
-      UnsignedByte b1 = mantissa.get(0);
-      UnsignedByte b2 = mantissa.get(1);
+  private String decodeIssuedValueExactly() {
+    UnsignedByteArray mantissa = value().slice(0, NATIVE_AMOUNT_BYTE_LENGTH);
+    UnsignedByte b1 = mantissa.get(0);
+    UnsignedByte b2 = mantissa.get(1);
 
-      boolean isPositive = b1.isNthBitSet(2);
-      String sign = isPositive ? "" : "-";
+    boolean isPositive = b1.isNthBitSet(2);
+    String sign = isPositive ? "" : "-";
 
-      int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
-      mantissa.set(0, UnsignedByte.of(0));
-      mantissa.set(1, UnsignedByte.of(b2.asInt() & 0x3f));
+    int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
+    String mantissaHex = "00" + Integer.toHexString(0x100 | (b2.asInt() & 0x3f)).substring(1) +
+      mantissa.slice(2, NATIVE_AMOUNT_BYTE_LENGTH).hexValue();
 
-      BigDecimal value = new BigDecimal(new BigInteger(sign + mantissa.hexValue(), 16))
-        .multiply(new BigDecimal("1e" + exponent))
-        .stripTrailingZeros();
+    BigDecimal value = new BigDecimal(new BigInteger(sign + mantissaHex, 16))
+      .multiply(new BigDecimal("1e" + exponent))
+      .stripTrailingZeros();
 
-      assertIouIsValid(value);
+    assertIouIsValid(value);
 
-      Amount amount = Amount.builder()
-        .currency(currency.toJson().asText())
-        .issuer(issuer.toJson().asText())
-        .value(value.toPlainString())
-        .build();
+    return value.toPlainString();
+  }
 
-      return objectMapper.valueToTree(amount);
+  private long readLong() {
+    long value = 0;
+    for (int i = 0; i < NATIVE_AMOUNT_BYTE_LENGTH; i++) {
+      value = (value << 8) | value().get(i).asInt();
+    }
+    return value;
+  }
+
+  private static byte[] toBytes(long amount, int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < NATIVE_AMOUNT_BYTE_LENGTH; i++) {
+      bytes[i] = (byte) (amount >>> (8 * (NATIVE_AMOUNT_BYTE_LENGTH - 1 - i)));
     }
+    return bytes;
   }
 
   /**
@@ -196,7 +501,7 @@ class AmountType extends SerializedType<AmountType> {
    */
   private boolean isNative() {
     // 1st bit in 1st byte is set to 0 for native XRP
-    return (toBytes()[0] & 0x80) == 0;
+    return (value().get(0).asInt() & 0x80) == 0;
   }
 
   /**
@@ -206,7 +511,7 @@ class AmountType extends SerializedType<AmountType> {
    */
   private boolean isPositive() {
     // 2nd bit in 1st byte is set to 1 for positive amounts
-    return (toBytes()[0] & 0x40) > 0;
+    return (value().get(0).asInt() & 0x40) > 0;
   }
 
 }
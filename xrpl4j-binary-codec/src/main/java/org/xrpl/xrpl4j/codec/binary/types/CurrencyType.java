@@ -43,7 +43,18 @@ public class CurrencyType extends Hash160Type {
 
   @Override
   public CurrencyType fromJson(JsonNode node) {
-    String textValue = node.textValue();
+    return fromCurrencyCode(node.textValue());
+  }
+
+  /**
+   * Construct a {@link CurrencyType} from a currency code, which is either a three character ISO code or 40 hex
+   * characters.
+   *
+   * @param textValue A {@link String} containing the currency code.
+   *
+   * @return A {@link CurrencyType}.
+   */
+  public CurrencyType fromCurrencyCode(String textValue) {
     if (!isValidRepresentation(textValue)) {
       throw new IllegalArgumentException("Unsupported Currency representation: " + textValue);
     }
@@ -51,9 +62,19 @@ public class CurrencyType extends Hash160Type {
     return new CurrencyType(bytes);
   }
 
+  /**
+   * Get the currency code that {@link #toJson()} would produce: the ISO code if this currency has a lossless ISO
+   * representation, otherwise 40 hex characters.
+   *
+   * @return A {@link String} containing the currency code.
+   */
+  public String toCurrencyCode() {
+    return iso.orElseGet(this::toHex);
+  }
+
   @Override
   public JsonNode toJson() {
-    return iso.map(TextNode::new).orElseGet(() -> new TextNode(toHex()));
+    return new TextNode(toCurrencyCode());
   }
 
   private boolean isNative(UnsignedByteArray byteList) {
@@ -1,6 +1,7 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fl.xrpl4j.model.transactions.Hash256;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
@@ -28,4 +29,24 @@ public class Hash256Type extends HashType<Hash256Type> {
   public Hash256Type fromJson(JsonNode node) {
     return new Hash256Type(UnsignedByteArray.fromHex(node.asText()));
   }
+
+  /**
+   * Construct a {@link Hash256Type} from a {@link Hash256}, without going through its hex representation.
+   *
+   * @param hash A {@link Hash256}.
+   *
+   * @return A {@link Hash256Type}.
+   */
+  public Hash256Type fromHash256(Hash256 hash) {
+    return new Hash256Type(UnsignedByteArray.of(hash.toBytes()));
+  }
+
+  /**
+   * Convert this hash to a {@link Hash256}.
+   *
+   * @return A {@link Hash256}.
+   */
+  public Hash256 toHash256() {
+    return Hash256.ofBytes(value().toByteArray());
+  }
 }
@@ -32,7 +32,7 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public HopType fromParser(BinaryParser parser) {
-    int type = parser.readUInt8().intValue();
+    int type = parser.readUInt8();
     UnsignedByteArray byteArray = UnsignedByteArray.of(UnsignedByte.of(type));
 
     if ((type & TYPE_ACCOUNT) > 0) {
@@ -80,8 +80,8 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toHex());
-    int type = parser.readUInt8().intValue();
+    BinaryParser parser = new BinaryParser(value());
+    int type = parser.readUInt8();
 
     ImmutableHop.Builder builder = Hop.builder();
 
@@ -94,7 +94,7 @@ public class HopType extends SerializedType<HopType> {
     }
 
     if ((type & TYPE_ISSUER) > 0) {
-      builder.account(new AccountIdType().fromParser(parser).toJson());
+      builder.issuer(new AccountIdType().fromParser(parser).toJson());
     }
 
     return objectMapper.valueToTree(builder.build());
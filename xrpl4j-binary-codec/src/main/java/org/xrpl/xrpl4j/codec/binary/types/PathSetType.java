@@ -66,7 +66,7 @@ public class PathSetType extends SerializedType<PathSetType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(value());
     List<JsonNode> values = new ArrayList<>();
 
     while (parser.hasMore()) {
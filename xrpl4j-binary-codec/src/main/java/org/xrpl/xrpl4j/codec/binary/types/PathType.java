@@ -22,6 +22,9 @@ public class PathType extends SerializedType<PathType> {
   public static final String PATHSET_END_HEX = "00";
   public static final String PATH_SEPARATOR_HEX = "FF";
 
+  private static final int PATHSET_END_BYTE = 0x00;
+  private static final int PATH_SEPARATOR_BYTE = 0xFF;
+
   public PathType() {
     this(UnsignedByteArray.empty());
   }
@@ -36,8 +39,8 @@ public class PathType extends SerializedType<PathType> {
 
     while (parser.hasMore()) {
       byteArray.append(new HopType().fromParser(parser).value());
-      String nextByte = parser.peek().hexValue();
-      if (nextByte.equals(PATH_SEPARATOR_HEX) || nextByte.equals(PATHSET_END_HEX)) {
+      int nextByte = parser.peek().asInt();
+      if (nextByte == PATH_SEPARATOR_BYTE || nextByte == PATHSET_END_BYTE) {
         break;
       }
     }
@@ -61,7 +64,7 @@ public class PathType extends SerializedType<PathType> {
   @Override
   public JsonNode toJson() {
     List<JsonNode> values = new ArrayList<>();
-    BinaryParser parser = new BinaryParser(this.toHex());
+    BinaryParser parser = new BinaryParser(value());
     while (parser.hasMore()) {
       values.add(new HopType().fromParser(parser).toJson());
     }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
@@ -22,6 +23,8 @@ public class STArrayType extends SerializedType<STArrayType> {
 
   public static final String ARRAY_END_MARKER_HEX = "F1";
 
+  public static final UnsignedByte ARRAY_END_MARKER_BYTE = UnsignedByte.of(0xF1);
+
   public static final String ARRAY_END_MARKER_NAME = "ArrayEndMarker";
 
   public STArrayType() {
@@ -45,9 +48,9 @@ public class STArrayType extends SerializedType<STArrayType> {
       }
       SerializedType<?> associatedValue = parser.readFieldValue(fieldInstance);
       serializer.writeFieldAndValue(fieldInstance, associatedValue);
-      serializer.put(STObjectType.OBJECT_END_MARKER_HEX);
+      serializer.put(STObjectType.OBJECT_END_MARKER_BYTE);
     }
-    serializer.put(ARRAY_END_MARKER_HEX);
+    serializer.put(ARRAY_END_MARKER_BYTE);
     return new STArrayType(byteArray);
   }
 
@@ -62,15 +65,15 @@ public class STArrayType extends SerializedType<STArrayType> {
     Iterator<JsonNode> nodeIterator = node.elements();
     while (nodeIterator.hasNext()) {
       JsonNode child = nodeIterator.next();
-      serializer.put(new STObjectType().fromJson(child).value().hexValue());
+      new STObjectType().writeJson(child, serializer);
     }
-    serializer.put(ARRAY_END_MARKER_HEX);
+    serializer.put(ARRAY_END_MARKER_BYTE);
     return new STArrayType(byteList);
   }
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(value());
     List<JsonNode> values = new ArrayList<>();
     while (parser.hasMore()) {
       FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
@@ -0,0 +1,110 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A read-only view of a binary STArray, such as the {@code Signers} of a multi-signed transaction. Each element is an
+ * object wrapped in a named field, like {@code {"Signer": {...}}} in JSON, and is returned as an {@link STObjectView}
+ * over the same bytes.
+ *
+ * @see STObjectView
+ */
+@SuppressWarnings("AbbreviationAsWordInName")
+public class STArrayView {
+
+  private final byte[] bytes;
+
+  private FieldInstance[] fields = new FieldInstance[4];
+  private int[] offsets = new int[4];
+  private int[] lengths = new int[4];
+  private int size;
+
+  /**
+   * Index the elements of the STArray in a range of a byte array. The range holds the elements of the array, without
+   * an array end marker after them.
+   */
+  STArrayView(final byte[] bytes, final int offset, final int length) {
+    this.bytes = bytes;
+
+    BinaryParser parser = new BinaryParser(bytes, offset, length);
+    while (parser.hasMore()) {
+      FieldInstance field = STObjectView.readField(parser);
+      if (field.name().equals(STArrayType.ARRAY_END_MARKER_NAME)) {
+        break;
+      }
+      int elementOffset = parser.position();
+      add(field, elementOffset, STObjectView.skipObject(parser) - elementOffset);
+    }
+  }
+
+  /**
+   * The number of elements in this array.
+   *
+   * @return The number of elements.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The name of the field that wraps an element, such as {@code "Signer"} or {@code "Memo"}.
+   *
+   * @param index The index of an element.
+   *
+   * @return The name of the field.
+   */
+  public String fieldName(final int index) {
+    Preconditions.checkElementIndex(index, size);
+    return fields[index].name();
+  }
+
+  /**
+   * Get an element of this array.
+   *
+   * @param index The index of an element.
+   *
+   * @return An {@link STObjectView} over the object wrapped by the element.
+   */
+  public STObjectView get(final int index) {
+    Preconditions.checkElementIndex(index, size);
+    return new STObjectView(bytes, offsets[index], lengths[index]);
+  }
+
+  /**
+   * Decode every element of this array to JSON.
+   *
+   * @return A {@link JsonNode} containing the same JSON as {@link STArrayType#toJson()}.
+   */
+  public JsonNode toJson() {
+    List<JsonNode> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(),
+        ImmutableMap.of(fields[i].name(), get(i).toJson())));
+    }
+    return new ArrayNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), values);
+  }
+
+  private void add(final FieldInstance field, final int offset, final int length) {
+    if (size == fields.length) {
+      fields = Arrays.copyOf(fields, size * 2);
+      offsets = Arrays.copyOf(offsets, size * 2);
+      lengths = Arrays.copyOf(lengths, size * 2);
+    }
+    fields[size] = field;
+    offsets[size] = offset;
+    lengths[size] = length;
+    size++;
+  }
+
+}
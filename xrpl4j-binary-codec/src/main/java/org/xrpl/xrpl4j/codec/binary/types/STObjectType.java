@@ -4,7 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
-import com.google.common.collect.Lists;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
@@ -13,6 +13,7 @@ import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinarySerializer;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,7 @@ import java.util.Map;
 public class STObjectType extends SerializedType<STObjectType> {
 
   public static final String OBJECT_END_MARKER_HEX = "E1";
+  public static final UnsignedByte OBJECT_END_MARKER_BYTE = UnsignedByte.of(0xE1);
   private static final String OBJECT_END_MARKER = "ObjectEndMarker";
   private static final String ST_OBJECT = "STObject";
   private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
@@ -50,7 +52,7 @@ public class STObjectType extends SerializedType<STObjectType> {
       SerializedType<?> associatedValue = parser.readFieldValue(field);
       serializer.writeFieldAndValue(field, associatedValue);
       if (field.type().equals(ST_OBJECT)) {
-        serializer.put(OBJECT_END_MARKER_HEX);
+        serializer.put(OBJECT_END_MARKER_BYTE);
       }
     }
     return new STObjectType(byteArray);
@@ -59,11 +61,24 @@ public class STObjectType extends SerializedType<STObjectType> {
   @Override
   public STObjectType fromJson(JsonNode node) {
     UnsignedByteArray byteList = UnsignedByteArray.empty();
-    BinarySerializer serializer = new BinarySerializer(byteList);
+    writeJson(node, new BinarySerializer(byteList));
+    return new STObjectType(byteList);
+  }
 
+  /**
+   * Serialize a JSON object straight into {@code serializer}, without first collecting its bytes into a new
+   * {@link STObjectType}.
+   *
+   * @param node       A {@link JsonNode} containing a JSON object.
+   * @param serializer The {@link BinarySerializer} to write the canonical binary form of {@code node} to.
+   */
+  public void writeJson(JsonNode node, BinarySerializer serializer) {
     List<FieldWithValue<JsonNode>> fields = new ArrayList<>();
-    for (String fieldName : Lists.newArrayList(node.fieldNames())) {
-      JsonNode fieldNode = node.get(fieldName);
+    Iterator<Map.Entry<String, JsonNode>> jsonFields = node.fields();
+    while (jsonFields.hasNext()) {
+      Map.Entry<String, JsonNode> jsonField = jsonFields.next();
+      String fieldName = jsonField.getKey();
+      JsonNode fieldNode = jsonField.getValue();
       definitionsService.getFieldInstance(fieldName)
         .filter(FieldInstance::isSerialized)
         .ifPresent(fieldInstance -> fields.add(FieldWithValue.<JsonNode>builder()
@@ -80,11 +95,9 @@ public class STObjectType extends SerializedType<STObjectType> {
           throw new IllegalArgumentException("invalid json", e);
         }
         if (value.field().type().equals(ST_OBJECT)) {
-          serializer.put(OBJECT_END_MARKER_HEX);
+          serializer.put(OBJECT_END_MARKER_BYTE);
         }
       });
-
-    return new STObjectType(byteList);
   }
 
   /**
@@ -98,7 +111,11 @@ public class STObjectType extends SerializedType<STObjectType> {
    * @return either the original fieldNode or a remapped node if it's one of these special cases.
    */
   private JsonNode mapSpecializedValues(String fieldName, JsonNode fieldNode) {
-    return definitionsService.mapFieldSpecialization(fieldName, fieldNode.asText())
+    if (!fieldNode.isTextual()) {
+      // only enum names need remapping, and those are always JSON strings
+      return fieldNode;
+    }
+    return definitionsService.mapFieldSpecialization(fieldName, fieldNode.textValue())
       .map(value -> new TextNode("" + value))
       .map(JsonNode.class::cast)
       .orElse(fieldNode);
@@ -110,7 +127,7 @@ public class STObjectType extends SerializedType<STObjectType> {
    * @return A {@link JsonNode}.
    */
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(value());
     Map<String, JsonNode> objectMap = new LinkedHashMap<>();
     while (parser.hasMore()) {
       FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
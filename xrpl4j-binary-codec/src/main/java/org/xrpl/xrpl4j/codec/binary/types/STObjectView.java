@@ -0,0 +1,489 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.CurrencyAmount;
+import com.fl.xrpl4j.model.transactions.Hash256;
+import com.google.common.base.Preconditions;
+import com.google.common.io.BaseEncoding;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.ByteSink;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A read-only view of a binary STObject, such as a transaction blob, that only decodes the fields it is asked for.
+ *
+ * <p>Creating a view makes a single pass over the bytes to find where the value of each field starts and ends,
+ * without decoding or copying any values. Each getter then decodes just the requested field, and nested objects and
+ * arrays are returned as views over the same bytes. The bytes are not copied, so they must not be modified while a
+ * view over them is in use.</p>
+ *
+ * <p>Only canonical binary can be viewed: creating a view of an object whose fields are not sorted by type and field
+ * code, or that repeats a field, throws an {@link IllegalArgumentException}.</p>
+ */
+@SuppressWarnings("AbbreviationAsWordInName")
+public class STObjectView {
+
+  static final String OBJECT_END_MARKER = "ObjectEndMarker";
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private final byte[] bytes;
+  private final int end;
+
+  private FieldInstance[] fields = new FieldInstance[16];
+  private int[] headerOffsets = new int[16];
+  private int[] offsets = new int[16];
+  private int[] lengths = new int[16];
+  private int size;
+  // the index just after the last field, before any object end marker
+  private int fieldsEnd;
+
+  /**
+   * Index the fields of the STObject in a range of a byte array. The range holds the fields of the object, without a
+   * field header before them or an object end marker after them.
+   *
+   * @throws IllegalArgumentException if the fields of the object, or of any object nested in it, are not in canonical
+   *                                  order.
+   */
+  STObjectView(final byte[] bytes, final int offset, final int length) {
+    this.bytes = bytes;
+    this.end = offset + length;
+
+    BinaryParser parser = new BinaryParser(bytes, offset, length);
+    while (parser.hasMore()) {
+      int headerOffset = parser.position();
+      FieldInstance field = readField(parser);
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        fieldsEnd = headerOffset;
+        return;
+      }
+      if (field.isVariableLengthEncoded()) {
+        int valueLength = parser.readVariableLengthLength();
+        add(field, headerOffset, parser.position(), valueLength);
+        parser.skip(valueLength);
+      } else {
+        int valueOffset = parser.position();
+        add(field, headerOffset, valueOffset, skipValue(parser, field) - valueOffset);
+      }
+    }
+    fieldsEnd = parser.position();
+  }
+
+  /**
+   * Construct a view over a binary STObject, such as a {@code tx_blob}. The array is not copied.
+   *
+   * @param bytes A byte array containing a binary STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(final byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return of(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Construct a view over a binary STObject in a range of a byte array. The array is not copied.
+   *
+   * @param bytes  A byte array containing a binary STObject.
+   * @param offset The index of the first byte of the STObject.
+   * @param length The number of bytes in the STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    return new STObjectView(bytes, offset, length);
+  }
+
+  /**
+   * Construct a view over the remaining bytes of a {@link ByteBuffer}. Array-backed buffers are viewed in place;
+   * other buffers are copied. The position of {@code buffer} is not modified.
+   *
+   * @param buffer A {@link ByteBuffer} containing a binary STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(final ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    if (buffer.hasArray()) {
+      return of(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    byte[] copy = new byte[buffer.remaining()];
+    buffer.duplicate().get(copy);
+    return of(copy);
+  }
+
+  /**
+   * Construct a view over a hex encoded binary STObject.
+   *
+   * @param hex A {@link String} containing a hex encoded STObject.
+   *
+   * @return An {@link STObjectView}.
+   */
+  public static STObjectView of(final String hex) {
+    Objects.requireNonNull(hex);
+    return of(UnsignedByteArray.fromHex(hex).toByteArray());
+  }
+
+  /**
+   * The number of fields in this object.
+   *
+   * @return The number of fields.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The names of the fields in this object, in the order in which they are serialized.
+   *
+   * @return A {@link List} of field names.
+   */
+  public List<String> fieldNames() {
+    List<String> names = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      names.add(fields[i].name());
+    }
+    return Collections.unmodifiableList(names);
+  }
+
+  /**
+   * Whether this object has a field.
+   *
+   * @param name The name of a field, such as {@code "Sequence"}.
+   *
+   * @return {@code true} if this object has a field called {@code name}.
+   */
+  public boolean has(final String name) {
+    return indexOf(name) >= 0;
+  }
+
+  /**
+   * Get the raw bytes of a field's value, without its field header or length prefix. Objects and arrays don't include
+   * their end markers.
+   *
+   * @param name The name of a field, such as {@code "SigningPubKey"}.
+   *
+   * @return A read-only {@link ByteBuffer} over the value of the field, or empty if this object doesn't have it.
+   */
+  public Optional<ByteBuffer> getBytes(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(ByteBuffer.wrap(bytes, offsets[index], lengths[index]).slice().asReadOnlyBuffer());
+  }
+
+  /**
+   * Get the raw bytes of a field's value as upper case hex, as {@link #getBytes(String)} would return them.
+   *
+   * @param name The name of a field.
+   *
+   * @return The hex encoded value of the field, or empty if this object doesn't have it.
+   */
+  public Optional<String> getHex(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(BaseEncoding.base16().encode(bytes, offsets[index], lengths[index]));
+  }
+
+  /**
+   * Get the value of a {@code UInt8}, {@code UInt16}, {@code UInt32} or {@code UInt64} field, such as
+   * {@code Sequence}. {@code UInt64} values of 2^63 or more are returned as negative longs.
+   *
+   * @param name The name of an unsigned integer field.
+   *
+   * @return The value of the field, or empty if this object doesn't have it.
+   */
+  public Optional<Long> getUInt(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    String type = fields[index].type();
+    Preconditions.checkArgument(type.startsWith("UInt"), "%s is not an unsigned integer", name);
+    long value = 0;
+    for (int i = offsets[index]; i < offsets[index] + lengths[index]; i++) {
+      value = (value << 8) | (bytes[i] & 0xFF);
+    }
+    return Optional.of(value);
+  }
+
+  /**
+   * Get the value of an {@code AccountID} field, such as {@code Account}.
+   *
+   * @param name The name of an {@code AccountID} field.
+   *
+   * @return The value of the field as an {@link Address}, or empty if this object doesn't have it.
+   */
+  public Optional<Address> getAddress(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    checkType(index, "AccountID");
+    return Optional.of(new AccountIdType(UnsignedByteArray.of(copyOfValue(index))).toAddress());
+  }
+
+  /**
+   * Get the value of an {@code Amount} field, such as {@code Fee}.
+   *
+   * @param name The name of an {@code Amount} field.
+   *
+   * @return The value of the field as a {@link CurrencyAmount}, or empty if this object doesn't have it.
+   */
+  public Optional<CurrencyAmount> getAmount(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    checkType(index, "Amount");
+    return Optional.of(new AmountType().fromParser(parser(index)).toCurrencyAmount());
+  }
+
+  /**
+   * Get the value of a {@code Hash256} field, such as {@code AccountTxnID}.
+   *
+   * @param name The name of a {@code Hash256} field.
+   *
+   * @return The value of the field as a {@link Hash256}, or empty if this object doesn't have it.
+   */
+  public Optional<Hash256> getHash256(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    checkType(index, "Hash256");
+    return Optional.of(Hash256.ofBytes(copyOfValue(index)));
+  }
+
+  /**
+   * Get a nested object, such as an element of {@code Memos}.
+   *
+   * @param name The name of an {@code STObject} field.
+   *
+   * @return An {@link STObjectView} over the nested object, or empty if this object doesn't have it.
+   */
+  public Optional<STObjectView> getObject(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    checkType(index, "STObject");
+    return Optional.of(new STObjectView(bytes, offsets[index], lengths[index]));
+  }
+
+  /**
+   * Get a nested array, such as {@code Signers} or {@code Memos}.
+   *
+   * @param name The name of an {@code STArray} field.
+   *
+   * @return An {@link STArrayView} over the nested array, or empty if this object doesn't have it.
+   */
+  public Optional<STArrayView> getArray(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    checkType(index, "STArray");
+    return Optional.of(new STArrayView(bytes, offsets[index], lengths[index]));
+  }
+
+  /**
+   * Decode a field of any type to the same JSON that {@link STObjectType#toJson()} produces for it. For example,
+   * {@code TransactionType} is returned as the name of the transaction type.
+   *
+   * @param name The name of a field.
+   *
+   * @return The value of the field as a {@link JsonNode}, or empty if this object doesn't have it.
+   */
+  public Optional<JsonNode> getJson(final String name) {
+    int index = indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(toJson(index));
+  }
+
+  /**
+   * Write the fields of this object that match {@code filter} to {@code sink}, in their original order. The header and
+   * value bytes of each field are copied as they are, without decoding the value. Because a view only accepts
+   * canonical STObjects, whose fields are sorted, the result is the same as encoding just the matching fields.
+   *
+   * @param filter A {@link Predicate} that selects the fields to write, such as
+   *               {@code FieldInstance::isSigningField}.
+   * @param sink   The {@link ByteSink} to write the fields to.
+   */
+  public void writeFields(final Predicate<FieldInstance> filter, final ByteSink sink) {
+    Objects.requireNonNull(filter);
+    Objects.requireNonNull(sink);
+    // write runs of adjacent matching fields with a single put
+    int runStart = -1;
+    for (int i = 0; i < size; i++) {
+      if (filter.test(fields[i])) {
+        if (runStart < 0) {
+          runStart = headerOffsets[i];
+        }
+      } else if (runStart >= 0) {
+        sink.put(bytes, runStart, headerOffsets[i] - runStart);
+        runStart = -1;
+      }
+    }
+    if (runStart >= 0) {
+      sink.put(bytes, runStart, fieldsEnd - runStart);
+    }
+  }
+
+  /**
+   * Decode every field of this object to JSON.
+   *
+   * @return A {@link JsonNode} containing the same JSON as {@link STObjectType#toJson()}.
+   */
+  public JsonNode toJson() {
+    Map<String, JsonNode> objectMap = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      objectMap.put(fields[i].name(), toJson(i));
+    }
+    return new ObjectNode(BinaryCodecObjectMapperFactory.getObjectMapper().getNodeFactory(), objectMap);
+  }
+
+  private JsonNode toJson(final int index) {
+    FieldInstance field = fields[index];
+    SerializedType<?> type = SerializedType.getTypeByName(field.type());
+    JsonNode value;
+    if (field.isVariableLengthEncoded()) {
+      value = type.fromParser(parser(index), lengths[index]).toJson();
+    } else {
+      value = type.fromParser(parser(index)).toJson();
+    }
+    return definitionsService.mapFieldRawValueToSpecialization(field.name(), value.asText())
+      .map(TextNode::new)
+      .map(JsonNode.class::cast)
+      .orElse(value);
+  }
+
+  private int indexOf(final String name) {
+    Objects.requireNonNull(name);
+    for (int i = 0; i < size; i++) {
+      if (fields[i].name().equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void checkType(final int index, final String type) {
+    Preconditions.checkArgument(
+      fields[index].type().equals(type), "%s is not a %s", fields[index].name(), type
+    );
+  }
+
+  private BinaryParser parser(final int index) {
+    return new BinaryParser(bytes, offsets[index], lengths[index]);
+  }
+
+  private byte[] copyOfValue(final int index) {
+    return Arrays.copyOfRange(bytes, offsets[index], offsets[index] + lengths[index]);
+  }
+
+  private void add(final FieldInstance field, final int headerOffset, final int offset, final int length) {
+    if (size > 0) {
+      checkCanonicalOrder(fields[size - 1], field);
+    }
+    if (size == fields.length) {
+      fields = Arrays.copyOf(fields, size * 2);
+      headerOffsets = Arrays.copyOf(headerOffsets, size * 2);
+      offsets = Arrays.copyOf(offsets, size * 2);
+      lengths = Arrays.copyOf(lengths, size * 2);
+    }
+    fields[size] = field;
+    headerOffsets[size] = headerOffset;
+    offsets[size] = offset;
+    lengths[size] = length;
+    size++;
+  }
+
+  static FieldInstance readField(final BinaryParser parser) {
+    return parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+  }
+
+  /**
+   * Move {@code parser} past the value of {@code field}, including the end marker of an object or array.
+   *
+   * @return The position just after the value, or of the end marker of an object or array.
+   */
+  static int skipValue(final BinaryParser parser, final FieldInstance field) {
+    switch (field.type()) {
+      case "STObject":
+        return skipObject(parser);
+      case "STArray":
+        return skipArray(parser);
+      default:
+        parser.skipFieldValue(field);
+        return parser.position();
+    }
+  }
+
+  /**
+   * Move {@code parser} past the fields of a nested object and its end marker.
+   *
+   * @return The position of the end marker.
+   */
+  static int skipObject(final BinaryParser parser) {
+    FieldInstance previous = null;
+    while (parser.hasMore()) {
+      int fieldStart = parser.position();
+      FieldInstance field = readField(parser);
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        return fieldStart;
+      }
+      if (previous != null) {
+        checkCanonicalOrder(previous, field);
+      }
+      skipValue(parser, field);
+      previous = field;
+    }
+    return parser.position();
+  }
+
+  private static void checkCanonicalOrder(final FieldInstance previous, final FieldInstance field) {
+    if (field.ordinal() <= previous.ordinal()) {
+      throw new IllegalArgumentException(
+        String.format("STObject is not canonical: %s follows %s", field.name(), previous.name())
+      );
+    }
+  }
+
+  private static int skipArray(final BinaryParser parser) {
+    while (parser.hasMore()) {
+      int fieldStart = parser.position();
+      FieldInstance field = readField(parser);
+      if (field.name().equals(STArrayType.ARRAY_END_MARKER_NAME)) {
+        return fieldStart;
+      }
+      skipObject(parser);
+    }
+    return parser.position();
+  }
+
+}
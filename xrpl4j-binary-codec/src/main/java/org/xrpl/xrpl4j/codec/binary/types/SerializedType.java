@@ -7,6 +7,7 @@ import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
+import org.xrpl.xrpl4j.codec.binary.serdes.ByteSink;
 
 import java.util.Map;
 import java.util.Objects;
@@ -35,6 +36,7 @@ public abstract class SerializedType<T extends SerializedType<T>> {
       .put("UInt8", () -> new UInt8Type())
       .put("UInt16", () -> new UInt16Type())
       .put("UInt32", () -> new UInt32Type())
+      .put("UInt64", () -> new UInt64Type())
       .put("Vector256", () -> new Vector256Type())
       .build();
   private final UnsignedByteArray bytes;
@@ -114,10 +116,7 @@ public abstract class SerializedType<T extends SerializedType<T>> {
   public T fromJson(String json) {
     try {
       JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-      UnsignedByteArray byteList = UnsignedByteArray.empty();
-      T newValue = fromJson(node);
-      newValue.toBytesSink(byteList);
-      return newValue;
+      return fromJson(node);
     } catch (JsonProcessingException e) {
       throw new IllegalArgumentException(e);
     }
@@ -157,6 +156,25 @@ public abstract class SerializedType<T extends SerializedType<T>> {
     list.append(this.bytes);
   }
 
+  /**
+   * Write this type's bytes to {@code sink}.
+   *
+   * @param sink A {@link ByteSink}.
+   */
+  public void toBytesSink(final ByteSink sink) {
+    Objects.requireNonNull(sink);
+    sink.put(this.bytes);
+  }
+
+  /**
+   * Get the number of bytes in the binary representation of this {@link SerializedType}.
+   *
+   * @return The length, in bytes.
+   */
+  public int length() {
+    return bytes.length();
+  }
+
   /**
    * Convert this {@link SerializedType} to a byte array.
    *
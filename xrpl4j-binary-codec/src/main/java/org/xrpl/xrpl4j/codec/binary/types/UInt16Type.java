@@ -20,7 +20,7 @@ public class UInt16Type extends UIntType<UInt16Type> {
 
   @Override
   public UInt16Type fromParser(BinaryParser parser) {
-    return new UInt16Type(parser.readUInt16());
+    return new UInt16Type(UnsignedLong.valueOf(parser.readUInt16()));
   }
 
   @Override
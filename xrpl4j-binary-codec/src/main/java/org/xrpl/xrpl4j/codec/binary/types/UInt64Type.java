@@ -1,11 +1,13 @@
 package org.xrpl.xrpl4j.codec.binary.types;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.binary.serdes.BinaryParser;
 
 /**
- * Codec for XRPL UInt64 type.
+ * Codec for XRPL UInt64 type. Unlike the narrower unsigned integers, UInt64 values are represented in JSON as 16
+ * hexadecimal characters, such as {@code "OwnerNode": "0000000000000000"}.
  */
 public class UInt64Type extends UIntType<UInt64Type> {
 
@@ -19,12 +21,17 @@ public class UInt64Type extends UIntType<UInt64Type> {
 
   @Override
   public UInt64Type fromParser(BinaryParser parser) {
-    return new UInt64Type(parser.readUInt64());
+    return new UInt64Type(UnsignedLong.fromLongBits(parser.readUInt64()));
   }
 
   @Override
   public UInt64Type fromJson(JsonNode value) {
-    return new UInt64Type(UnsignedLong.valueOf(value.asText()));
+    return new UInt64Type(UnsignedLong.valueOf(value.asText(), 16));
+  }
+
+  @Override
+  public JsonNode toJson() {
+    return new TextNode(toHex());
   }
 
 }
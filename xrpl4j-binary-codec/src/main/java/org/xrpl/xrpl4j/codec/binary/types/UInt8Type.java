@@ -20,7 +20,7 @@ public class UInt8Type extends UIntType<UInt8Type> {
 
   @Override
   public UInt8Type fromParser(BinaryParser parser) {
-    return new UInt8Type(parser.readUInt8());
+    return new UInt8Type(UnsignedLong.valueOf(parser.readUInt8()));
   }
 
   @Override
@@ -3,7 +3,6 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 
 /**
@@ -14,12 +13,30 @@ abstract class UIntType<T extends UIntType<T>> extends SerializedType<T> {
   private final UnsignedLong value;
 
   public UIntType(UnsignedLong value, int bitSize) {
-    super(UnsignedByteArray.fromHex(ByteUtils.padded(value.toString(16), bitSizeToHexLength(bitSize))));
+    super(toBytes(value, bitSize));
     this.value = value;
   }
 
-  private static int bitSizeToHexLength(int bitSize) {
-    return bitSize / 4;
+  /**
+   * Writes {@code value} as a big-endian unsigned integer that is {@code bitSize} bits wide.
+   *
+   * @param value   The {@link UnsignedLong} to write.
+   * @param bitSize The width of the integer, in bits.
+   *
+   * @return An {@link UnsignedByteArray} of {@code bitSize / 8} bytes.
+   */
+  private static UnsignedByteArray toBytes(UnsignedLong value, int bitSize) {
+    long bits = value.longValue();
+    if (bitSize < Long.SIZE && (bits >>> bitSize) != 0) {
+      throw new IllegalArgumentException(value + " does not fit in " + bitSize + " bits");
+    }
+    int byteSize = bitSize / Byte.SIZE;
+    byte[] bytes = new byte[byteSize];
+    for (int i = byteSize - 1; i >= 0; i--) {
+      bytes[i] = (byte) bits;
+      bits >>>= Byte.SIZE;
+    }
+    return UnsignedByteArray.of(bytes);
   }
 
   UnsignedLong valueOf() {
@@ -1,17 +1,28 @@
 package org.xrpl.xrpl4j.codec.binary;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fl.xrpl4j.model.transactions.Address;
 import com.google.common.base.Strings;
+import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.serdes.ByteBufferByteSink;
+import org.xrpl.xrpl4j.codec.binary.serdes.GrowableByteSink;
+import org.xrpl.xrpl4j.codec.binary.serdes.OutputStreamByteSink;
 import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
 import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 class XrplBinaryCodecTest {
@@ -26,6 +37,15 @@ class XrplBinaryCodecTest {
   public static final String MULTI_LEVEL_OBJECT_HEX = "EAEA011001021002E1E1";
 
   private XrplBinaryCodec encoder = new XrplBinaryCodec();
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private static Stream<CodecFixture> transactionFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().transactions().stream();
+  }
+
+  private static Stream<CodecFixture> accountStateFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().accountState().stream();
+  }
 
   private static Stream<Arguments> dataDrivenFixtures() throws IOException {
     return FixtureUtils.getDataDrivenFixtures().wholeObjectTests().stream()
@@ -82,6 +102,14 @@ class XrplBinaryCodecTest {
     assertThat(encoder.decode(hex)).isEqualTo(json);
   }
 
+  @Test
+  void encodeDecodeUInt64() throws JsonProcessingException {
+    String json = "{\"OwnerNode\":\"00000000000000FF\"}";
+    String hex = "3400000000000000FF";
+    assertThat(encoder.encode(json)).isEqualTo(hex);
+    assertThat(encoder.decode(hex)).isEqualTo(json);
+  }
+
   @Test
   void encodeDecodeBlob() throws JsonProcessingException {
     String json = "{\"Domain\":\"1234\"}";
@@ -120,6 +148,35 @@ class XrplBinaryCodecTest {
     assertThat(encoder.decode(hex)).isEqualTo(json);
   }
 
+  @Test
+  void encodeIntoReusedGrowableSink() throws JsonProcessingException {
+    GrowableByteSink sink = new GrowableByteSink(1);
+    encoder.encode(MULTI_LEVEL_OBJECT_JSON, sink);
+    assertThat(sink.hexValue()).isEqualTo(MULTI_LEVEL_OBJECT_HEX);
+
+    sink.reset();
+    encoder.encode(SIMPLE_JSON, sink);
+    assertThat(sink.hexValue()).isEqualTo(SIMPLE_HEX);
+    assertThat(sink.length()).isEqualTo(SIMPLE_HEX.length() / 2);
+  }
+
+  @Test
+  void encodeIntoOutputStreamSink() throws JsonProcessingException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    encoder.encode(SINGLE_LEVEL_OBJECT_JSON, new OutputStreamByteSink(outputStream));
+    assertThat(BaseEncoding.base16().encode(outputStream.toByteArray())).isEqualTo(SINGLE_OBJECT_HEX);
+  }
+
+  @Test
+  void encodeIntoByteBufferSink() throws JsonProcessingException {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    encoder.encode(SIMPLE_JSON, new ByteBufferByteSink(buffer));
+    buffer.flip();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    assertThat(BaseEncoding.base16().encode(bytes)).isEqualTo(SIMPLE_HEX);
+  }
+
   @Test
   void encodeForSigning() throws JsonProcessingException {
     String json =
@@ -140,6 +197,54 @@ class XrplBinaryCodecTest {
         "000000000000000000000001";
     assertThat(encoder.encode(json)).isNotEqualTo(encoder.encodeForSigning(json));
     assertThat(encoder.encodeForSigning(json)).isEqualTo(expected);
+
+    GrowableByteSink sink = new GrowableByteSink();
+    encoder.encodeForSigning(json, sink);
+    assertThat(sink.hexValue()).isEqualTo(expected);
+  }
+
+  @Test
+  void encodeBinaryForSigning() throws JsonProcessingException {
+    String json =
+      "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\",\"Fee\":\"789\"," +
+        "\"Sequence\":1,\"Flags\":2147614720,\"SourceTag\":1," +
+        "\"Amount\":{\"value\":\"1234567890123456\",\"currency\":\"USD\"," +
+        "\"issuer\":\"rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw\"}," +
+        "\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\",\"DestinationTag\":2," +
+        "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"," +
+        "\"TxnSignature\": \"12345678\"}";
+    UnsignedByteArray transaction = UnsignedByteArray.fromHex(encoder.encode(json));
+
+    assertThat(encoder.encodeForSigning(transaction).hexValue()).isEqualTo(encoder.encodeForSigning(json));
+
+    GrowableByteSink sink = new GrowableByteSink();
+    encoder.encodeForSigning(transaction.toByteArray(), sink);
+    assertThat(sink.hexValue()).isEqualTo(encoder.encodeForSigning(json));
+  }
+
+  @Test
+  void encodeBinaryForSigningRejectsNonCanonicalTransaction() {
+    // Flags after Sequence
+    byte[] transaction = UnsignedByteArray.fromHex("24000000012200000000").toByteArray();
+
+    assertThrows(
+      IllegalArgumentException.class, () -> encoder.encodeForSigning(transaction, new GrowableByteSink())
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactionFixtures")
+  void encodeBinaryForSigningMatchesJson(CodecFixture fixture) throws JsonProcessingException {
+    String json = fixture.json().toString();
+    assertThat(encoder.encodeForSigning(UnsignedByteArray.fromHex(fixture.binary())).hexValue())
+      .isEqualTo(encoder.encodeForSigning(json));
+  }
+
+  @ParameterizedTest
+  @MethodSource("accountStateFixtures")
+  void encodeDecodeLedgerObjects(CodecFixture fixture) throws JsonProcessingException {
+    assertThat(encoder.encode(fixture.json().toString())).isEqualTo(fixture.binary());
+    assertThat(objectMapper.readTree(encoder.decode(fixture.binary()))).isEqualTo(fixture.json());
   }
 
   @Test
@@ -165,6 +270,20 @@ class XrplBinaryCodecTest {
     assertThat(encoder.encodeForMultiSigning(json, signerAccountId)).isEqualTo(expected);
   }
 
+  @Test
+  void encodeForMultiSigningOnce() throws JsonProcessingException {
+    String json = "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\"," +
+      "\"Fee\":\"789\",\"Sequence\":1,\"Amount\":\"1000\",\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"," +
+      "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"," +
+      "\"TxnSignature\": \"12345678\"}";
+    MultiSigningPayload payload = encoder.encodeForMultiSigning(json);
+
+    for (String signer : new String[] {"rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN", "r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"}) {
+      assertThat(payload.forSigner(Address.of(signer)).hexValue())
+        .isEqualTo(encoder.encodeForMultiSigning(json, signer));
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("dataDrivenFixtures")
   void dataDriven(WholeObject wholeObject) throws IOException {
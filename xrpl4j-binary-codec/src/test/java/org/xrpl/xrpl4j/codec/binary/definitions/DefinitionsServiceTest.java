@@ -0,0 +1,50 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+import org.xrpl.xrpl4j.codec.binary.serdes.GrowableByteSink;
+
+/**
+ * Unit tests for {@link DefinitionsService}.
+ */
+class DefinitionsServiceTest {
+
+  private final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  @Test
+  void getFieldInstanceByNameAndByCodesReturnSameInstance() {
+    FieldInstance byName = definitionsService.getFieldInstance("Fee").get();
+    FieldInstance byCodes = definitionsService.getFieldInstance(6, 8).get();
+    FieldInstance byHeader = definitionsService.getFieldInstance(
+      FieldHeader.builder().typeCode(6).fieldCode(8).build()
+    ).get();
+
+    assertThat(byName.name()).isEqualTo("Fee");
+    assertThat(byName.type()).isEqualTo("Amount");
+    assertThat(byCodes).isSameAs(byName);
+    assertThat(byHeader).isSameAs(byName);
+  }
+
+  @Test
+  void getFieldInstanceWithUnknownCodes() {
+    assertThat(definitionsService.getFieldInstance(6, 200)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(250, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(10001, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(-1, -1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance("Foo")).isEmpty();
+  }
+
+  @Test
+  void writeHeader() {
+    GrowableByteSink sink = new GrowableByteSink();
+    definitionsService.getFieldInstance("Fee").get().writeHeader(sink);
+    definitionsService.getFieldInstance("LastLedgerSequence").get().writeHeader(sink);
+    definitionsService.getFieldInstance("CloseResolution").get().writeHeader(sink);
+    definitionsService.getFieldInstance("TickSize").get().writeHeader(sink);
+
+    assertThat(sink.hexValue()).isEqualTo("68" + "201B" + "0110" + "001010");
+  }
+
+}
@@ -0,0 +1,147 @@
+package org.xrpl.xrpl4j.codec.binary.hashing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.Hash256;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.util.Arrays;
+
+/**
+ * Unit tests for {@link XrplHashes}. The expected ledger object indexes are the {@code index} fields of the ledger
+ * objects in the JSON tests of the model.
+ */
+class XrplHashesTest {
+
+  private static final Address ACCOUNT = Address.of("rf1BiGeXwwQoi8Z2ueFYTEXSwuJYfV2Jpn");
+
+  @Test
+  void transactionId() {
+    UnsignedByteArray signedTransaction = UnsignedByteArray.fromHex(
+      "1200002280000000240000000461400000000000303968400000000000000A7321030D58EB48B4420B1F" +
+        "7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D4357446304402207B82800C3289427D6F60421CDF88545BEFC6A7C9CED15" +
+        "A2C53E39994E52BCED40220443865800626F7FD02B369A875FA449E6204A46C5910E406018776CC08C948CA81148049717CC94878" +
+        "9F32F267ADC2582484E3DFA698831495FD80922EDD581C663FF9F8E948D0E13CBBE41C"
+    );
+    Hash256 expected = Hash256.of("AD616E7F93DC9E5749222FCC644A95F19FB1893446A0FF47CA9B550F4D5DAB5D");
+
+    assertThat(XrplHashes.transactionId(signedTransaction)).isEqualTo(expected);
+    assertThat(XrplHashes.transactionId(signedTransaction.toByteArray())).isEqualTo(expected);
+  }
+
+  @Test
+  void accountRootIndex() {
+    assertThat(XrplHashes.accountRootIndex(ACCOUNT))
+      .isEqualTo(Hash256.of("13F1A95D7AAB7108D5CE7EEAF504B2894B8C674E6D68499076441C4837282BF8"));
+  }
+
+  @Test
+  void rippleStateIndex() {
+    Address counterparty = Address.of("rsA2LpzuawewSBQXkiju3YQTMzW13pAAdW");
+    Hash256 expected = Hash256.of("9CA88CDEDFF9252B3DE183CE35B038F57282BC9503CDFA1923EF9A95DF0D6F7B");
+
+    assertThat(XrplHashes.rippleStateIndex(ACCOUNT, counterparty, "USD")).isEqualTo(expected);
+    assertThat(XrplHashes.rippleStateIndex(counterparty, ACCOUNT, "USD")).isEqualTo(expected);
+    assertThat(XrplHashes.rippleStateIndex(ACCOUNT, counterparty, "0000000000000000000000005553440000000000"))
+      .isEqualTo(expected);
+    assertThat(XrplHashes.rippleStateIndex(ACCOUNT, counterparty, "EUR")).isNotEqualTo(expected);
+  }
+
+  @Test
+  void rippleStateIndexWithSameAccounts() {
+    assertThrows(IllegalArgumentException.class, () -> XrplHashes.rippleStateIndex(ACCOUNT, ACCOUNT, "USD"));
+  }
+
+  @Test
+  void offerIndex() {
+    assertThat(XrplHashes.offerIndex(Address.of("rBqb89MRQJnMPq8wTwEbtz4kvxrEDfcYvt"), UnsignedInteger.valueOf(866)))
+      .isEqualTo(Hash256.of("96F76F27D8A327FC48753167EC04A46AA0E382E6F57F32FD12274144D00F1797"));
+  }
+
+  @Test
+  void escrowIndex() {
+    assertThat(XrplHashes.escrowIndex(ACCOUNT, UnsignedInteger.valueOf(366)))
+      .isEqualTo(Hash256.of("DC5F3851D8A1AB622F957761E5963BC5BD439D5C24AC6AD7AC4523F0640244AC"));
+  }
+
+  @Test
+  void payChannelIndex() {
+    Address destination = Address.of("rBqb89MRQJnMPq8wTwEbtz4kvxrEDfcYvt");
+    UnsignedByteArray key = UnsignedByteArray.fromHex("0078")
+      .append(AddressCodec.getInstance().decodeAccountId(ACCOUNT))
+      .append(AddressCodec.getInstance().decodeAccountId(destination))
+      .append(UnsignedByteArray.fromHex("00000007"));
+    byte[] sha512 = Hashing.sha512().hashBytes(key.toByteArray()).asBytes();
+
+    assertThat(XrplHashes.payChannelIndex(ACCOUNT, destination, UnsignedInteger.valueOf(7)))
+      .isEqualTo(Hash256.ofBytes(Arrays.copyOf(sha512, 32)))
+      .isNotEqualTo(XrplHashes.payChannelIndex(destination, ACCOUNT, UnsignedInteger.valueOf(7)))
+      .isNotEqualTo(XrplHashes.payChannelIndex(ACCOUNT, destination, UnsignedInteger.valueOf(8)));
+  }
+
+  @Test
+  void checkIndex() {
+    assertThat(XrplHashes.checkIndex(Address.of("rUn84CUYbNjRoTQ6mSW7BVJPSVJNLb1QLo"), UnsignedInteger.valueOf(2)))
+      .isEqualTo(Hash256.of("49647F0D748DC3FE26BDACBC57F251AADEFFF391403EC9BF87C97F67E9977FB0"));
+  }
+
+  @Test
+  void signerListIndex() {
+    assertThat(XrplHashes.signerListIndex(ACCOUNT))
+      .isEqualTo(Hash256.of("A9C28A28B85CD533217F5C0A0C7767666B093FA58A0F2D80026FCC4CD932DDC7"));
+  }
+
+  @Test
+  void depositPreauthIndex() {
+    assertThat(XrplHashes.depositPreauthIndex(
+      Address.of("rsUiUMpnrgxQp24dJYZDhmV4bE3aBtQyt8"), Address.of("rEhxGqkqPPSxQ3P25J66ft5TwpzV14k2de")
+    )).isEqualTo(Hash256.of("4A255038CC3ADCC1A9C91509279B59908251728D0DAADB248FFE297D0F7E068C"));
+  }
+
+  @Test
+  void accountIdOverloadsMatchAddressOverloads() {
+    Address other = Address.of("rBqb89MRQJnMPq8wTwEbtz4kvxrEDfcYvt");
+    byte[] accountId = AddressCodec.getInstance().decodeAccountId(ACCOUNT).toByteArray();
+    byte[] otherId = AddressCodec.getInstance().decodeAccountId(other).toByteArray();
+    byte[] usd = UnsignedByteArray.fromHex("0000000000000000000000005553440000000000").toByteArray();
+    UnsignedInteger sequence = UnsignedInteger.valueOf(7);
+
+    assertThat(XrplHashes.accountRootIndex(accountId)).isEqualTo(XrplHashes.accountRootIndex(ACCOUNT));
+    assertThat(XrplHashes.rippleStateIndex(accountId, otherId, usd))
+      .isEqualTo(XrplHashes.rippleStateIndex(ACCOUNT, other, "USD"));
+    assertThat(XrplHashes.offerIndex(accountId, sequence)).isEqualTo(XrplHashes.offerIndex(ACCOUNT, sequence));
+    assertThat(XrplHashes.escrowIndex(accountId, sequence)).isEqualTo(XrplHashes.escrowIndex(ACCOUNT, sequence));
+    assertThat(XrplHashes.payChannelIndex(accountId, otherId, sequence))
+      .isEqualTo(XrplHashes.payChannelIndex(ACCOUNT, other, sequence));
+    assertThat(XrplHashes.checkIndex(accountId, sequence)).isEqualTo(XrplHashes.checkIndex(ACCOUNT, sequence));
+    assertThat(XrplHashes.signerListIndex(accountId)).isEqualTo(XrplHashes.signerListIndex(ACCOUNT));
+    assertThat(XrplHashes.depositPreauthIndex(accountId, otherId))
+      .isEqualTo(XrplHashes.depositPreauthIndex(ACCOUNT, other));
+  }
+
+  @Test
+  void accountIdOverloadsRejectWrongLengths() {
+    byte[] accountId = AddressCodec.getInstance().decodeAccountId(ACCOUNT).toByteArray();
+
+    assertThrows(IllegalArgumentException.class, () -> XrplHashes.accountRootIndex(new byte[19]));
+    assertThrows(IllegalArgumentException.class, () -> XrplHashes.offerIndex(new byte[21], UnsignedInteger.ONE));
+    assertThrows(IllegalArgumentException.class, () -> XrplHashes.depositPreauthIndex(accountId, new byte[0]));
+    assertThrows(
+      IllegalArgumentException.class, () -> XrplHashes.rippleStateIndex(accountId, new byte[20], new byte[3])
+    );
+  }
+
+  @Test
+  void sequenceIsUnsigned() {
+    assertThat(XrplHashes.offerIndex(ACCOUNT, UnsignedInteger.MAX_VALUE))
+      .isNotEqualTo(XrplHashes.offerIndex(ACCOUNT, UnsignedInteger.ZERO))
+      .isNotEqualTo(XrplHashes.checkIndex(ACCOUNT, UnsignedInteger.MAX_VALUE));
+  }
+
+}
@@ -0,0 +1,260 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.serdes.BinaryEventReader.Event;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+class BinaryEventReaderTest {
+
+  private static final String PAYMENT_JSON = "{\"Account\":\"r9TeThyi5xiuUUrFjtPKZiHcDxs7K9H6Rb\"," +
+    "\"Destination\":\"r4BPgS7DHebQiU31xWELvZawwSG2fSPJ7C\",\"TransactionType\":\"Payment\"," +
+    "\"Amount\":\"1000\",\"Fee\":\"12\",\"Sequence\":2,\"SigningPubKey\":\"\"," +
+    "\"Memos\":[{\"Memo\":{\"MemoData\":\"72656E74\"}},{\"Memo\":{\"MemoData\":\"01\"}}]}";
+
+  private static final String METADATA_JSON = "{\"AffectedNodes\":[{\"CreatedNode\":{" +
+    "\"LedgerEntryType\":\"Offer\"," +
+    "\"LedgerIndex\":\"96F76F27D8A327FC48753167EC04A46AA0E382E6F57F32FD12274144D00F1797\"," +
+    "\"NewFields\":{\"Account\":\"r9TeThyi5xiuUUrFjtPKZiHcDxs7K9H6Rb\"," +
+    "\"BookDirectory\":\"3B95C29205977C2136BBC70F21895F8C8F471C8522BF446E570FB52E7B5A8B2F\"," +
+    "\"BookNode\":\"0000000000000000\",\"OwnerNode\":\"000000000000000A\",\"Sequence\":2," +
+    "\"TakerGets\":\"1000\"," +
+    "\"TakerPays\":{\"currency\":\"USD\",\"value\":\"1\",\"issuer\":\"rMwjYedjc7qqtKYVLiAccJSmCwih4LnE2q\"}}}}," +
+    "{\"ModifiedNode\":{\"FinalFields\":{\"Account\":\"r9TeThyi5xiuUUrFjtPKZiHcDxs7K9H6Rb\"," +
+    "\"Balance\":\"99988\",\"Flags\":0,\"OwnerCount\":1,\"Sequence\":3}," +
+    "\"LedgerEntryType\":\"AccountRoot\"," +
+    "\"LedgerIndex\":\"13F1A95D7AAB7108D5CE7EEAF504B2894B8C674E6D68499076441C4837282BF8\"," +
+    "\"PreviousFields\":{\"Balance\":\"100000\",\"OwnerCount\":0,\"Sequence\":2}," +
+    "\"PreviousTxnID\":\"AD616E7F93DC9E5749222FCC644A95F19FB1893446A0FF47CA9B550F4D5DAB5D\"," +
+    "\"PreviousTxnLgrSeq\":5}}]," +
+    "\"TransactionIndex\":0,\"TransactionResult\":\"tesSUCCESS\"}";
+
+  private final XrplBinaryCodec codec = new XrplBinaryCodec();
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private static Stream<CodecFixture> transactionFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().transactions().stream();
+  }
+
+  private static Stream<CodecFixture> accountStateFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().accountState().stream();
+  }
+
+  private static Stream<WholeObject> wholeObjects() throws IOException {
+    return FixtureUtils.getDataDrivenFixtures().wholeObjectTests().stream();
+  }
+
+  @ParameterizedTest
+  @MethodSource({"transactionFixtures", "accountStateFixtures"})
+  void eventsMatchDecode(CodecFixture fixture) {
+    byte[] bytes = UnsignedByteArray.fromHex(fixture.binary()).toByteArray();
+
+    assertThat(readJson(new BinaryEventReader(bytes)).toString()).isEqualTo(codec.decode(fixture.binary()));
+    assertThat(readJson(new BinaryEventReader(new OneByteInputStream(bytes))).toString())
+      .isEqualTo(codec.decode(fixture.binary()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("wholeObjects")
+  void eventsMatchDecode(WholeObject wholeObject) {
+    byte[] bytes = UnsignedByteArray.fromHex(wholeObject.expectedHex()).toByteArray();
+
+    assertThat(readJson(new BinaryEventReader(bytes)).toString()).isEqualTo(codec.decode(wholeObject.expectedHex()));
+  }
+
+  @Test
+  void readMetadata() throws JsonProcessingException {
+    String hex = codec.encode(METADATA_JSON);
+    byte[] bytes = UnsignedByteArray.fromHex(hex).toByteArray();
+
+    assertThat(objectMapper.readTree(codec.decode(hex))).isEqualTo(objectMapper.readTree(METADATA_JSON));
+    assertThat(readJson(new BinaryEventReader(bytes)).toString()).isEqualTo(codec.decode(hex));
+    assertThat(readJson(new BinaryEventReader(new OneByteInputStream(bytes))).toString())
+      .isEqualTo(codec.decode(hex));
+  }
+
+  @Test
+  void readEvents() throws JsonProcessingException {
+    BinaryEventReader reader = new BinaryEventReader(UnsignedByteArray.fromHex(codec.encode(PAYMENT_JSON))
+      .toByteArray());
+    List<String> events = new ArrayList<>();
+    while (reader.hasNext()) {
+      Event event = reader.next();
+      events.add(event + reader.field().map(field -> " " + field.name()).orElse("") + " " + reader.depth());
+    }
+
+    assertThat(events).containsExactly(
+      "START_OBJECT 1",
+      "FIELD TransactionType 1", "VALUE TransactionType 1",
+      "FIELD Sequence 1", "VALUE Sequence 1",
+      "FIELD Amount 1", "VALUE Amount 1",
+      "FIELD Fee 1", "VALUE Fee 1",
+      "FIELD SigningPubKey 1", "VALUE SigningPubKey 1",
+      "FIELD Account 1", "VALUE Account 1",
+      "FIELD Destination 1", "VALUE Destination 1",
+      "FIELD Memos 1", "START_ARRAY Memos 2",
+      "FIELD Memo 2", "START_OBJECT Memo 3", "FIELD MemoData 3", "VALUE MemoData 3", "END_OBJECT Memo 2",
+      "FIELD Memo 2", "START_OBJECT Memo 3", "FIELD MemoData 3", "VALUE MemoData 3", "END_OBJECT Memo 2",
+      "END_ARRAY Memos 1",
+      "END_OBJECT 0"
+    );
+    assertThrows(NoSuchElementException.class, reader::next);
+  }
+
+  @Test
+  void readValues() throws JsonProcessingException {
+    BinaryEventReader reader = new BinaryEventReader(UnsignedByteArray.fromHex(codec.encode(PAYMENT_JSON))
+      .toByteArray());
+
+    assertThat(nextValue(reader, "TransactionType").hexValue()).isEqualTo("0000");
+    assertThat(reader.valueJson().textValue()).isEqualTo("Payment");
+    assertThat(nextValue(reader, "Fee").hexValue()).isEqualTo("400000000000000C");
+    assertThat(reader.valueJson().textValue()).isEqualTo("12");
+    assertThat(nextValue(reader, "SigningPubKey").length()).isEqualTo(0);
+    assertThat(reader.valueJson().textValue()).isEqualTo("");
+    assertThat(nextValue(reader, "Account").length()).isEqualTo(20);
+    assertThat(reader.valueJson().textValue()).isEqualTo("r9TeThyi5xiuUUrFjtPKZiHcDxs7K9H6Rb");
+
+    reader.next();
+    assertThat(reader.currentEvent()).isEqualTo(Event.FIELD);
+    assertThrows(IllegalStateException.class, reader::value);
+  }
+
+  @Test
+  void skipChildren() throws JsonProcessingException {
+    BinaryEventReader reader = new BinaryEventReader(UnsignedByteArray.fromHex(codec.encode(PAYMENT_JSON))
+      .toByteArray());
+
+    while (!reader.field().map(FieldInstance::name).orElse("").equals("Memos")) {
+      reader.next();
+    }
+    assertThat(reader.next()).isEqualTo(Event.START_ARRAY);
+    reader.skipChildren();
+
+    assertThat(reader.currentEvent()).isEqualTo(Event.END_ARRAY);
+    assertThat(reader.depth()).isEqualTo(1);
+    assertThat(reader.next()).isEqualTo(Event.END_OBJECT);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void truncatedInput() throws JsonProcessingException {
+    byte[] bytes = UnsignedByteArray.fromHex(codec.encode(PAYMENT_JSON)).toByteArray();
+    BinaryEventReader reader = new BinaryEventReader(Arrays.copyOf(bytes, bytes.length - 2));
+
+    UncheckedIOException exception = assertThrows(UncheckedIOException.class, () -> readJson(reader));
+    assertThat(exception.getCause()).isInstanceOf(EOFException.class);
+  }
+
+  @Test
+  void closeClosesStream() throws IOException {
+    ClosingInputStream inputStream = new ClosingInputStream();
+    try (BinaryEventReader reader = new BinaryEventReader(inputStream)) {
+      assertThat(reader.next()).isEqualTo(Event.START_OBJECT);
+      assertThat(reader.next()).isEqualTo(Event.END_OBJECT);
+    }
+    assertThat(inputStream.closed).isTrue();
+  }
+
+  private UnsignedByteArray nextValue(BinaryEventReader reader, String fieldName) {
+    while (reader.next() != Event.VALUE || !reader.field().get().name().equals(fieldName)) {
+      assertThat(reader.hasNext()).isTrue();
+    }
+    return reader.value();
+  }
+
+  /**
+   * Rebuild the JSON of the top-level object from the events of {@code reader}.
+   */
+  private JsonNode readJson(BinaryEventReader reader) {
+    assertThat(reader.next()).isEqualTo(Event.START_OBJECT);
+    return readObject(reader);
+  }
+
+  private ObjectNode readObject(BinaryEventReader reader) {
+    ObjectNode object = objectMapper.createObjectNode();
+    while (reader.next() == Event.FIELD) {
+      String name = reader.field().get().name();
+      switch (reader.next()) {
+        case START_OBJECT:
+          object.set(name, readObject(reader));
+          break;
+        case START_ARRAY:
+          object.set(name, readArray(reader));
+          break;
+        default:
+          object.set(name, reader.valueJson());
+      }
+    }
+    assertThat(reader.currentEvent()).isEqualTo(Event.END_OBJECT);
+    return object;
+  }
+
+  private ArrayNode readArray(BinaryEventReader reader) {
+    ArrayNode array = objectMapper.createArrayNode();
+    while (reader.next() == Event.FIELD) {
+      String name = reader.field().get().name();
+      assertThat(reader.next()).isEqualTo(Event.START_OBJECT);
+      array.add(objectMapper.createObjectNode().set(name, readObject(reader)));
+    }
+    assertThat(reader.currentEvent()).isEqualTo(Event.END_ARRAY);
+    return array;
+  }
+
+  /**
+   * An {@link InputStream} that returns at most one byte from each read.
+   */
+  private static class OneByteInputStream extends FilterInputStream {
+
+    OneByteInputStream(byte[] bytes) {
+      super(new ByteArrayInputStream(bytes));
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      return super.read(bytes, offset, Math.min(length, 1));
+    }
+  }
+
+  private static class ClosingInputStream extends ByteArrayInputStream {
+
+    private boolean closed;
+
+    ClosingInputStream() {
+      super(new byte[0]);
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+}
@@ -0,0 +1,92 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
+
+import java.nio.ByteBuffer;
+
+class BinaryParserTest {
+
+  private static final String HEX = "FF0102030405060708090A0B0C0D0E0F10FFFFFFFFFFFFFFFF";
+
+  @Test
+  void readUIntsFromHex() {
+    BinaryParser parser = new BinaryParser(HEX);
+    assertThat(parser.size()).isEqualTo(25);
+    assertThat(parser.peek()).isEqualTo(UnsignedByte.of(0xFF));
+    assertThat(parser.readUInt8()).isEqualTo(0xFF);
+    assertThat(parser.readUInt16()).isEqualTo(0x0102);
+    assertThat(parser.readUInt32()).isEqualTo(0x03040506L);
+    assertThat(parser.readUInt64()).isEqualTo(0x0708090A0B0C0D0EL);
+    assertThat(parser.read(2).hexValue()).isEqualTo("0F10");
+    assertThat(parser.readUInt64()).isEqualTo(-1L);
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readUInt32IsUnsigned() {
+    assertThat(new BinaryParser("FFFFFFFF").readUInt32()).isEqualTo(0xFFFFFFFFL);
+  }
+
+  @Test
+  void readFromByteArrayRange() {
+    byte[] bytes = BaseEncoding.base16().decode(HEX);
+    BinaryParser parser = new BinaryParser(bytes, 1, 3);
+    assertThat(parser.size()).isEqualTo(3);
+    assertThat(parser.readUInt8()).isEqualTo(0x01);
+    assertThat(parser.readUInt16()).isEqualTo(0x0203);
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readFromByteBuffer() {
+    ByteBuffer buffer = ByteBuffer.wrap(BaseEncoding.base16().decode(HEX));
+    buffer.position(1);
+    BinaryParser parser = new BinaryParser(buffer);
+    assertThat(parser.readUInt16()).isEqualTo(0x0102);
+    assertThat(buffer.position()).isEqualTo(1);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(2);
+    direct.put((byte) 0xAB).put((byte) 0xCD).flip();
+    assertThat(new BinaryParser(direct).readUInt16()).isEqualTo(0xABCD);
+  }
+
+  @Test
+  void skip() {
+    BinaryParser parser = new BinaryParser("000102");
+    parser.skip(2);
+    assertThat(parser.readUInt8()).isEqualTo(2);
+  }
+
+  @Test
+  void readPastEnd() {
+    BinaryParser parser = new BinaryParser("0001");
+    assertThrows(IndexOutOfBoundsException.class, parser::readUInt32);
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.read(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.skip(3));
+    assertThat(parser.readUInt16()).isEqualTo(1);
+    assertThrows(IndexOutOfBoundsException.class, parser::peek);
+  }
+
+  @Test
+  void readZeroBytesAtEnd() {
+    BinaryParser parser = new BinaryParser("00");
+    assertThat(parser.readVariableLengthLength()).isEqualTo(0);
+    assertThat(parser.hasMore()).isFalse();
+    assertThat(parser.read(0).length()).isEqualTo(0);
+    assertThrows(IndexOutOfBoundsException.class, () -> parser.read(1));
+  }
+
+  @Test
+  void readVariableLengthLength() {
+    assertThat(new BinaryParser("C0").readVariableLengthLength()).isEqualTo(192);
+    assertThat(new BinaryParser("C100").readVariableLengthLength()).isEqualTo(193);
+    assertThat(new BinaryParser("F0FF").readVariableLengthLength()).isEqualTo(12480);
+    assertThat(new BinaryParser("F10000").readVariableLengthLength()).isEqualTo(12481);
+  }
+
+}
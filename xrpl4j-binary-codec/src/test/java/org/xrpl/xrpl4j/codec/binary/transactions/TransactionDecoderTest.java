@@ -0,0 +1,67 @@
+package org.xrpl.xrpl4j.codec.binary.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fl.xrpl4j.model.jackson.ObjectMapperFactory;
+import com.fl.xrpl4j.model.transactions.Transaction;
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+
+/**
+ * Unit tests for {@link TransactionDecoder} that check its output against the JSON-based {@link XrplBinaryCodec}.
+ */
+class TransactionDecoderTest {
+
+  private static final String TRANSACTIONS =
+    "org.xrpl.xrpl4j.codec.binary.transactions.TransactionEncoderTest#transactions";
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+  private final TransactionEncoder encoder = new TransactionEncoder();
+  private final TransactionDecoder decoder = new TransactionDecoder();
+
+  @ParameterizedTest
+  @MethodSource(TRANSACTIONS)
+  void decodeRoundTrips(Transaction transaction) {
+    // Non-canonical inputs such as "1.5e-3" or empty blobs only survive the round trip in their canonical form,
+    // so compare the re-encoded bytes rather than the objects.
+    UnsignedByteArray encoded = encoder.encode(transaction);
+    assertThat(encoder.encode(decoder.decode(encoded))).isEqualTo(encoded);
+  }
+
+  @ParameterizedTest
+  @MethodSource(TRANSACTIONS)
+  void decodeMatchesJsonDecoding(Transaction transaction) throws JsonProcessingException {
+    String hex = encoder.encode(transaction).hexValue();
+    Transaction expected = objectMapper.readValue(binaryCodec.decode(hex), Transaction.class);
+
+    assertThat(decoder.decode(hex)).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @MethodSource(TRANSACTIONS)
+  void decodeFromOffset(Transaction transaction) {
+    byte[] encoded = encoder.encode(transaction).toByteArray();
+    byte[] padded = new byte[encoded.length + 6];
+    System.arraycopy(encoded, 0, padded, 3, encoded.length);
+
+    assertThat(decoder.decode(padded, 3, encoded.length)).isEqualTo(decoder.decode(encoded));
+  }
+
+  @Test
+  void decodeUnsupportedTransactionType() {
+    // TransactionType 100 (EnableAmendment) is a pseudo-transaction with no model class.
+    String hex = "120064" + "68400000000000000A";
+    assertThatThrownBy(() -> decoder.decode(BaseEncoding.base16().decode(hex)))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("Unsupported transaction type");
+  }
+
+}
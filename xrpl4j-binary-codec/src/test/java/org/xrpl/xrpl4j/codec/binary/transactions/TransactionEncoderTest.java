@@ -0,0 +1,331 @@
+package org.xrpl.xrpl4j.codec.binary.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fl.xrpl4j.model.flags.Flags;
+import com.fl.xrpl4j.model.jackson.ObjectMapperFactory;
+import com.fl.xrpl4j.model.ledger.SignerEntry;
+import com.fl.xrpl4j.model.ledger.SignerEntryWrapper;
+import com.fl.xrpl4j.model.transactions.AccountDelete;
+import com.fl.xrpl4j.model.transactions.AccountSet;
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.CheckCash;
+import com.fl.xrpl4j.model.transactions.CheckCreate;
+import com.fl.xrpl4j.model.transactions.DepositPreAuth;
+import com.fl.xrpl4j.model.transactions.EscrowCreate;
+import com.fl.xrpl4j.model.transactions.EscrowFinish;
+import com.fl.xrpl4j.model.transactions.Hash256;
+import com.fl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import com.fl.xrpl4j.model.transactions.Memo;
+import com.fl.xrpl4j.model.transactions.MemoWrapper;
+import com.fl.xrpl4j.model.transactions.OfferCancel;
+import com.fl.xrpl4j.model.transactions.OfferCreate;
+import com.fl.xrpl4j.model.transactions.PathStep;
+import com.fl.xrpl4j.model.transactions.Payment;
+import com.fl.xrpl4j.model.transactions.PaymentChannelClaim;
+import com.fl.xrpl4j.model.transactions.PaymentChannelCreate;
+import com.fl.xrpl4j.model.transactions.PaymentChannelFund;
+import com.fl.xrpl4j.model.transactions.SetRegularKey;
+import com.fl.xrpl4j.model.transactions.Signer;
+import com.fl.xrpl4j.model.transactions.SignerListSet;
+import com.fl.xrpl4j.model.transactions.SignerWrapper;
+import com.fl.xrpl4j.model.transactions.Transaction;
+import com.fl.xrpl4j.model.transactions.TrustSet;
+import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import com.ripple.cryptoconditions.CryptoConditionReader;
+import com.ripple.cryptoconditions.der.DerEncodingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.MultiSigningPayload;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.serdes.GrowableByteSink;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link TransactionEncoder} that check its output against the JSON-based {@link XrplBinaryCodec}.
+ */
+class TransactionEncoderTest {
+
+  private static final Address ACCOUNT = Address.of("rfkE1aSy9G8Upk4JssnwBxhEv5p4mn2KTy");
+  private static final Address DESTINATION = Address.of("rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe");
+  private static final Address ISSUER = Address.of("rUx4xgE7bNWCCgGcXv1CCoQyTcCeZ275YG");
+  private static final Address SIGNER = Address.of("rGWrZyQqhTp9Xu7G5Pkayo7bXjH4k4QYpf");
+  private static final String PUBLIC_KEY = "ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A";
+  private static final String SIGNATURE = "56C9A7F5E1A3C4F0F6B2BD4B4B3B9A8EF0C8C4D0E5A9E2B7A4F0C3D2E1F0A9B8" +
+    "56C9A7F5E1A3C4F0F6B2BD4B4B3B9A8EF0C8C4D0E5A9E2B7A4F0C3D2E1F0A9B8";
+  private static final Hash256 HASH =
+    Hash256.of("838766BA2B995C00744175F69A1B11E32C3DBC40E64801A4056FCBD657F57334");
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+  private final XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+  private final TransactionEncoder encoder = new TransactionEncoder();
+
+  private static IssuedCurrencyAmount issuedAmount(String value) {
+    return IssuedCurrencyAmount.builder()
+      .currency("USD")
+      .issuer(ISSUER)
+      .value(value)
+      .build();
+  }
+
+  static Stream<Transaction> transactions() throws DerEncodingException {
+    return Stream.of(
+      AccountSet.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(10))
+        .sequence(UnsignedInteger.valueOf(10598))
+        .build(),
+      AccountSet.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(10))
+        .sequence(UnsignedInteger.ONE)
+        .setFlag(AccountSet.AccountSetFlag.REQUIRE_DEST)
+        .clearFlag(AccountSet.AccountSetFlag.DISALLOW_XRP)
+        .domain("6578616D706C652E636F6D")
+        .emailHash("F9879D71855B5FF21E4963273A886BFC")
+        .messageKey("")
+        .transferRate(UnsignedInteger.valueOf(1000000001))
+        .tickSize(UnsignedInteger.valueOf(5))
+        .signingPublicKey(PUBLIC_KEY)
+        .transactionSignature(SIGNATURE)
+        .lastLedgerSequence(UnsignedInteger.valueOf(123456))
+        .sourceTag(UnsignedInteger.valueOf(7))
+        .accountTransactionId(HASH)
+        .addMemos(MemoWrapper.builder()
+          .memo(Memo.builder().memoData("72656E74").memoType("687474703A2F2F6578616D706C652E636F6D").build())
+          .build())
+        .build(),
+      AccountDelete.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(5000000))
+        .sequence(UnsignedInteger.valueOf(2470665))
+        .destination(DESTINATION)
+        .destinationTag(UnsignedInteger.valueOf(13))
+        .build(),
+      CheckCash.builder()
+        .account(ACCOUNT)
+        .checkId(HASH)
+        .sequence(UnsignedInteger.ONE)
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .deliverMin(issuedAmount("100"))
+        .build(),
+      CheckCreate.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.ONE)
+        .destination(DESTINATION)
+        .destinationTag(UnsignedInteger.ONE)
+        .sendMax(XrpCurrencyAmount.ofDrops(100000000))
+        .expiration(UnsignedInteger.valueOf(570113521))
+        .invoiceId(HASH)
+        .build(),
+      DepositPreAuth.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(10))
+        .sequence(UnsignedInteger.valueOf(2))
+        .authorize(DESTINATION)
+        .build(),
+      EscrowCreate.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.ONE)
+        .amount(XrpCurrencyAmount.ofDrops(10000))
+        .destination(DESTINATION)
+        .destinationTag(UnsignedInteger.valueOf(23480))
+        .cancelAfter(UnsignedLong.valueOf(533257958))
+        .finishAfter(UnsignedLong.valueOf(533171558))
+        .condition(CryptoConditionReader.readCondition(BaseEncoding.base16().decode(
+          "A0258020E3B0C44298FC1C149AFBF4C8996FB92427AE41E4649B934CA495991B7852B855810100"
+        )))
+        .build(),
+      EscrowFinish.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(330))
+        .sequence(UnsignedInteger.valueOf(3))
+        .owner(DESTINATION)
+        .offerSequence(UnsignedInteger.valueOf(25))
+        .condition(CryptoConditionReader.readCondition(BaseEncoding.base16().decode(
+          "A0258020E3B0C44298FC1C149AFBF4C8996FB92427AE41E4649B934CA495991B7852B855810100"
+        )))
+        .fulfillment(CryptoConditionReader.readFulfillment(BaseEncoding.base16().decode("A0028000")))
+        .build(),
+      OfferCancel.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.valueOf(7))
+        .offerSequence(UnsignedInteger.valueOf(6))
+        .build(),
+      OfferCreate.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.ONE)
+        .offerSequence(UnsignedInteger.valueOf(11))
+        .takerPays(issuedAmount("1.5e-3"))
+        .takerGets(XrpCurrencyAmount.ofDrops(15000000000L))
+        .expiration(UnsignedInteger.valueOf(16))
+        .build(),
+      Payment.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(789))
+        .sequence(UnsignedInteger.valueOf(56565656))
+        .destination(DESTINATION)
+        .amount(XrpCurrencyAmount.ofDrops(12345))
+        .build(),
+      Payment.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(789))
+        .sequence(UnsignedInteger.valueOf(56565656))
+        .destination(DESTINATION)
+        .destinationTag(UnsignedInteger.valueOf(1))
+        .amount(issuedAmount("1234567890123456"))
+        .sendMax(issuedAmount("-0.0000000000000001234"))
+        .deliverMin(XrpCurrencyAmount.ofDrops(0))
+        .invoiceId(HASH)
+        .flags(Flags.PaymentFlags.builder().tfFullyCanonicalSig(true).tfPartialPayment(true).build())
+        .paths(Arrays.asList(
+          Arrays.asList(
+            PathStep.builder().account(ISSUER).build(),
+            PathStep.builder().currency("EUR").issuer(ISSUER).build()
+          ),
+          Collections.singletonList(PathStep.builder().currency("XRP").build())
+        ))
+        .signingPublicKey("")
+        .addSigners(SignerWrapper.of(Signer.builder()
+          .account(SIGNER)
+          .signingPublicKey(PUBLIC_KEY)
+          .transactionSignature(SIGNATURE)
+          .build()))
+        .build(),
+      PaymentChannelClaim.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(10))
+        .sequence(UnsignedInteger.ONE)
+        .channel(HASH)
+        .balance(XrpCurrencyAmount.ofDrops(1000000))
+        .amount(XrpCurrencyAmount.ofDrops(1000000))
+        .signature(SIGNATURE)
+        .publicKey(PUBLIC_KEY)
+        .build(),
+      PaymentChannelCreate.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(10))
+        .sequence(UnsignedInteger.ONE)
+        .amount(XrpCurrencyAmount.ofDrops(10000))
+        .destination(DESTINATION)
+        .destinationTag(UnsignedInteger.valueOf(4))
+        .settleDelay(UnsignedInteger.ONE)
+        .publicKey(PUBLIC_KEY)
+        .cancelAfter(UnsignedLong.valueOf(533171558))
+        .build(),
+      PaymentChannelFund.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(10))
+        .sequence(UnsignedInteger.ONE)
+        .channel(HASH)
+        .amount(XrpCurrencyAmount.ofDrops(200000))
+        .expiration(UnsignedLong.valueOf(543171558))
+        .build(),
+      SetRegularKey.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.ONE)
+        .regularKey(DESTINATION)
+        .build(),
+      SignerListSet.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.ONE)
+        .signerQuorum(UnsignedInteger.valueOf(3))
+        .addSignerEntries(
+          SignerEntryWrapper.of(SignerEntry.builder().account(DESTINATION).signerWeight(UnsignedInteger.valueOf(2))
+            .build()),
+          SignerEntryWrapper.of(SignerEntry.builder().account(ISSUER).signerWeight(UnsignedInteger.ONE).build())
+        )
+        .build(),
+      TrustSet.builder()
+        .account(ACCOUNT)
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.valueOf(12))
+        .limitAmount(issuedAmount("100"))
+        .qualityIn(UnsignedInteger.valueOf(10))
+        .qualityOut(UnsignedInteger.valueOf(20))
+        .flags(Flags.TrustSetFlags.builder().tfFullyCanonicalSig(true).tfSetNoRipple().build())
+        .build()
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactions")
+  void encodeMatchesJsonEncoding(Transaction transaction) throws JsonProcessingException {
+    String json = objectMapper.writeValueAsString(transaction);
+
+    assertThat(encoder.encode(transaction).hexValue()).isEqualTo(binaryCodec.encode(json));
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactions")
+  void encodeForSigningMatchesJsonEncoding(Transaction transaction) throws JsonProcessingException {
+    String json = objectMapper.writeValueAsString(transaction);
+
+    assertThat(encoder.encodeForSigning(transaction).hexValue()).isEqualTo(binaryCodec.encodeForSigning(json));
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactions")
+  void encodeForMultiSigningMatchesJsonEncoding(Transaction transaction) throws JsonProcessingException {
+    String json = objectMapper.writeValueAsString(transaction);
+
+    assertThat(encoder.encodeForMultiSigning(transaction, SIGNER).hexValue())
+      .isEqualTo(binaryCodec.encodeForMultiSigning(json, SIGNER.value()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("transactions")
+  void encodeForMultiSigningOnceMatchesEncodingPerSigner(Transaction transaction) {
+    MultiSigningPayload payload = encoder.encodeForMultiSigning(transaction);
+
+    for (Address signer : Arrays.asList(SIGNER, ACCOUNT, DESTINATION)) {
+      UnsignedByteArray expected = encoder.encodeForMultiSigning(transaction, signer);
+      assertThat(payload.forSigner(signer)).isEqualTo(expected);
+      assertThat(expected.hexValue()).startsWith(payload.prefix().hexValue());
+
+      GrowableByteSink sink = new GrowableByteSink();
+      payload.writeForSigner(signer, sink);
+      assertThat(sink.toUnsignedByteArray()).isEqualTo(expected);
+
+      byte[] sha512 = Hashing.sha512().hashBytes(expected.toByteArray()).asBytes();
+      assertThat(payload.sha512HalfForSigner(signer).toByteArray()).isEqualTo(Arrays.copyOf(sha512, 32));
+    }
+  }
+
+  @Test
+  void encodeIntoSink() {
+    Payment payment = Payment.builder()
+      .account(ACCOUNT)
+      .fee(XrpCurrencyAmount.ofDrops(10))
+      .sequence(UnsignedInteger.ONE)
+      .destination(DESTINATION)
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .build();
+    GrowableByteSink sink = new GrowableByteSink();
+
+    encoder.encode(payment, sink);
+    assertThat(sink.hexValue()).isEqualTo(encoder.encode(payment).hexValue());
+
+    sink.reset();
+    encoder.encodeForSigning(payment, sink);
+    assertThat(sink.hexValue()).isEqualTo(encoder.encodeForSigning(payment).hexValue());
+  }
+
+}
@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.stream.Stream;
 
 class AmountTypeTest extends BaseSerializerTypeTest {
@@ -97,4 +100,41 @@ class AmountTypeTest extends BaseSerializerTypeTest {
     assertThat(codec.fromJson(json).toHex()).isEqualTo(hex);
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "1", "-1", "+1", "10", "0.1", ".5", "5.", "1.5e-3", "1.5E3", "-2.5e+10", "1111111111111111", "1111111111111111000",
+    "0.000000000000000000000000000001", "9999999999999999e64", "1e-81", "123.4500", "1000000000000000000000"
+  })
+  void issuedCurrencyAmountRoundTrips(String value) {
+    String json = "{\"currency\":\"USD\",\"value\":\"" + value + "\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+    assertThat(codec.fromJson(json).toJson().get("value").asText())
+      .isEqualTo(new BigDecimal(value).stripTrailingZeros().toPlainString());
+  }
+
+  @Test
+  void encodeCurrencyAmountInScientificNotation() {
+    String plain = "{\"currency\":\"USD\",\"value\":\"0.0015\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+    String scientific = "{\"currency\":\"USD\",\"value\":\"1.5e-3\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+    assertThat(codec.fromJson(scientific).toHex()).isEqualTo(codec.fromJson(plain).toHex());
+  }
+
+  @Test
+  void encodeCurrencyAmountWithTooManyDigits() {
+    String json = "{\"currency\":\"USD\",\"value\":\"11111111111111111\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.fromJson(json));
+  }
+
+  @Test
+  void encodeCurrencyAmountWithExponentOutOfRange() {
+    String json = "{\"currency\":\"USD\",\"value\":\"1e81\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.fromJson(json));
+  }
+
+  @Test
+  void encodeIllegalXrpAmounts() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.fromJson("\"100000000000000001\""));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.fromJson("\"1.5\""));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.fromJson("\"-1\""));
+  }
+
 }
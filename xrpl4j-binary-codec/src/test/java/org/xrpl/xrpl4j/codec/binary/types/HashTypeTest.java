@@ -2,6 +2,7 @@ package org.xrpl.xrpl4j.codec.binary.types;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fl.xrpl4j.model.transactions.Hash256;
 import com.google.common.base.Strings;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,15 @@ class HashTypeTest {
       () -> codec128.fromJson(bytes(20)));
   }
 
+  @Test
+  void convertHash256() {
+    Hash256 hash = Hash256.of(bytes(32));
+    Hash256Type hashType = codec256.fromHash256(hash);
+    assertThat(hashType.toHex()).isEqualTo(bytes(32));
+    assertThat(hashType.toHash256()).isEqualTo(hash);
+    assertThat(codec256.fromHex(Strings.repeat("0f", 32)).toHash256().value()).isEqualTo(bytes(32));
+  }
+
   private String bytes(int size) {
     return Strings.repeat("0F", size);
   }
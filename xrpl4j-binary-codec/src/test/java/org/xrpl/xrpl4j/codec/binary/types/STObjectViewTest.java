@@ -0,0 +1,185 @@
+package org.xrpl.xrpl4j.codec.binary.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fl.xrpl4j.model.transactions.Address;
+import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.serdes.GrowableByteSink;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixture;
+import org.xrpl.xrpl4j.codec.fixtures.data.WholeObject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.stream.Stream;
+
+@SuppressWarnings("AbbreviationAsWordInName")
+class STObjectViewTest {
+
+  private static final String PAYMENT_JSON = "{\"Account\":\"r9TeThyi5xiuUUrFjtPKZiHcDxs7K9H6Rb\"," +
+    "\"Destination\":\"r4BPgS7DHebQiU31xWELvZawwSG2fSPJ7C\",\"TransactionType\":\"Payment\"," +
+    "\"Amount\":{\"currency\":\"USD\",\"value\":\"1\",\"issuer\":\"rMwjYedjc7qqtKYVLiAccJSmCwih4LnE2q\"}," +
+    "\"Fee\":\"12\",\"Flags\":0,\"Sequence\":2,\"SigningPubKey\":\"\"," +
+    "\"Memos\":[{\"Memo\":{\"MemoType\":\"687474703A2F2F6578616D706C652E636F6D2F6D656D6F2F67656E65726963\"," +
+    "\"MemoData\":\"72656E74\"}},{\"Memo\":{\"MemoData\":\"01\"}}]," +
+    "\"Paths\":[[{\"account\":\"rPDXxSZcuVL3ZWoyU82bcde3zwvmShkRyF\"}," +
+    "{\"currency\":\"USD\",\"issuer\":\"rMwjYedjc7qqtKYVLiAccJSmCwih4LnE2q\"}]]}";
+
+  private final XrplBinaryCodec codec = new XrplBinaryCodec();
+  private final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
+
+  private static Stream<CodecFixture> transactionFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().transactions().stream();
+  }
+
+  private static Stream<CodecFixture> accountStateFixtures() throws IOException {
+    return FixtureUtils.getCodecFixtures().accountState().stream();
+  }
+
+  private static Stream<WholeObject> wholeObjects() throws IOException {
+    return FixtureUtils.getDataDrivenFixtures().wholeObjectTests().stream();
+  }
+
+  @ParameterizedTest
+  @MethodSource({"transactionFixtures", "accountStateFixtures"})
+  void viewMatchesDecode(CodecFixture fixture) throws JsonProcessingException {
+    assertViewMatchesDecode(fixture.binary());
+  }
+
+  @ParameterizedTest
+  @MethodSource("wholeObjects")
+  void viewMatchesDecode(WholeObject wholeObject) throws JsonProcessingException {
+    assertViewMatchesDecode(wholeObject.expectedHex());
+  }
+
+  @Test
+  void typedFields() throws JsonProcessingException {
+    STObjectView view = STObjectView.of(codec.encode(PAYMENT_JSON));
+
+    assertThat(view.fieldNames()).containsExactly("TransactionType", "Flags", "Sequence", "Amount", "Fee",
+      "SigningPubKey", "Account", "Destination", "Memos", "Paths");
+    assertThat(view.getJson("TransactionType")).get().extracting(JsonNode::textValue).isEqualTo("Payment");
+    assertThat(view.getUInt("TransactionType")).hasValue(0L);
+    assertThat(view.getUInt("Sequence")).hasValue(2L);
+    assertThat(view.getAddress("Account")).hasValue(Address.of("r9TeThyi5xiuUUrFjtPKZiHcDxs7K9H6Rb"));
+    assertThat(view.getAmount("Fee")).hasValue(XrpCurrencyAmount.ofDrops(12));
+    assertThat(view.getHex("SigningPubKey")).hasValue("");
+    assertThat(view.getJson("SigningPubKey")).get().extracting(JsonNode::textValue).isEqualTo("");
+    JsonNode decoded = objectMapper.readTree(codec.decode(codec.encode(PAYMENT_JSON)));
+    assertThat(view.getJson("Amount").map(JsonNode::toString)).hasValue(decoded.get("Amount").toString());
+    assertThat(view.getJson("Paths").map(JsonNode::toString)).hasValue(decoded.get("Paths").toString());
+
+    assertThat(view.has("LastLedgerSequence")).isFalse();
+    assertThat(view.getUInt("LastLedgerSequence")).isEmpty();
+    assertThat(view.getAddress("RegularKey")).isEmpty();
+    assertThat(view.getArray("Signers")).isEmpty();
+  }
+
+  @Test
+  void nestedViews() throws JsonProcessingException {
+    STObjectView view = STObjectView.of(codec.encode(PAYMENT_JSON));
+
+    STArrayView memos = view.getArray("Memos").get();
+    assertThat(memos.size()).isEqualTo(2);
+    assertThat(memos.fieldName(0)).isEqualTo("Memo");
+    assertThat(memos.get(0).fieldNames()).containsExactly("MemoType", "MemoData");
+    assertThat(memos.get(0).getHex("MemoData")).hasValue("72656E74");
+    assertThat(memos.get(1).getHex("MemoData")).hasValue("01");
+    assertThat(memos.get(1).has("MemoType")).isFalse();
+    assertThat(memos.toJson().toString()).isEqualTo(objectMapper.readTree(PAYMENT_JSON).get("Memos").toString());
+    assertThat(view.getJson("Memos")).hasValue(memos.toJson());
+
+    assertThrows(IndexOutOfBoundsException.class, () -> memos.get(2));
+  }
+
+  @Test
+  void wrongTypes() throws JsonProcessingException {
+    STObjectView view = STObjectView.of(codec.encode(PAYMENT_JSON));
+
+    assertThrows(IllegalArgumentException.class, () -> view.getUInt("Account"));
+    assertThrows(IllegalArgumentException.class, () -> view.getAddress("Fee"));
+    assertThrows(IllegalArgumentException.class, () -> view.getAmount("Sequence"));
+    assertThrows(IllegalArgumentException.class, () -> view.getHash256("Account"));
+    assertThrows(IllegalArgumentException.class, () -> view.getObject("Memos"));
+    assertThrows(IllegalArgumentException.class, () -> view.getArray("Paths"));
+  }
+
+  @Test
+  void writeFields() throws JsonProcessingException {
+    String hex = codec.encode(PAYMENT_JSON);
+    STObjectView view = STObjectView.of(hex);
+
+    GrowableByteSink all = new GrowableByteSink();
+    view.writeFields(field -> true, all);
+    assertThat(all.hexValue()).isEqualTo(hex);
+
+    GrowableByteSink none = new GrowableByteSink();
+    view.writeFields(field -> false, none);
+    assertThat(none.hexValue()).isEmpty();
+
+    GrowableByteSink some = new GrowableByteSink();
+    view.writeFields(field -> field.name().equals("Sequence") || field.name().startsWith("Memo"), some);
+    assertThat(codec.decode(some.hexValue())).isEqualTo(
+      "{\"Sequence\":2,\"Memos\":" + objectMapper.readTree(PAYMENT_JSON).get("Memos") + "}"
+    );
+  }
+
+  @Test
+  void rejectsNonCanonicalObjects() {
+    // Flags after Sequence
+    assertThrows(IllegalArgumentException.class, () -> STObjectView.of("24000000012200000000"));
+    // Sequence twice
+    assertThrows(IllegalArgumentException.class, () -> STObjectView.of("24000000012400000002"));
+    // MemoData before MemoType, in a Memo in Memos
+    assertThrows(IllegalArgumentException.class, () -> STObjectView.of("F9EA7D01017C0102E1F1"));
+    assertThat(STObjectView.of("F9EA7C01027D0101E1F1").fieldNames()).containsExactly("Memos");
+  }
+
+  @Test
+  void viewOfRange() throws JsonProcessingException {
+    byte[] transaction = UnsignedByteArray.fromHex(codec.encode(PAYMENT_JSON)).toByteArray();
+    byte[] padded = new byte[transaction.length + 10];
+    System.arraycopy(transaction, 0, padded, 3, transaction.length);
+
+    STObjectView view = STObjectView.of(ByteBuffer.wrap(padded, 3, transaction.length));
+    assertThat(view.toJson()).isEqualTo(STObjectView.of(transaction).toJson());
+    assertThat(view.getBytes("MemoData")).isEmpty();
+
+    ByteBuffer signingPubKey = view.getBytes("Account").get();
+    assertThat(signingPubKey.remaining()).isEqualTo(20);
+    assertThat(signingPubKey.isReadOnly()).isTrue();
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(transaction.length);
+    direct.put(transaction).flip();
+    assertThat(STObjectView.of(direct).toJson()).isEqualTo(view.toJson());
+    assertThat(direct.position()).isEqualTo(0);
+  }
+
+  @Test
+  void emptyLastValue() throws JsonProcessingException {
+    // A Domain field with an empty value, which ends the object.
+    assertViewMatchesDecode("24000000017700");
+  }
+
+  private void assertViewMatchesDecode(String hex) throws JsonProcessingException {
+    JsonNode decoded = objectMapper.readTree(codec.decode(hex));
+    STObjectView view = STObjectView.of(hex);
+
+    assertThat(view.toJson().toString()).isEqualTo(codec.decode(hex));
+    assertThat(view.size()).isEqualTo(decoded.size());
+    for (String name : view.fieldNames()) {
+      assertThat(view.getJson(name).map(JsonNode::toString)).hasValue(decoded.get(name).toString());
+    }
+  }
+
+}
@@ -2,6 +2,7 @@ package org.xrpl.xrpl4j.crypto;
 
 import static org.xrpl.xrpl4j.codec.addresses.VersionType.ED25519;
 import static org.xrpl.xrpl4j.keypairs.Secp256k1.ecDomainParameters;
+import static org.xrpl.xrpl4j.keypairs.Secp256k1.multiplyGenerator;
 
 import com.google.common.base.Preconditions;
 import com.google.common.io.BaseEncoding;
@@ -145,7 +146,7 @@ public final class BcKeyUtils {
    */
   public static ECPublicKeyParameters toPublicKey(final ECPrivateKeyParameters ecPrivateKeyParameters) {
     Objects.requireNonNull(ecPrivateKeyParameters);
-    ECPoint ecPoint = ecDomainParameters.getG().multiply(ecPrivateKeyParameters.getD());
+    ECPoint ecPoint = multiplyGenerator(ecPrivateKeyParameters.getD());
     return new ECPublicKeyParameters(ecPoint, PARAMS);
   }
 
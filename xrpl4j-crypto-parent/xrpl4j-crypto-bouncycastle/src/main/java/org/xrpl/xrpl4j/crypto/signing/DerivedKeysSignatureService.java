@@ -5,9 +5,14 @@ import static org.xrpl.xrpl4j.crypto.KeyStoreType.DERIVED_SERVER_SECRET;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.hash.Hashing;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
+import org.xrpl.xrpl4j.codec.binary.MultiSigningPayload;
+import org.xrpl.xrpl4j.codec.binary.transactions.TransactionEncoder;
+import org.xrpl.xrpl4j.crypto.FutureUtils;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
 import org.xrpl.xrpl4j.crypto.PrivateKey;
@@ -20,7 +25,15 @@ import org.xrpl.xrpl4j.keypairs.KeyPairService;
 import com.fl.xrpl4j.model.transactions.Transaction;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 /**
  * An implementation that uses an in-memory secret key in order to deterministically create a seed value that can then
@@ -33,6 +46,17 @@ import java.util.Objects;
  */
 public class DerivedKeysSignatureService implements SignatureService {
 
+  /**
+   * The default configuration of the cache of derived keys, which holds at most 10,000 keys and records statistics for
+   * {@link #cacheStats()}. The first lookup of a key at least 20 seconds after it was last derived returns the cached
+   * key and derives it again in the background. Whatever the access pattern, a key expires 30 seconds after it was last
+   * derived. So a key that is used at least once in every 20 to 30 second window after its last derivation is never
+   * derived on the signing path. A key that is not used in that window is evicted, even if it was used just before,
+   * and is derived on the signing path the next time it is used.
+   */
+  public static final String DEFAULT_CACHE_SPEC =
+    "maximumSize=10000,refreshAfterWrite=20s,expireAfterWrite=30s,recordStats";
+
   private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
   private final VersionType versionType;
@@ -42,6 +66,8 @@ public class DerivedKeysSignatureService implements SignatureService {
 
   private final ServerSecretSupplier serverSecretSupplier;
 
+  private final TransactionEncoder transactionEncoder = new TransactionEncoder();
+
   /**
    * Required-args Constructor for use in development mode.
    *
@@ -72,7 +98,7 @@ public class DerivedKeysSignatureService implements SignatureService {
       serverSecretSupplier,
       versionType,
       keyPairService,
-      CaffeineSpec.parse("maximumSize=10000,expireAfterWrite=30s")
+      CaffeineSpec.parse(DEFAULT_CACHE_SPEC)
     );
   }
 
@@ -83,19 +109,48 @@ public class DerivedKeysSignatureService implements SignatureService {
    * @param versionType          A {@link VersionType} that defines which type of key this signature service uses.
    * @param keyPairService       A {@link KeyPairService}.
    * @param caffeineSpec         A {@link CaffeineSpec} that can be initialized externally to configure the Caffeine
-   *                             cache constructed by this service.
+   *                             cache constructed by this service. Keys are reloaded asynchronously if it sets
+   *                             {@code refreshAfterWrite}, and {@link #cacheStats()} is only populated if it sets
+   *                             {@code recordStats}. See {@link #DEFAULT_CACHE_SPEC}.
    */
   public DerivedKeysSignatureService(
     final ServerSecretSupplier serverSecretSupplier,
     final VersionType versionType,
     final KeyPairService keyPairService,
     final CaffeineSpec caffeineSpec
+  ) {
+    this(
+      serverSecretSupplier,
+      versionType,
+      keyPairService,
+      caffeineSpec,
+      Ticker.systemTicker(),
+      ForkJoinPool.commonPool()
+    );
+  }
+
+  /**
+   * Constructor for tests that need to control when cached keys go stale and when they are reloaded.
+   *
+   * @param ticker   The {@link Ticker} that the cache reads the time from.
+   * @param executor The {@link Executor} that the cache reloads stale keys on.
+   */
+  @VisibleForTesting
+  DerivedKeysSignatureService(
+    final ServerSecretSupplier serverSecretSupplier,
+    final VersionType versionType,
+    final KeyPairService keyPairService,
+    final CaffeineSpec caffeineSpec,
+    final Ticker ticker,
+    final Executor executor
   ) {
     this.serverSecretSupplier = Objects.requireNonNull(serverSecretSupplier);
     this.versionType = Objects.requireNonNull(versionType);
     this.keyPairService = Objects.requireNonNull(keyPairService);
     this.keyMetadataLoadingCache = Caffeine
       .from(Objects.requireNonNull(caffeineSpec))
+      .ticker(Objects.requireNonNull(ticker))
+      .executor(Objects.requireNonNull(executor))
       .build(this::constructSignatureService);
   }
 
@@ -116,6 +171,97 @@ public class DerivedKeysSignatureService implements SignatureService {
     return this.keyMetadataLoadingCache.get(keyMetadata).signWithBehavior(keyMetadata, transaction, behavior);
   }
 
+  /**
+   * Encodes {@code transaction} once and signs it with every key in {@code keyMetadata}, so that each additional
+   * signer only costs its own signature.
+   */
+  @Override
+  public List<Signature> multiSign(final List<KeyMetadata> keyMetadata, final Transaction transaction) {
+    Objects.requireNonNull(keyMetadata);
+    Objects.requireNonNull(transaction);
+
+    final MultiSigningPayload payload = this.transactionEncoder.encodeForMultiSigning(transaction);
+    return keyMetadata.stream()
+      .map(metadata -> this.keyMetadataLoadingCache.get(metadata).multiSign(metadata, payload))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Sign many transactions at once. Each distinct {@link KeyMetadata} in {@code requests} is looked up in the cache
+   * only once, and keys that are not cached are derived in parallel on {@code executor}. Every transaction is then
+   * signed as its own task on {@code executor} as soon as its key is available.
+   *
+   * <p>The batch holds on to the keys it derives until it completes, so a batch that uses more distinct keys than the
+   * cache can hold still derives each key only once.</p>
+   *
+   * @param requests A {@link List} of {@link SigningRequest}s, each holding a transaction and the key to sign it with.
+   * @param executor The {@link Executor} to derive keys and sign on.
+   * @param <T>      The type of the transactions to be signed.
+   *
+   * @return A {@link List} with one {@link SignedTransaction} per entry of {@code requests}, in the same order.
+   */
+  @Override
+  public <T extends Transaction> List<SignedTransaction<T>> signAll(
+    final List<? extends SigningRequest<T>> requests, final Executor executor
+  ) {
+    Objects.requireNonNull(requests);
+    Objects.requireNonNull(executor);
+
+    final Map<KeyMetadata, CompletableFuture<SingleKeySignatureService>> signatureServices = new HashMap<>();
+    requests.forEach(request -> signatureServices.computeIfAbsent(
+      request.keyMetadata(),
+      keyMetadata -> CompletableFuture.supplyAsync(() -> this.keyMetadataLoadingCache.get(keyMetadata), executor)
+    ));
+
+    return FutureUtils.joinAll(requests.stream()
+      .map(request -> signatureServices.get(request.keyMetadata()).thenApplyAsync(
+        signatureService -> signatureService.sign(request.keyMetadata(), request.transaction()), executor
+      ))
+      .collect(Collectors.toList()));
+  }
+
+  /**
+   * Derive the keys described by {@code keyMetadata} and add them to the cache, in parallel on the common
+   * {@link ForkJoinPool}, so that the first signatures made with them don't pay for key derivation.
+   *
+   * @param keyMetadata A {@link Collection} of {@link KeyMetadata} describing the keys to derive.
+   *
+   * @see #warmUp(Collection, Executor)
+   */
+  public void warmUp(final Collection<KeyMetadata> keyMetadata) {
+    warmUp(keyMetadata, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Derive the keys described by {@code keyMetadata} and add them to the cache, in parallel on {@code executor}, so
+   * that the first signatures made with them don't pay for key derivation. Keys that are already cached are not derived
+   * again. This method returns once every key has been cached.
+   *
+   * <p>Note that warming up more keys than the cache's {@code maximumSize} evicts some of them again.</p>
+   *
+   * @param keyMetadata A {@link Collection} of {@link KeyMetadata} describing the keys to derive.
+   * @param executor    The {@link Executor} to derive keys on.
+   */
+  public void warmUp(final Collection<KeyMetadata> keyMetadata, final Executor executor) {
+    Objects.requireNonNull(keyMetadata);
+    Objects.requireNonNull(executor);
+
+    FutureUtils.joinAll(keyMetadata.stream()
+      .distinct()
+      .map(metadata -> CompletableFuture.supplyAsync(() -> this.keyMetadataLoadingCache.get(metadata), executor))
+      .collect(Collectors.toList()));
+  }
+
+  /**
+   * Statistics for the cache of derived keys, such as its hit rate, the time spent deriving keys and the number of
+   * evictions. Statistics are only recorded if the cache was configured with {@code recordStats}, as it is by default.
+   *
+   * @return A snapshot of the {@link CacheStats} of the cache.
+   */
+  public CacheStats cacheStats() {
+    return this.keyMetadataLoadingCache.stats();
+  }
+
   @Override
   public KeyStoreType keyStoreType() {
     return DERIVED_SERVER_SECRET;
@@ -1,6 +1,5 @@
 package org.xrpl.xrpl4j.crypto.signing;
 
-import com.google.common.io.BaseEncoding;
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
@@ -9,8 +8,10 @@ import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
 import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.Ed25519Signer;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.addresses.VersionType;
+import org.xrpl.xrpl4j.codec.binary.MultiSigningPayload;
 import org.xrpl.xrpl4j.crypto.BcKeyUtils;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
@@ -21,7 +22,7 @@ import org.xrpl.xrpl4j.keypairs.EcDsaSignature;
 import org.xrpl.xrpl4j.keypairs.HashUtils;
 import org.xrpl.xrpl4j.keypairs.KeyPairService;
 import org.xrpl.xrpl4j.keypairs.Secp256k1;
-import com.fl.xrpl4j.model.jackson.ObjectMapperFactory;
+import com.fl.xrpl4j.model.transactions.Address;
 
 import java.math.BigInteger;
 import java.security.KeyStore;
@@ -31,6 +32,9 @@ import java.util.Objects;
  * <p>A {@link SignatureService} that holds a single private key, in-memory, using BouncyCastle as the underlying
  * crypto implementation.</p>
  *
+ * <p>This class is thread-safe. The public key and the BouncyCastle key parameters are derived once, at construction,
+ * and every signature or verification uses its own signer, so concurrent callers share no mutable state.</p>
+ *
  * <p>WARNING: This implementation _might_ be appropriate for Android use, but should likely not be used in a
  * server-side context. In general, prefer an implementation that offers a higher level of security.</p>
  */
@@ -38,9 +42,14 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
 
   private static final KeyStoreType KEY_STORE_TYPE = KeyStoreType.fromKeystoreTypeId("in-memory-single-key");
 
-  private final Ed25519Signer ed25519Signer;
-  private final ECDSASigner ecdsaSigner;
-  private final PrivateKey privateKey;
+  private final PublicKey publicKey;
+
+  // Only the parameters that match the type of the private key are set; the others are null.
+  private final Ed25519PrivateKeyParameters ed25519PrivateKeyParameters;
+  private final Ed25519PublicKeyParameters ed25519PublicKeyParameters;
+  private final byte[] ed25519PublicKeyBytes;
+  private final ECPrivateKeyParameters ecPrivateKeyParameters;
+  private final ECPublicKeyParameters ecPublicKeyParameters;
 
   /**
    * Required-args Constructor for use in development mode.
@@ -49,9 +58,7 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
    */
   public SingleKeySignatureService(final PrivateKey privateKey) {
     this(
-      new SignatureUtils(ObjectMapperFactory.create(), new XrplBinaryCodec()),
-      new Ed25519Signer(),
-      new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest())),
+      new SignatureUtils(),
       DefaultKeyPairService.getInstance(),
       privateKey
     );
@@ -61,54 +68,83 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
    * Required-args Constructor.
    *
    * @param signatureUtils An {@link SignatureUtils}.
-   * @param ed25519Signer  An {@link Ed25519Signer}.
-   * @param ecdsaSigner    An {@link ECDSASigner}.
+   * @param ed25519Signer  An {@link Ed25519Signer}, which is not used.
+   * @param ecdsaSigner    An {@link ECDSASigner}, which is not used.
    * @param keyPairService A {@link KeyPairService}.
    * @param privateKey     A {@link PrivateKey} for obtain keys from.
+   *
+   * @deprecated Signers are no longer shared between calls, so that this service is thread-safe. Use
+   *   {@link #SingleKeySignatureService(SignatureUtils, KeyPairService, PrivateKey)} instead.
    */
+  @Deprecated
   public SingleKeySignatureService(
     final SignatureUtils signatureUtils,
     final Ed25519Signer ed25519Signer,
     final ECDSASigner ecdsaSigner,
     final KeyPairService keyPairService,
     final PrivateKey privateKey
-    ) {
+  ) {
+    this(signatureUtils, keyPairService, privateKey);
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param signatureUtils An {@link SignatureUtils}.
+   * @param keyPairService A {@link KeyPairService}.
+   * @param privateKey     A {@link PrivateKey} for obtain keys from.
+   */
+  public SingleKeySignatureService(
+    final SignatureUtils signatureUtils,
+    final KeyPairService keyPairService,
+    final PrivateKey privateKey
+  ) {
     super(KEY_STORE_TYPE, signatureUtils, keyPairService);
-    this.ed25519Signer = Objects.requireNonNull(ed25519Signer);
-    this.ecdsaSigner = Objects.requireNonNull(ecdsaSigner);
-    this.privateKey = Objects.requireNonNull(privateKey);
+    Objects.requireNonNull(privateKey);
+
+    if (privateKey.versionType() == VersionType.ED25519) {
+      this.ed25519PrivateKeyParameters = BcKeyUtils.toEd25519PrivateKeyParams(privateKey);
+      this.ed25519PublicKeyParameters = ed25519PrivateKeyParameters.generatePublicKey();
+      this.ed25519PublicKeyBytes = ed25519PublicKeyParameters.getEncoded();
+      this.ecPrivateKeyParameters = null;
+      this.ecPublicKeyParameters = null;
+      this.publicKey = BcKeyUtils.toPublicKey(ed25519PublicKeyParameters);
+    } else {
+      this.ed25519PrivateKeyParameters = null;
+      this.ed25519PublicKeyParameters = null;
+      this.ed25519PublicKeyBytes = null;
+      this.ecPrivateKeyParameters = BcKeyUtils.toEc25519PrivateKeyParams(privateKey);
+      this.ecPublicKeyParameters = BcKeyUtils.toPublicKey(ecPrivateKeyParameters);
+      this.publicKey = BcKeyUtils.toPublicKey(ecPublicKeyParameters);
+    }
   }
 
   @Override
   public PublicKey getPublicKey(final KeyMetadata privateKeyMetadata) {
     Objects.requireNonNull(privateKeyMetadata);
-    return BcKeyUtils.toPublicKey(this.privateKey);
+    return this.publicKey;
   }
 
   @Override
-  protected synchronized Signature edDsaSign(
+  protected Signature edDsaSign(
     final KeyMetadata privateKeyMetadata, final UnsignedByteArray signableTransactionBytes
   ) {
     Objects.requireNonNull(privateKeyMetadata);
     Objects.requireNonNull(signableTransactionBytes);
 
-    Ed25519PrivateKeyParameters privateKeyParameters = new Ed25519PrivateKeyParameters(
-      BaseEncoding.base16().decode(privateKey.base16Encoded().substring(2)), // Remove ED prefix byte
-      0
+    // Passing the public key saves re-deriving it for every signature.
+    final byte[] sigBytes = new byte[Ed25519.SIGNATURE_SIZE];
+    ed25519PrivateKeyParameters.sign(
+      Ed25519.Algorithm.Ed25519, ed25519PublicKeyParameters, null,
+      signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.length(), sigBytes, 0
     );
-
-    ed25519Signer.reset();
-    ed25519Signer.init(true, privateKeyParameters);
-    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.getUnsignedBytes().size());
-
-    final UnsignedByteArray sigBytes = UnsignedByteArray.of(ed25519Signer.generateSignature());
     return Signature.builder()
-      .value(sigBytes)
+      .value(UnsignedByteArray.of(sigBytes))
       .build();
   }
 
   @Override
-  protected synchronized boolean edDsaVerify(
+  protected boolean edDsaVerify(
     final KeyMetadata keyMetadata,
     final SignedTransaction transactionWithSignature,
     final UnsignedByteArray signableTransactionBytes
@@ -117,32 +153,45 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
     Objects.requireNonNull(transactionWithSignature);
     Objects.requireNonNull(signableTransactionBytes);
 
-    final PublicKey publicKey = this.getPublicKey(keyMetadata);
-    final Ed25519PublicKeyParameters bcPublicKey = BcKeyUtils.toEd25519PublicKeyParameters(publicKey);
-
-    ed25519Signer.reset();
-    ed25519Signer.init(false, bcPublicKey);
-    ed25519Signer.update(signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.getUnsignedBytes().size());
-
-    return ed25519Signer.verifySignature(
-      transactionWithSignature.signature().value().toByteArray()
+    final UnsignedByteArray signature = transactionWithSignature.signature().value();
+    if (signature.length() != Ed25519.SIGNATURE_SIZE) {
+      return false;
+    }
+    return Ed25519.verify(
+      signature.toByteArray(), 0, ed25519PublicKeyBytes, 0,
+      signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.length()
     );
   }
 
-  @SuppressWarnings("checkstyle:LocalVariableName")
   @Override
-  protected synchronized Signature ecDsaSign(
+  protected Signature ecDsaSign(
     final KeyMetadata keyMetadata, final UnsignedByteArray signableTransactionBytes
   ) {
     Objects.requireNonNull(keyMetadata);
     Objects.requireNonNull(signableTransactionBytes);
 
-    final UnsignedByteArray messageHash = HashUtils.sha512Half(signableTransactionBytes);
+    return ecDsaSignHash(HashUtils.sha512Half(signableTransactionBytes));
+  }
+
+  /**
+   * Signs the hash of the payload that {@link MultiSigningPayload} computes from the SHA-512 state it shares between
+   * all signers, instead of hashing the whole payload again.
+   */
+  @Override
+  protected Signature ecDsaSign(
+    final KeyMetadata keyMetadata, final MultiSigningPayload payload, final Address signerAddress
+  ) {
+    Objects.requireNonNull(keyMetadata);
+    Objects.requireNonNull(payload);
+    Objects.requireNonNull(signerAddress);
 
-    final BigInteger privateKeyInt = new BigInteger(privateKey.base16Encoded(), 16);
-    final ECPrivateKeyParameters parameters = new ECPrivateKeyParameters(privateKeyInt, Secp256k1.ecDomainParameters);
+    return ecDsaSignHash(payload.sha512HalfForSigner(signerAddress));
+  }
 
-    ecdsaSigner.init(true, parameters);
+  @SuppressWarnings("checkstyle:LocalVariableName")
+  private Signature ecDsaSignHash(final UnsignedByteArray messageHash) {
+    final ECDSASigner ecdsaSigner = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+    ecdsaSigner.init(true, ecPrivateKeyParameters);
     final BigInteger[] signatures = ecdsaSigner.generateSignature(messageHash.toByteArray());
     final BigInteger r = signatures[0];
     BigInteger s = signatures[1];
@@ -163,7 +212,7 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
   }
 
   @Override
-  protected synchronized boolean ecDsaVerify(
+  protected boolean ecDsaVerify(
     final KeyMetadata keyMetadata,
     final SignedTransaction transactionWithSignature,
     final UnsignedByteArray signableTransactionBytes
@@ -172,16 +221,14 @@ public class SingleKeySignatureService extends AbstractSignatureService implemen
     Objects.requireNonNull(transactionWithSignature);
     Objects.requireNonNull(signableTransactionBytes);
 
-    final PublicKey publicKey = this.getPublicKey(keyMetadata);
-    final ECPublicKeyParameters bcPublicKey = BcKeyUtils.toEcPublicKeyParameters(publicKey);
-
     UnsignedByteArray messageHash = HashUtils.sha512Half(signableTransactionBytes);
     EcDsaSignature sig = EcDsaSignature.fromDer(transactionWithSignature.signature().value().toByteArray());
     if (sig == null) {
       return false;
     }
 
-    ecdsaSigner.init(false, bcPublicKey);
+    final ECDSASigner ecdsaSigner = new ECDSASigner();
+    ecdsaSigner.init(false, ecPublicKeyParameters);
     return ecdsaSigner.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
   }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.google.common.primitives.UnsignedInteger;
 import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.crypto.ec.CustomNamedCurves;
@@ -20,6 +21,7 @@ import org.xrpl.xrpl4j.crypto.KeyStoreType;
 import org.xrpl.xrpl4j.crypto.PublicKey;
 import org.xrpl.xrpl4j.crypto.Seed;
 import org.xrpl.xrpl4j.crypto.ServerSecretSupplier;
+import org.xrpl.xrpl4j.keypairs.DefaultKeyPairService;
 import org.xrpl.xrpl4j.keypairs.KeyPairService;
 import com.fl.xrpl4j.model.flags.Flags;
 import com.fl.xrpl4j.model.transactions.Address;
@@ -28,13 +30,19 @@ import com.fl.xrpl4j.model.transactions.Payment;
 import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Unit tests for {@link DerivedKeysSignatureService}.
@@ -276,6 +284,39 @@ class DerivedKeysSignatureServiceTest {
       .forEach(validSig -> assertThat(validSig).isTrue());
   }
 
+  @Test
+  void multiSignMatchesSignWithBehaviorEd() {
+    assertMultiSignMatchesSignWithBehavior(this.edSignatureService);
+  }
+
+  @Test
+  void multiSignMatchesSignWithBehaviorEc() {
+    assertMultiSignMatchesSignWithBehavior(this.ecSignatureService);
+  }
+
+  private void assertMultiSignMatchesSignWithBehavior(final DerivedKeysSignatureService signatureService) {
+    final List<KeyMetadata> keyMetadata = Arrays.asList(
+      keyMetadata("foo"), keyMetadata("bar"), keyMetadata("baz"), keyMetadata("foo")
+    );
+    final Payment payment = Payment.builder()
+      .account(Address.of(sourceClassicAddressEd))
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .destination(Address.of(destinationClassicAddress))
+      .fee(XrpCurrencyAmount.ofDrops(40))
+      .sequence(UnsignedInteger.valueOf(4101911))
+      .signingPublicKey("")
+      .build();
+
+    final List<Signature> signatures = signatureService.multiSign(keyMetadata, payment);
+
+    assertThat(signatures).hasSize(keyMetadata.size());
+    for (int i = 0; i < keyMetadata.size(); i++) {
+      assertThat(signatures.get(i))
+        .isEqualTo(signatureService.signWithBehavior(keyMetadata.get(i), payment, SigningBehavior.MULTI));
+    }
+    assertThat(signatures.get(0)).isEqualTo(signatures.get(3)).isNotEqualTo(signatures.get(1));
+  }
+
   @Test
   void signAndVerifyEc() {
     final KeyMetadata keyMetadata = keyMetadata("foo");
@@ -312,6 +353,94 @@ class DerivedKeysSignatureServiceTest {
       .forEach(validSig -> assertThat(validSig).isTrue());
   }
 
+  @Test
+  void signAllDerivesEachKeyOnce() {
+    final AtomicInteger derivations = new AtomicInteger();
+    // A cache that holds a single key, so that only the batch itself can avoid deriving keys more than once.
+    final DerivedKeysSignatureService signatureService = countingSignatureService(derivations, "maximumSize=1");
+
+    final List<SigningRequest<Payment>> requests = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      final KeyMetadata keyMetadata = keyMetadata("account" + (i % 6));
+      requests.add(SigningRequest.<Payment>builder()
+        .keyMetadata(keyMetadata)
+        .transaction(Payment.builder()
+          .account(Address.of(sourceClassicAddressEc))
+          .fee(XrpCurrencyAmount.ofDrops(10L))
+          .sequence(UnsignedInteger.valueOf(i + 1))
+          .destination(Address.of(destinationClassicAddress))
+          .amount(XrpCurrencyAmount.ofDrops(12345))
+          // Derived by a different service with the same secret, so that it doesn't count as a derivation here.
+          .signingPublicKey(ecSignatureService.getPublicKey(keyMetadata).base16Encoded())
+          .build())
+        .build());
+    }
+
+    final List<SignedTransaction<Payment>> signedTransactions = signatureService.signAll(requests);
+    assertThat(derivations.get()).isEqualTo(6);
+
+    assertThat(signedTransactions).hasSize(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      final SigningRequest<Payment> request = requests.get(i);
+      assertThat(signedTransactions.get(i))
+        .isEqualTo(signatureService.sign(request.keyMetadata(), request.transaction()));
+      assertThat(signatureService.verify(request.keyMetadata(), signedTransactions.get(i))).isTrue();
+    }
+  }
+
+  @Test
+  void signAllWithNulls() {
+    assertThrows(NullPointerException.class, () -> ecSignatureService.signAll(null));
+    assertThrows(NullPointerException.class, () -> ecSignatureService.signAll(new ArrayList<>(), null));
+  }
+
+  @Test
+  void warmUpDerivesKeysAndRecordsStats() {
+    final AtomicInteger derivations = new AtomicInteger();
+    final DerivedKeysSignatureService signatureService = countingSignatureService(
+      derivations, DerivedKeysSignatureService.DEFAULT_CACHE_SPEC
+    );
+
+    signatureService.warmUp(Arrays.asList(keyMetadata("foo"), keyMetadata("bar"), keyMetadata("foo")));
+    assertThat(derivations.get()).isEqualTo(2);
+    assertThat(signatureService.cacheStats().loadSuccessCount()).isEqualTo(2);
+
+    // Warmed-up keys are served from the cache.
+    signatureService.getPublicKey(keyMetadata("foo"));
+    signatureService.warmUp(Arrays.asList(keyMetadata("bar")));
+    assertThat(derivations.get()).isEqualTo(2);
+    assertThat(signatureService.cacheStats().hitCount()).isEqualTo(2);
+    assertThat(signatureService.cacheStats().totalLoadTime()).isPositive();
+  }
+
+  @Test
+  void warmUpWithNulls() {
+    assertThrows(NullPointerException.class, () -> ecSignatureService.warmUp(null));
+    assertThrows(NullPointerException.class, () -> ecSignatureService.warmUp(new ArrayList<>(), null));
+  }
+
+  @Test
+  void refreshesKeysInTheBackground() {
+    final AtomicInteger derivations = new AtomicInteger();
+    final AtomicLong nanos = new AtomicLong();
+    // Reload on the calling thread, so that the reload has finished when getPublicKey returns.
+    final DerivedKeysSignatureService signatureService = countingSignatureService(
+      derivations, "refreshAfterWrite=1s,recordStats", nanos::get, Runnable::run
+    );
+
+    final PublicKey publicKey = signatureService.getPublicKey(keyMetadata("foo"));
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+    assertThat(signatureService.getPublicKey(keyMetadata("foo"))).isEqualTo(publicKey);
+    assertThat(derivations.get()).isEqualTo(1);
+
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(2));
+    // The key is stale, so this returns the cached key and triggers a reload.
+    assertThat(signatureService.getPublicKey(keyMetadata("foo"))).isEqualTo(publicKey);
+    assertThat(derivations.get()).isEqualTo(2);
+    assertThat(signatureService.getPublicKey(keyMetadata("foo"))).isEqualTo(publicKey);
+    assertThat(derivations.get()).isEqualTo(2);
+  }
+
   @Test
   void getPublicKeyEd() {
     PublicKey actualEcPublicKey = this.edSignatureService.getPublicKey(keyMetadata("ec_key"));
@@ -376,6 +505,40 @@ class DerivedKeysSignatureServiceTest {
   // Private Helpers
   //////////////////
 
+  /**
+   * Construct a secp256k1 {@link DerivedKeysSignatureService} with the given cache configuration that counts how many
+   * keys it derives.
+   *
+   * @param derivations  An {@link AtomicInteger} to increment every time a key is derived.
+   * @param caffeineSpec A Caffeine spec for the cache of derived keys.
+   *
+   * @return A {@link DerivedKeysSignatureService}.
+   */
+  private DerivedKeysSignatureService countingSignatureService(
+    final AtomicInteger derivations, final String caffeineSpec
+  ) {
+    return countingSignatureService(derivations, caffeineSpec, Ticker.systemTicker(), ForkJoinPool.commonPool());
+  }
+
+  private DerivedKeysSignatureService countingSignatureService(
+    final AtomicInteger derivations, final String caffeineSpec, final Ticker ticker, final Executor executor
+  ) {
+    return new DerivedKeysSignatureService(
+      "happy"::getBytes,
+      VersionType.SECP256K1,
+      new DefaultKeyPairService(),
+      CaffeineSpec.parse(caffeineSpec),
+      ticker,
+      executor
+    ) {
+      @Override
+      protected SingleKeySignatureService constructSignatureService(KeyMetadata privateKeyMetadata) {
+        derivations.incrementAndGet();
+        return super.constructSignatureService(privateKeyMetadata);
+      }
+    };
+  }
+
   /**
    * Helper function to generate Key meta-data based upon the supplied inputs.
    *
@@ -20,7 +20,14 @@ import com.fl.xrpl4j.model.transactions.Payment;
 import com.fl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Unit tests for {@link SingleKeySignatureService}.
@@ -132,10 +139,109 @@ class SingleKeySignatureServiceTest {
     assertThat(signatureResult).isTrue();
   }
 
+  @Test
+  void edDsaSignAndVerifyConcurrently() throws Exception {
+    signAndVerifyConcurrently(edSignatureService, sourceClassicAddressED);
+  }
+
+  @Test
+  void ecDsaSignAndVerifyConcurrently() throws Exception {
+    signAndVerifyConcurrently(ecSignatureService, sourceClassicAddressEC);
+  }
+
+  @Test
+  void verifyAllReportsEachSignature() {
+    final KeyMetadata keyMetadata = keyMetadata("foo");
+    final SignedTransaction<Payment> edSigned = edSignatureService.sign(keyMetadata, payment(
+      sourceClassicAddressED, edSignatureService.getPublicKey(keyMetadata)
+    ));
+    final SignedTransaction<Payment> ecSigned = ecSignatureService.sign(keyMetadata, payment(
+      sourceClassicAddressEC, ecSignatureService.getPublicKey(keyMetadata)
+    ));
+    // An ed25519 signature over a different transaction.
+    final SignedTransaction<Payment> edTampered = SignedTransaction.<Payment>builder()
+      .from(edSigned)
+      .signature(edSignatureService.sign(keyMetadata, ecSigned.unsignedTransaction()).signature())
+      .build();
+
+    final List<VerifiableTransaction<Payment>> transactions = Arrays.asList(
+      verifiable(keyMetadata, edSigned), verifiable(keyMetadata, edTampered), verifiable(keyMetadata, edSigned)
+    );
+    assertThat(edSignatureService.verifyAll(transactions)).containsExactly(true, false, true);
+    assertThat(ecSignatureService.verifyAll(Arrays.asList(verifiable(keyMetadata, ecSigned))))
+      .containsExactly(true);
+  }
+
   //////////////////
   // Private Helpers
   //////////////////
 
+  /**
+   * Signs and verifies many payments from several threads at once, and checks that every signature matches the one
+   * produced by signing the same payment on a single thread. Both Ed25519 and RFC 6979 ECDSA signatures are
+   * deterministic, so any interference between threads shows up as a mismatch.
+   *
+   * @param signatureService The {@link SingleKeySignatureService} under test.
+   * @param sourceAddress    The classic address of the key held by {@code signatureService}.
+   */
+  private void signAndVerifyConcurrently(
+    final SingleKeySignatureService signatureService, final String sourceAddress
+  ) throws Exception {
+    final KeyMetadata keyMetadata = keyMetadata("foo");
+    final PublicKey publicKey = signatureService.getPublicKey(keyMetadata);
+
+    final List<Payment> payments = IntStream.range(1, 201)
+      .mapToObj(sequence -> Payment.builder()
+        .account(Address.of(sourceAddress))
+        .fee(XrpCurrencyAmount.ofDrops(10L))
+        .sequence(UnsignedInteger.valueOf(sequence))
+        .destination(Address.of(destinationClassicAddress))
+        .amount(XrpCurrencyAmount.ofDrops(12345))
+        .signingPublicKey(publicKey.base16Encoded())
+        .build())
+      .collect(Collectors.toList());
+    final List<Signature> expected = payments.stream()
+      .map(payment -> signatureService.sign(keyMetadata, payment).signature())
+      .collect(Collectors.toList());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<SignedTransaction<Payment>>> futures = payments.stream()
+        .map(payment -> executor.submit(() -> {
+          SignedTransaction<Payment> signedTransaction = signatureService.sign(keyMetadata, payment);
+          assertThat(signatureService.verify(keyMetadata, signedTransaction)).isTrue();
+          return signedTransaction;
+        }))
+        .collect(Collectors.toList());
+
+      for (int i = 0; i < futures.size(); i++) {
+        assertThat(futures.get(i).get().signature()).isEqualTo(expected.get(i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Payment payment(final String sourceAddress, final PublicKey publicKey) {
+    return Payment.builder()
+      .account(Address.of(sourceAddress))
+      .fee(XrpCurrencyAmount.ofDrops(10L))
+      .sequence(UnsignedInteger.ONE)
+      .destination(Address.of(destinationClassicAddress))
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .signingPublicKey(publicKey.base16Encoded())
+      .build();
+  }
+
+  private VerifiableTransaction<Payment> verifiable(
+    final KeyMetadata keyMetadata, final SignedTransaction<Payment> signedTransaction
+  ) {
+    return VerifiableTransaction.<Payment>builder()
+      .keyMetadata(keyMetadata)
+      .signedTransaction(signedTransaction)
+      .build();
+  }
+
   /**
    * Helper function to generate Key meta-data based upon the supplied inputs.
    *
@@ -0,0 +1,39 @@
+package org.xrpl.xrpl4j.crypto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Utility class for waiting on the parallel tasks of batch operations, such as
+ * {@link org.xrpl.xrpl4j.crypto.signing.TransactionSigner#signAll(List)}.
+ */
+public final class FutureUtils {
+
+  private FutureUtils() {
+  }
+
+  /**
+   * Wait for every future in {@code futures} to complete and collect their results, in order. If a task failed with a
+   * {@link RuntimeException}, that exception is rethrown as-is rather than wrapped in a {@link CompletionException}, so
+   * that a batch operation fails in the same way as the equivalent single operation.
+   *
+   * @param futures A {@link List} of {@link CompletableFuture}s.
+   * @param <T>     The type of result.
+   *
+   * @return A {@link List} with the result of each future.
+   */
+  public static <T> List<T> joinAll(final List<CompletableFuture<T>> futures) {
+    try {
+      return futures.stream()
+        .map(CompletableFuture::join)
+        .collect(Collectors.toList());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
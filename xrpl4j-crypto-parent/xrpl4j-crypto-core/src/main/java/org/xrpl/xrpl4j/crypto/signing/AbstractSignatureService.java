@@ -3,13 +3,17 @@ package org.xrpl.xrpl4j.crypto.signing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.MultiSigningPayload;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
 import org.xrpl.xrpl4j.crypto.PublicKey;
 import org.xrpl.xrpl4j.keypairs.KeyPairService;
+import com.fl.xrpl4j.model.transactions.Address;
 import com.fl.xrpl4j.model.transactions.Transaction;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * An abstract implementation of {@link SignatureService} with common functionality that sub-classes can utilize.
@@ -86,6 +90,49 @@ public abstract class AbstractSignatureService implements SignatureService {
     return signature;
   }
 
+  /**
+   * Encodes {@code transaction} once and signs it with every key in {@code keyMetadata}, so that each additional
+   * signer only costs its own signature.
+   */
+  @Override
+  public List<Signature> multiSign(final List<KeyMetadata> keyMetadata, final Transaction transaction) {
+    Objects.requireNonNull(keyMetadata);
+    Objects.requireNonNull(transaction);
+
+    final MultiSigningPayload payload = this.signatureUtils.toMultiSignablePayload(transaction);
+    return keyMetadata.stream()
+      .map(metadata -> this.multiSign(metadata, payload))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Obtain a multi-signature over a transaction that has already been encoded for multi-signing, using the private-key
+   * that corresponds to {@code keyMetadata}.
+   *
+   * @param keyMetadata A {@link KeyMetadata} that describes the public/private Keypair to use for signing operations.
+   * @param payload     A {@link MultiSigningPayload} encoded from the transaction to sign.
+   *
+   * @return A {@link Signature} containing the transaction signature.
+   */
+  public Signature multiSign(final KeyMetadata keyMetadata, final MultiSigningPayload payload) {
+    Objects.requireNonNull(keyMetadata);
+    Objects.requireNonNull(payload);
+
+    final PublicKey publicKey = this.getPublicKey(keyMetadata);
+    final Address signerAddress = keyPairService.deriveAddress(publicKey.value());
+    switch (publicKey.versionType()) {
+      case ED25519: {
+        return this.edDsaSign(keyMetadata, payload.forSigner(signerAddress));
+      }
+      case SECP256K1: {
+        return this.ecDsaSign(keyMetadata, payload, signerAddress);
+      }
+      default: {
+        throw new IllegalArgumentException("Unhandled PrivateKey VersionType: {}" + keyMetadata);
+      }
+    }
+  }
+
   @Override
   public boolean verify(
     final KeyMetadata keyMetadata,
@@ -138,6 +185,24 @@ public abstract class AbstractSignatureService implements SignatureService {
     KeyMetadata privateKeyMetadata, UnsignedByteArray signableTransactionBytes
   );
 
+  /**
+   * Computes a secp256k1 multi-signature for {@code signerAddress} over {@code payload}. By default, this signs
+   * {@link MultiSigningPayload#forSigner(Address)} with {@link #ecDsaSign(KeyMetadata, UnsignedByteArray)}.
+   * Implementations that hash the bytes to sign themselves can override this method to sign
+   * {@link MultiSigningPayload#sha512HalfForSigner(Address)} instead, which only hashes the account ID of the signer.
+   *
+   * @param privateKeyMetadata A {@link KeyMetadata} to describe the private-key to use for signing.
+   * @param payload            A {@link MultiSigningPayload} to sign.
+   * @param signerAddress      The {@link Address} of the account that corresponds to the private-key.
+   *
+   * @return A {@link Signature} with data that can be used to submit a transaction to the XRP Ledger.
+   */
+  protected Signature ecDsaSign(
+    final KeyMetadata privateKeyMetadata, final MultiSigningPayload payload, final Address signerAddress
+  ) {
+    return this.ecDsaSign(privateKeyMetadata, payload.forSigner(signerAddress));
+  }
+
   /**
    * Verify a signature.
    *
@@ -1,13 +1,14 @@
 package org.xrpl.xrpl4j.crypto.signing;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
-import com.google.common.io.BaseEncoding;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.MultiSigningPayload;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.transactions.TransactionEncoder;
 import com.fl.xrpl4j.model.transactions.AccountDelete;
 import com.fl.xrpl4j.model.transactions.AccountSet;
+import com.fl.xrpl4j.model.transactions.Address;
 import com.fl.xrpl4j.model.transactions.CheckCancel;
 import com.fl.xrpl4j.model.transactions.CheckCash;
 import com.fl.xrpl4j.model.transactions.CheckCreate;
@@ -33,18 +34,36 @@ import java.util.Objects;
  */
 public class SignatureUtils {
 
-  private final ObjectMapper objectMapper;
-  private final XrplBinaryCodec binaryCodec;
+  private final TransactionEncoder transactionEncoder;
+
+  /**
+   * No-args constructor.
+   */
+  public SignatureUtils() {
+    this(new TransactionEncoder());
+  }
 
   /**
    * Required-args constructor.
    *
-   * @param objectMapper A {@link ObjectMapper}.
-   * @param binaryCodec  A {@link XrplBinaryCodec}.
+   * @param objectMapper A {@link ObjectMapper}, which is not used.
+   * @param binaryCodec  A {@link XrplBinaryCodec}, which is not used.
+   *
+   * @deprecated Transactions are now encoded to binary directly, without going through JSON. Use
+   *   {@link #SignatureUtils()} or {@link #SignatureUtils(TransactionEncoder)} instead.
    */
+  @Deprecated
   public SignatureUtils(final ObjectMapper objectMapper, final XrplBinaryCodec binaryCodec) {
-    this.objectMapper = Objects.requireNonNull(objectMapper);
-    this.binaryCodec = Objects.requireNonNull(binaryCodec);
+    this(new TransactionEncoder());
+  }
+
+  /**
+   * Required-args constructor.
+   *
+   * @param transactionEncoder A {@link TransactionEncoder} used to encode transactions to binary.
+   */
+  public SignatureUtils(final TransactionEncoder transactionEncoder) {
+    this.transactionEncoder = Objects.requireNonNull(transactionEncoder);
   }
 
   /**
@@ -56,26 +75,36 @@ public class SignatureUtils {
    */
   public UnsignedByteArray toSignableBytes(final Transaction transaction) {
     Objects.requireNonNull(transaction);
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForSigning(unsignedJson);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return transactionEncoder.encodeForSigning(transaction);
   }
 
+  /**
+   * Helper method to convert a {@link Transaction} into bytes that can be signed by one signer of a multi-signed
+   * transaction.
+   *
+   * @param transaction   A {@link Transaction} to be signed.
+   * @param signerAddress The address of the account that will sign the transaction.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
   public UnsignedByteArray toMultiSignableBytes(final Transaction transaction, String signerAddress) {
     Objects.requireNonNull(transaction);
     Objects.requireNonNull(signerAddress);
+    return transactionEncoder.encodeForMultiSigning(transaction, Address.of(signerAddress));
+  }
 
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForMultiSigning(unsignedJson, signerAddress);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+  /**
+   * Helper method to convert a {@link Transaction} into the bytes that every signer of a multi-signed transaction
+   * signs. The transaction is encoded once, and {@link MultiSigningPayload#forSigner(Address)} then produces the same
+   * bytes as {@link #toMultiSignableBytes(Transaction, String)} for each signer.
+   *
+   * @param transaction A {@link Transaction} to be signed.
+   *
+   * @return A {@link MultiSigningPayload}.
+   */
+  public MultiSigningPayload toMultiSignablePayload(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+    return transactionEncoder.encodeForMultiSigning(transaction);
   }
 
   /**
@@ -183,17 +212,11 @@ public class SignatureUtils {
       // Should never happen, but will in a unit test if we miss one.
       throw new IllegalArgumentException("Signing fields could not be added to the unsignedTransaction.");
     }
-    try {
-      String signedJson = objectMapper.writeValueAsString(signedTransaction);
-      String signedBlob = binaryCodec.encode(signedJson); // <-- txBlob must be binary-encoded.
-      return SignedTransaction.builder()
-        .unsignedTransaction(unsignedTransaction)
-        .signature(signature)
-        .signedTransaction(signedTransaction)
-        .signedTransactionBytes(UnsignedByteArray.of(BaseEncoding.base16().decode(signedBlob)))
-        .build();
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return SignedTransaction.builder()
+      .unsignedTransaction(unsignedTransaction)
+      .signature(signature)
+      .signedTransaction(signedTransaction)
+      .signedTransactionBytes(transactionEncoder.encode(signedTransaction))
+      .build();
   }
 }
@@ -1,13 +1,10 @@
 package org.xrpl.xrpl4j.crypto.signing;
 
-import static java.util.Arrays.copyOfRange;
-
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.google.common.hash.Hashing;
-import com.google.common.io.BaseEncoding;
 import org.immutables.value.Value;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.hashing.XrplHashes;
 import com.fl.xrpl4j.model.transactions.Hash256;
 import com.fl.xrpl4j.model.transactions.Transaction;
 
@@ -23,7 +20,11 @@ public interface SignedTransaction<T extends Transaction> {
 
   /**
    * The hash prefix used by the XRPL to identify transaction hashes.
+   *
+   * @deprecated {@link #hash()} is now computed by {@link XrplHashes#transactionId(UnsignedByteArray)}, which applies
+   *     this prefix itself. This constant will be removed in a future version.
    */
+  @Deprecated
   String SIGNED_TRANSACTION_HASH_PREFIX = "54584E00";
 
   /**
@@ -74,15 +75,7 @@ public interface SignedTransaction<T extends Transaction> {
    */
   @Value.Derived
   default Hash256 hash() {
-    byte[] hashBytes = copyOfRange(
-      Hashing.sha512().hashBytes(
-        BaseEncoding.base16().decode(
-          SIGNED_TRANSACTION_HASH_PREFIX.concat(signedTransactionBytes().hexValue()).toUpperCase()
-        )).asBytes(),
-      0,
-      32 // <-- SHA512 Half is the first 32 bytes of the SHA512 hash.
-    );
-    return Hash256.of(BaseEncoding.base16().encode(hashBytes));
+    return XrplHashes.transactionId(signedTransactionBytes());
   }
 
 }
@@ -0,0 +1,40 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.crypto.KeyMetadata;
+import com.fl.xrpl4j.model.transactions.Transaction;
+
+/**
+ * A {@link Transaction} together with the {@link KeyMetadata} of the key that should sign it, for use in
+ * {@link TransactionSigner#signAll(java.util.List)}.
+ *
+ * @param <T> The type of {@link Transaction} to sign.
+ */
+@Value.Immutable
+public interface SigningRequest<T extends Transaction> {
+
+  /**
+   * A builder.
+   *
+   * @param <T> An instance of {@link Transaction}.
+   *
+   * @return An {@link ImmutableSigningRequest.Builder}.
+   */
+  static <T extends Transaction> ImmutableSigningRequest.Builder<T> builder() {
+    return ImmutableSigningRequest.builder();
+  }
+
+  /**
+   * Describes the public/private Keypair to use for signing operations.
+   *
+   * @return A {@link KeyMetadata}.
+   */
+  KeyMetadata keyMetadata();
+
+  /**
+   * The transaction to sign.
+   *
+   * @return A {@link Transaction}.
+   */
+  T transaction();
+}
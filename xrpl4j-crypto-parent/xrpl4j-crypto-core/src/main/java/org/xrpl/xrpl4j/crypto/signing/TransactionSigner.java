@@ -1,8 +1,16 @@
 package org.xrpl.xrpl4j.crypto.signing;
 
+import org.xrpl.xrpl4j.crypto.FutureUtils;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import com.fl.xrpl4j.model.transactions.Transaction;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
 /**
  * Defines how to sign an XRPL transaction.
  */
@@ -37,4 +45,59 @@ public interface TransactionSigner {
    * @return A {@link Signature} containing the transaction signature.
    */
   Signature signWithBehavior(KeyMetadata keyMetadata, Transaction transaction, SigningBehavior behavior);
+
+  /**
+   * Obtain a multi-signature for the supplied transaction from each of the private-keys that correspond to
+   * {@code keyMetadata}, as if by calling {@link #signWithBehavior(KeyMetadata, Transaction, SigningBehavior)} with
+   * {@link SigningBehavior#MULTI} for each of them. Implementations may encode {@code transaction} only once for all
+   * the keys.
+   *
+   * @param keyMetadata A {@link List} of {@link KeyMetadata} that describe the public/private Keypairs to sign with.
+   * @param transaction A {@link Transaction} to sign.
+   *
+   * @return A {@link List} with one {@link Signature} per entry of {@code keyMetadata}, in the same order.
+   */
+  default List<Signature> multiSign(List<KeyMetadata> keyMetadata, Transaction transaction) {
+    Objects.requireNonNull(keyMetadata);
+    Objects.requireNonNull(transaction);
+
+    return keyMetadata.stream()
+      .map(metadata -> signWithBehavior(metadata, transaction, SigningBehavior.MULTI))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Sign many transactions at once, in parallel on the common {@link ForkJoinPool}.
+   *
+   * @param requests A {@link List} of {@link SigningRequest}s, each holding a transaction and the key to sign it with.
+   * @param <T>      The type of the transactions to be signed.
+   *
+   * @return A {@link List} with one {@link SignedTransaction} per entry of {@code requests}, in the same order.
+   *
+   * @see #signAll(List, Executor)
+   */
+  default <T extends Transaction> List<SignedTransaction<T>> signAll(List<? extends SigningRequest<T>> requests) {
+    return signAll(requests, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Sign many transactions at once, as if by calling {@link #sign(KeyMetadata, Transaction)} for each of them. Each
+   * signature is computed as a separate task on {@code executor}, so implementations must be thread-safe.
+   *
+   * @param requests A {@link List} of {@link SigningRequest}s, each holding a transaction and the key to sign it with.
+   * @param executor The {@link Executor} to sign on.
+   * @param <T>      The type of the transactions to be signed.
+   *
+   * @return A {@link List} with one {@link SignedTransaction} per entry of {@code requests}, in the same order.
+   */
+  default <T extends Transaction> List<SignedTransaction<T>> signAll(
+    List<? extends SigningRequest<T>> requests, Executor executor
+  ) {
+    Objects.requireNonNull(requests);
+    Objects.requireNonNull(executor);
+
+    return FutureUtils.joinAll(requests.stream()
+      .map(request -> CompletableFuture.supplyAsync(() -> sign(request.keyMetadata(), request.transaction()), executor))
+      .collect(Collectors.toList()));
+  }
 }
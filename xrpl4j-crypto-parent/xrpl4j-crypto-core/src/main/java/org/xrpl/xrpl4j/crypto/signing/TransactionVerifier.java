@@ -1,8 +1,18 @@
 package org.xrpl.xrpl4j.crypto.signing;
 
+import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
+import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
+import org.xrpl.xrpl4j.crypto.FutureUtils;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import com.fl.xrpl4j.model.transactions.Transaction;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
 /**
  * Defines how to verify an XRPL transaction.
  */
@@ -20,4 +30,48 @@ public interface TransactionVerifier {
    * @return {@code true} if the signature is valid and verified; {@code false} otherwise.
    */
   <T extends Transaction> boolean verify(KeyMetadata keyMetadata, SignedTransaction<T> transactionWithSignature);
+
+  /**
+   * Verify many signatures at once, in parallel on the common {@link ForkJoinPool}.
+   *
+   * @param transactions A {@link List} of {@link VerifiableTransaction}s to verify.
+   *
+   * @return A {@link List} with one result per entry of {@code transactions}, in the same order: {@code true} if that
+   *     signature is valid and verified; {@code false} otherwise.
+   *
+   * @see #verifyAll(List, Executor)
+   */
+  default List<Boolean> verifyAll(List<? extends VerifiableTransaction<?>> transactions) {
+    return verifyAll(transactions, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Verify many signatures at once, as if by calling {@link #verify(KeyMetadata, SignedTransaction)} for each of them.
+   * Each verification is run as a separate task on {@code executor}, so implementations must be thread-safe.
+   *
+   * <p>An entry that can't be decoded or encoded, for example because its transaction has a malformed address or its
+   * signature is not valid DER, is reported as {@code false} and does not affect the other entries. Any other
+   * exception, such as the failure of a remote key store, is rethrown so that it is not mistaken for an invalid
+   * signature.</p>
+   *
+   * @param transactions A {@link List} of {@link VerifiableTransaction}s to verify.
+   * @param executor     The {@link Executor} to run verifications on.
+   *
+   * @return A {@link List} with one result per entry of {@code transactions}, in the same order: {@code true} if that
+   *     signature is valid and verified; {@code false} otherwise.
+   */
+  default List<Boolean> verifyAll(List<? extends VerifiableTransaction<?>> transactions, Executor executor) {
+    Objects.requireNonNull(transactions);
+    Objects.requireNonNull(executor);
+
+    return FutureUtils.joinAll(transactions.stream()
+      .map(transaction -> CompletableFuture.supplyAsync(() -> {
+        try {
+          return verify(transaction.keyMetadata(), transaction.signedTransaction());
+        } catch (IllegalArgumentException | DecodeException | EncodingFormatException e) {
+          return false;
+        }
+      }, executor))
+      .collect(Collectors.toList()));
+  }
 }
@@ -0,0 +1,40 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.crypto.KeyMetadata;
+import com.fl.xrpl4j.model.transactions.Transaction;
+
+/**
+ * A {@link SignedTransaction} together with the {@link KeyMetadata} of the key that should have signed it, for use in
+ * {@link TransactionVerifier#verifyAll(java.util.List)}.
+ *
+ * @param <T> The type of {@link Transaction} that was signed.
+ */
+@Value.Immutable
+public interface VerifiableTransaction<T extends Transaction> {
+
+  /**
+   * A builder.
+   *
+   * @param <T> An instance of {@link Transaction}.
+   *
+   * @return An {@link ImmutableVerifiableTransaction.Builder}.
+   */
+  static <T extends Transaction> ImmutableVerifiableTransaction.Builder<T> builder() {
+    return ImmutableVerifiableTransaction.builder();
+  }
+
+  /**
+   * Describes the public/private Keypair to use for verification.
+   *
+   * @return A {@link KeyMetadata}.
+   */
+  KeyMetadata keyMetadata();
+
+  /**
+   * The transaction and the {@link Signature} to verify.
+   *
+   * @return A {@link SignedTransaction}.
+   */
+  SignedTransaction<T> signedTransaction();
+}
@@ -0,0 +1,46 @@
+package org.xrpl.xrpl4j.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Unit tests for {@link FutureUtils}.
+ */
+public class FutureUtilsTest {
+
+  @Test
+  public void joinAllKeepsOrder() {
+    CompletableFuture<String> first = new CompletableFuture<>();
+    CompletableFuture<String> second = CompletableFuture.completedFuture("second");
+    CompletableFuture.runAsync(() -> first.complete("first"));
+
+    assertThat(FutureUtils.joinAll(Arrays.asList(first, second))).containsExactly("first", "second");
+  }
+
+  @Test
+  public void joinAllRethrowsRuntimeExceptions() {
+    CompletableFuture<String> failed = CompletableFuture.supplyAsync(() -> {
+      throw new IllegalStateException("failed");
+    });
+
+    IllegalStateException exception = assertThrows(
+      IllegalStateException.class,
+      () -> FutureUtils.joinAll(Arrays.asList(CompletableFuture.completedFuture("ok"), failed))
+    );
+    assertThat(exception).hasMessage("failed");
+  }
+
+  @Test
+  public void joinAllWrapsCheckedExceptions() {
+    CompletableFuture<String> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new Exception("checked"));
+
+    assertThrows(CompletionException.class, () -> FutureUtils.joinAll(Arrays.asList(failed)));
+  }
+}
@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
+import org.xrpl.xrpl4j.codec.binary.MultiSigningPayload;
 import org.xrpl.xrpl4j.crypto.KeyMetadata;
 import org.xrpl.xrpl4j.crypto.KeyStoreType;
 import org.xrpl.xrpl4j.crypto.PrivateKey;
@@ -23,6 +24,9 @@ import org.xrpl.xrpl4j.keypairs.KeyPairService;
 import com.fl.xrpl4j.model.transactions.Address;
 import com.fl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -50,6 +54,8 @@ public class AbstractSignatureServiceTest {
   private SignedTransaction transactionWithSignatureMock;
   @Mock
   private KeyPairService keyPairServiceMock;
+  @Mock
+  private MultiSigningPayload multiSigningPayloadMock;
 
   private Address signerAddress;
 
@@ -202,6 +208,76 @@ public class AbstractSignatureServiceTest {
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
+  ///////////////////
+  // multiSign
+  ///////////////////
+
+  @Test
+  void multiSignEd25519EncodesOnce() {
+    when(publicKeyMock.versionType()).thenReturn(VersionType.ED25519);
+    when(signatureUtilsMock.toMultiSignablePayload(transactionMock)).thenReturn(multiSigningPayloadMock);
+
+    final List<Signature> signatures = signatureService.multiSign(
+      Arrays.asList(keyMetadataMock, keyMetadataMock, keyMetadataMock), transactionMock
+    );
+    assertThat(signatures).containsExactly(ed25519SignatureMock, ed25519SignatureMock, ed25519SignatureMock);
+
+    verify(signatureUtilsMock).toMultiSignablePayload(transactionMock);
+    verify(multiSigningPayloadMock, times(3)).forSigner(signerAddress);
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  void multiSignSecp256k1EncodesOnce() {
+    when(publicKeyMock.versionType()).thenReturn(VersionType.SECP256K1);
+    when(signatureUtilsMock.toMultiSignablePayload(transactionMock)).thenReturn(multiSigningPayloadMock);
+
+    final List<Signature> signatures = signatureService.multiSign(
+      Arrays.asList(keyMetadataMock, keyMetadataMock, keyMetadataMock), transactionMock
+    );
+    assertThat(signatures).containsExactly(secp256k1SignatureMock, secp256k1SignatureMock, secp256k1SignatureMock);
+
+    verify(signatureUtilsMock).toMultiSignablePayload(transactionMock);
+    verify(multiSigningPayloadMock, times(3)).forSigner(signerAddress);
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  public void multiSignWithNullKeyMetadata() {
+    Assertions.assertThrows(NullPointerException.class, () -> signatureService.multiSign(null, transactionMock));
+  }
+
+  ///////////////////
+  // signAll
+  ///////////////////
+
+  @Test
+  public void signAllWithNullRequests() {
+    Assertions.assertThrows(NullPointerException.class, () -> signatureService.signAll(null));
+  }
+
+  @Test
+  public void signAllWithNullExecutor() {
+    Assertions.assertThrows(
+      NullPointerException.class, () -> signatureService.signAll(Collections.emptyList(), null)
+    );
+  }
+
+  @Test
+  public void signAllEd25519() {
+    when(publicKeyMock.versionType()).thenReturn(VersionType.ED25519);
+    SigningRequest<Transaction> request = SigningRequest.builder()
+      .keyMetadata(keyMetadataMock)
+      .transaction(transactionMock)
+      .build();
+
+    signatureService.signAll(Arrays.asList(request, request));
+
+    verify(signatureUtilsMock, times(2)).toSignableBytes(transactionMock);
+    verify(signatureUtilsMock, times(2)).addSignatureToTransaction(transactionMock, ed25519SignatureMock);
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
   ///////////////////
   // verify
   ///////////////////
@@ -243,6 +319,81 @@ public class AbstractSignatureServiceTest {
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
+  ///////////////////
+  // verifyAll
+  ///////////////////
+
+  @Test
+  public void verifyAllWithNullTransactions() {
+    Assertions.assertThrows(NullPointerException.class, () -> signatureService.verifyAll(null));
+  }
+
+  @Test
+  public void verifyAllWithNullExecutor() {
+    Assertions.assertThrows(
+      NullPointerException.class, () -> signatureService.verifyAll(Collections.emptyList(), null)
+    );
+  }
+
+  @Test
+  public void verifyAllEmpty() {
+    assertThat(signatureService.verifyAll(Collections.emptyList())).isEmpty();
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  public void verifyAllEd25519() {
+    when(publicKeyMock.versionType()).thenReturn(VersionType.ED25519);
+
+    List<Boolean> actual = signatureService.verifyAll(Arrays.asList(verifiable(), verifiable()), Runnable::run);
+
+    assertThat(actual).containsExactly(true, true);
+    assertThat(ed25519VerifyCalled.get()).isTrue();
+    assertThat(secp256k1VerifyCalled.get()).isFalse();
+    verify(signatureUtilsMock, times(2)).toSignableBytes(transactionMock);
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  public void verifyAllSecp256k1() {
+    when(publicKeyMock.versionType()).thenReturn(VersionType.SECP256K1);
+
+    List<Boolean> actual = signatureService.verifyAll(Arrays.asList(verifiable(), verifiable()));
+
+    assertThat(actual).containsExactly(true, true);
+    assertThat(secp256k1VerifyCalled.get()).isTrue();
+    assertThat(ed25519VerifyCalled.get()).isFalse();
+    verify(signatureUtilsMock, times(2)).toSignableBytes(transactionMock);
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  public void verifyAllReportsVerifyExceptionAsFalse() {
+    when(publicKeyMock.versionType()).thenReturn(VersionType.SECP256K1);
+    when(signatureUtilsMock.toSignableBytes(any()))
+      .thenThrow(new IllegalArgumentException("bad transaction"))
+      .thenReturn(UnsignedByteArray.empty());
+
+    List<Boolean> actual = signatureService.verifyAll(Arrays.asList(verifiable(), verifiable()), Runnable::run);
+
+    assertThat(actual).containsExactly(false, true);
+    assertThat(secp256k1VerifyCalled.get()).isTrue();
+  }
+
+  @Test
+  public void verifyAllRethrowsOtherExceptions() {
+    when(publicKeyMock.versionType()).thenReturn(VersionType.SECP256K1);
+    when(signatureUtilsMock.toSignableBytes(any()))
+      .thenReturn(UnsignedByteArray.empty())
+      .thenThrow(new IllegalStateException("key store unavailable"));
+
+    IllegalStateException exception = Assertions.assertThrows(
+      IllegalStateException.class,
+      () -> signatureService.verifyAll(Arrays.asList(verifiable(), verifiable()), Runnable::run)
+    );
+    assertThat(exception).hasMessage("key store unavailable");
+  }
+
   ///////////////////
   // EdDsaSign
   ///////////////////
@@ -311,4 +462,12 @@ public class AbstractSignatureServiceTest {
     assertThat(ed25519VerifyCalled.get()).isFalse();
     verifyNoMoreInteractions(signatureUtilsMock);
   }
+
+  @SuppressWarnings("unchecked")
+  private VerifiableTransaction<Transaction> verifiable() {
+    return VerifiableTransaction.<Transaction>builder()
+      .keyMetadata(keyMetadataMock)
+      .signedTransaction(transactionWithSignatureMock)
+      .build();
+  }
 }
@@ -2,15 +2,10 @@ package org.xrpl.xrpl4j.crypto.signing;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.core.JsonLocation;
-import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.primitives.UnsignedInteger;
@@ -23,8 +18,10 @@ import org.mockito.MockitoAnnotations;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.transactions.TransactionEncoder;
 import org.xrpl.xrpl4j.crypto.PublicKey;
 import org.xrpl.xrpl4j.keypairs.DefaultKeyPairService;
+import com.fl.xrpl4j.model.jackson.ObjectMapperFactory;
 import com.fl.xrpl4j.model.transactions.AccountDelete;
 import com.fl.xrpl4j.model.transactions.AccountSet;
 import com.fl.xrpl4j.model.transactions.Address;
@@ -67,22 +64,18 @@ public class SignatureUtilsTest {
   private Signature signatureMock;
 
   @Mock
-  private ObjectMapper objectMapperMock;
-
-  @Mock
-  private XrplBinaryCodec xrplBinaryCodecMock;
+  private TransactionEncoder transactionEncoderMock;
 
   private SignatureUtils signatureUtils;
 
   @BeforeEach
-  public void setUp() throws JsonProcessingException {
+  public void setUp() {
     MockitoAnnotations.openMocks(this);
     sourceWallet = this.getSourceWallet();
-    when(objectMapperMock.writeValueAsString(any())).thenReturn("{foo}"); // <-- Unused JSON value.
-    when(xrplBinaryCodecMock.encodeForSigning(anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encodeForMultiSigning(any(), anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encode(anyString())).thenReturn("0123456789"); // <-- Unused HEX value.
-    this.signatureUtils = new SignatureUtils(objectMapperMock, xrplBinaryCodecMock);
+    when(transactionEncoderMock.encode(any())).thenReturn(UnsignedByteArray.fromHex("0123456789"));
+    when(transactionEncoderMock.encodeForSigning(any())).thenReturn(UnsignedByteArray.fromHex("ED"));
+    when(transactionEncoderMock.encodeForMultiSigning(any(), any())).thenReturn(UnsignedByteArray.fromHex("ED"));
+    this.signatureUtils = new SignatureUtils(transactionEncoderMock);
   }
 
   //////////////////
@@ -105,37 +98,56 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void toSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException("", mock(JsonLocation.class))).when(objectMapperMock).writeValueAsString(any());
-    Assertions.assertThrows(RuntimeException.class, () -> signatureUtils.toSignableBytes(transactionMock));
-  }
+  public void toSignableBytes() {
+    UnsignedByteArray actual = signatureUtils.toSignableBytes(transactionMock);
+    assertThat(actual.length()).isEqualTo(1);
 
-  @Test
-  public void toMutliSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException("", mock(JsonLocation.class))).when(objectMapperMock).writeValueAsString(any());
-    Assertions.assertThrows(RuntimeException.class, () -> signatureUtils.toMultiSignableBytes(transactionMock, ""));
+    verify(transactionEncoderMock).encodeForSigning(transactionMock);
+    verifyNoMoreInteractions(transactionEncoderMock);
   }
 
   @Test
-  public void toSignableBytes() throws JsonProcessingException {
-    UnsignedByteArray actual = signatureUtils.toSignableBytes(transactionMock);
+  public void toMultiSignableBytes() {
+    UnsignedByteArray actual = signatureUtils.toMultiSignableBytes(
+      transactionMock, sourceWallet.classicAddress().value()
+    );
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
-    verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForSigning(anyString());
-    verifyNoMoreInteractions(xrplBinaryCodecMock);
+    verify(transactionEncoderMock).encodeForMultiSigning(transactionMock, sourceWallet.classicAddress());
+    verifyNoMoreInteractions(transactionEncoderMock);
   }
 
   @Test
-  public void toMultiSignableBytes()  throws JsonProcessingException {
-    UnsignedByteArray actual = signatureUtils.toMultiSignableBytes(transactionMock, "");
-    assertThat(actual.length()).isEqualTo(1);
+  public void toMultiSignablePayloadWithNullTransaction() {
+    Assertions.assertThrows(NullPointerException.class, () -> signatureUtils.toMultiSignablePayload(null));
+  }
+
+  @Test
+  public void encodingMatchesJsonEncoding() throws JsonProcessingException {
+    Payment payment = Payment.builder()
+      .account(sourceWallet.classicAddress())
+      .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
+      .sequence(UnsignedInteger.ONE)
+      .destination(sourceWallet.classicAddress())
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .signingPublicKey(sourceWallet.publicKey())
+      .build();
+    ObjectMapper objectMapper = ObjectMapperFactory.create();
+    XrplBinaryCodec binaryCodec = new XrplBinaryCodec();
+    SignatureUtils utils = new SignatureUtils();
+    String json = objectMapper.writeValueAsString(payment);
+
+    assertThat(utils.toSignableBytes(payment).hexValue()).isEqualTo(binaryCodec.encodeForSigning(json));
+    assertThat(utils.toMultiSignableBytes(payment, sourceWallet.classicAddress().value()).hexValue())
+      .isEqualTo(binaryCodec.encodeForMultiSigning(json, sourceWallet.classicAddress().value()));
+    assertThat(utils.toMultiSignablePayload(payment).forSigner(sourceWallet.classicAddress()).hexValue())
+      .isEqualTo(binaryCodec.encodeForMultiSigning(json, sourceWallet.classicAddress().value()));
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
-    verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForMultiSigning(anyString(), anyString());
-    verifyNoMoreInteractions(xrplBinaryCodecMock);
+    SignedTransaction signed = utils.addSignatureToTransaction(
+      payment, Signature.builder().value(UnsignedByteArray.fromHex("ED")).build()
+    );
+    assertThat(signed.signedTransactionBytes().hexValue())
+      .isEqualTo(binaryCodec.encode(objectMapper.writeValueAsString(signed.signedTransaction())));
   }
 
   ////////////////////////////
@@ -412,6 +424,8 @@ public class SignatureUtilsTest {
     assertThat(result.signature().base16Value()).isEqualTo("ED");
     assertThat(result.signedTransaction().transactionSignature()).isPresent();
     assertThat(result.signedTransaction().transactionSignature().get()).isEqualTo("ED");
+    assertThat(result.signedTransactionBytes().hexValue()).isEqualTo("0123456789");
+    verify(transactionEncoderMock).encode(result.signedTransaction());
   }
 
 
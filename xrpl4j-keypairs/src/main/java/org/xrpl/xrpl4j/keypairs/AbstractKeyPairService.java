@@ -9,13 +9,30 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import com.fl.xrpl4j.model.transactions.Address;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 /**
  * An abstract implementation of {@link KeyPairService} which handles common behavior among concrete implementations.
  */
 public abstract class AbstractKeyPairService implements KeyPairService {
 
+  /**
+   * A {@link Signer} shared by every call, which is no longer used by the services in this package.
+   *
+   * @deprecated A {@link Signer} is stateful, so sharing one makes a service unsafe to use from several threads.
+   *     Subclasses should create a {@link Signer} for each sign or verify call instead. This field will be removed in a
+   *     future version.
+   */
+  @Deprecated
   protected Signer signer;
+
   protected AddressCodec addressCodec = AddressCodec.getInstance();
 
   @Override
@@ -46,6 +63,53 @@ public abstract class AbstractKeyPairService implements KeyPairService {
     return addressCodec.encodeAccountId(computePublicKeyHash(publicKey));
   }
 
+  /**
+   * Verify each of {@code signedMessages}, decoding each distinct public key only once. An entry whose public key or
+   * signature is malformed, which {@code publicKeyDecoder} and {@code verifier} report by throwing an
+   * {@link IllegalArgumentException}, is reported as {@code false}. Any other exception is rethrown.
+   *
+   * @param signedMessages   A {@link List} of {@link SignedMessage}s to verify.
+   * @param publicKeyDecoder A {@link Function} that decodes a hexadecimal encoded public key, and throws an
+   *                         {@link IllegalArgumentException} if the key is malformed.
+   * @param verifier         A {@link BiPredicate} that verifies a {@link SignedMessage} using its decoded public key,
+   *                         and throws an {@link IllegalArgumentException} if the signature is malformed.
+   * @param <K>              The type of a decoded public key.
+   *
+   * @return A {@link List} with one result per entry of {@code signedMessages}, in the same order.
+   */
+  protected static <K> List<Boolean> verifyAll(
+    final List<SignedMessage> signedMessages,
+    final Function<String, K> publicKeyDecoder,
+    final BiPredicate<SignedMessage, K> verifier
+  ) {
+    Objects.requireNonNull(signedMessages);
+    Objects.requireNonNull(publicKeyDecoder);
+    Objects.requireNonNull(verifier);
+
+    Map<String, Optional<K>> publicKeys = new HashMap<>();
+    List<Boolean> results = new ArrayList<>(signedMessages.size());
+    for (SignedMessage signedMessage : signedMessages) {
+      Optional<K> publicKey = publicKeys.computeIfAbsent(signedMessage.publicKey(), encoded -> {
+        try {
+          return Optional.of(publicKeyDecoder.apply(encoded));
+        } catch (IllegalArgumentException e) {
+          return Optional.empty();
+        }
+      });
+
+      boolean verified = false;
+      if (publicKey.isPresent()) {
+        try {
+          verified = verifier.test(signedMessage, publicKey.get());
+        } catch (IllegalArgumentException e) {
+          verified = false;
+        }
+      }
+      results.add(verified);
+    }
+    return results;
+  }
+
   /**
    * Compute the RIPEMD160 of the SHA256 of the given public key, which can be encoded to an XRPL address.
    *
@@ -4,7 +4,12 @@ import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
@@ -69,4 +74,32 @@ public class DefaultKeyPairService extends AbstractKeyPairService {
     VersionType publicKeyType = publicKey.startsWith("ED") ? VersionType.ED25519 : VersionType.SECP256K1;
     return DefaultKeyPairService.getKeyPairServiceByType(publicKeyType).verify(message, signature, publicKey);
   }
+
+  /**
+   * Splits {@code signedMessages} by the type of their public key, and verifies each part with the
+   * {@link KeyPairService} for that type.
+   */
+  @Override
+  public List<Boolean> verifyAll(List<SignedMessage> signedMessages) {
+    Objects.requireNonNull(signedMessages);
+
+    Map<VersionType, List<Integer>> indexesByType = new EnumMap<>(VersionType.class);
+    for (int i = 0; i < signedMessages.size(); i++) {
+      // ED25519 keys are prefixed with "ED" to make them 33 bytes.
+      VersionType publicKeyType = signedMessages.get(i).publicKey().startsWith("ED") ?
+          VersionType.ED25519 : VersionType.SECP256K1;
+      indexesByType.computeIfAbsent(publicKeyType, type -> new ArrayList<>()).add(i);
+    }
+
+    Boolean[] results = new Boolean[signedMessages.size()];
+    indexesByType.forEach((type, indexes) -> {
+      List<SignedMessage> ofType = new ArrayList<>(indexes.size());
+      indexes.forEach(index -> ofType.add(signedMessages.get(index)));
+      List<Boolean> verified = DefaultKeyPairService.getKeyPairServiceByType(type).verifyAll(ofType);
+      for (int i = 0; i < indexes.size(); i++) {
+        results[indexes.get(i)] = verified.get(i);
+      }
+    });
+    return Arrays.asList(results);
+  }
 }
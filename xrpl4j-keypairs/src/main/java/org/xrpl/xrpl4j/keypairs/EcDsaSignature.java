@@ -25,15 +25,20 @@ public interface EcDsaSignature {
    *
    * @param bytes A DER encoded byte array containing a signature.
    *
-   * @return An {@link EcDsaSignature}.
+   * @return An {@link EcDsaSignature}, or null if {@code bytes} is DER but not a sequence of two integers.
+   *
+   * @throws IllegalArgumentException if {@code bytes} is not valid DER.
    */
   static EcDsaSignature fromDer(byte[] bytes) {
     try {
       ASN1InputStream decoder = new ASN1InputStream(bytes);
-      DLSequence seq = (DLSequence) decoder.readObject();
       ASN1Integer r;
       ASN1Integer s;
       try {
+        DLSequence seq = (DLSequence) decoder.readObject();
+        if (seq == null || seq.size() < 2) {
+          return null;
+        }
         r = (ASN1Integer) seq.getObjectAt(0);
         s = (ASN1Integer) seq.getObjectAt(1);
       } catch (ClassCastException e) {
@@ -48,7 +53,7 @@ public interface EcDsaSignature {
           .s(s.getPositiveValue())
           .build();
     } catch (IOException e) {
-      throw new RuntimeException(e);
+      throw new IllegalArgumentException("Signature is not valid DER.", e);
     }
   }
 
@@ -1,10 +1,9 @@
 package org.xrpl.xrpl4j.keypairs;
 
 import com.google.common.io.BaseEncoding;
-import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
-import org.bouncycastle.crypto.signers.Ed25519Signer;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
 import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
 import org.xrpl.xrpl4j.codec.addresses.Decoded;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
@@ -12,13 +11,16 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.Version;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
-import org.xrpl.xrpl4j.keypairs.exceptions.SigningException;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Implementation of {@link KeyPairService} which uses the ED25519 algorithm to derive keys and sign/verify
  * signatures.
+ *
+ * <p>This class is thread-safe. Signing and verification use Bouncy Castle's stateless RFC 8032 functions, so
+ * concurrent callers share no mutable state and do not contend with each other.</p>
  */
 public class Ed25519KeyPairService extends AbstractKeyPairService {
 
@@ -27,7 +29,6 @@ public class Ed25519KeyPairService extends AbstractKeyPairService {
   Ed25519KeyPairService(final AddressCodec addressCodec) {
     Objects.requireNonNull(addressCodec);
     this.addressCodec = addressCodec;
-    this.signer = new Ed25519Signer();
   }
 
   public static Ed25519KeyPairService getInstance() {
@@ -77,28 +78,42 @@ public class Ed25519KeyPairService extends AbstractKeyPairService {
         0
     );
 
-    signer.reset();
-    signer.init(true, privateKeyParameters);
-    signer.update(message.toByteArray(), 0, message.getUnsignedBytes().size());
+    byte[] signature = new byte[Ed25519.SIGNATURE_SIZE];
+    privateKeyParameters.sign(
+        Ed25519.Algorithm.Ed25519, null, null, message.toByteArray(), 0, message.length(), signature, 0
+    );
+    return BaseEncoding.base16().encode(signature);
+  }
 
-    try {
-      byte[] signature = signer.generateSignature();
-      return BaseEncoding.base16().encode(signature);
-    } catch (CryptoException e) {
-      throw new SigningException(e);
+  @Override
+  public boolean verify(UnsignedByteArray message, String signature, String publicKey) {
+    return verify(message, signature, decodePublicKey(publicKey));
+  }
+
+  private boolean verify(UnsignedByteArray message, String signature, byte[] publicKey) {
+    byte[] signatureBytes = BaseEncoding.base16().decode(signature);
+    if (signatureBytes.length != Ed25519.SIGNATURE_SIZE) {
+      return false;
     }
+    return Ed25519.verify(signatureBytes, 0, publicKey, 0, message.toByteArray(), 0, message.length());
   }
 
   @Override
-  public boolean verify(UnsignedByteArray message, String signature, String publicKey) {
-    Ed25519PublicKeyParameters publicKeyParameters = new Ed25519PublicKeyParameters(
-        BaseEncoding.base16().decode(publicKey.substring(2)), // Remove ED prefix byte
-        0
+  public List<Boolean> verifyAll(List<SignedMessage> signedMessages) {
+    return verifyAll(signedMessages, this::decodePublicKey, (signedMessage, publicKey) ->
+        verify(signedMessage.message(), signedMessage.signature(), publicKey)
     );
+  }
 
-    signer.reset();
-    signer.init(false, publicKeyParameters);
-    signer.update(message.toByteArray(), 0, message.getUnsignedBytes().size());
-    return signer.verifySignature(BaseEncoding.base16().decode(signature));
+  private byte[] decodePublicKey(String publicKey) {
+    byte[] publicKeyBytes = BaseEncoding.base16().decode(publicKey);
+    if (publicKeyBytes.length != Ed25519PublicKeyParameters.KEY_SIZE + 1) {
+      throw new IllegalArgumentException("ED25519 public keys must be 33 bytes long.");
+    }
+    Ed25519PublicKeyParameters publicKeyParameters = new Ed25519PublicKeyParameters(
+        publicKeyBytes,
+        1 // Skip ED prefix byte
+    );
+    return publicKeyParameters.getEncoded();
   }
 }
@@ -3,6 +3,14 @@ package org.xrpl.xrpl4j.keypairs;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import com.fl.xrpl4j.model.transactions.Address;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
 /**
  * Interface of a service that can perform the crypto operations necessary to create a wallet,
  * sign and verify XRPL transactions, and derive XRPL addresses.
@@ -79,6 +87,72 @@ public interface KeyPairService {
    */
   boolean verify(String message, String signature, String publicKey);
 
+  /**
+   * Verify many signatures at once, as if by calling {@link #verify(UnsignedByteArray, String, String)} for each of
+   * them. Implementations decode each distinct public key only once, so a batch with many signatures from the same
+   * key is cheaper to verify than the equivalent single verifications. The batch is verified on the calling thread.
+   *
+   * <p>An entry whose public key or signature is malformed, which {@link #verify(UnsignedByteArray, String, String)}
+   * reports by throwing an {@link IllegalArgumentException}, is reported as {@code false} and does not affect the
+   * other entries. Any other exception is rethrown.</p>
+   *
+   * @param signedMessages A {@link List} of {@link SignedMessage}s to verify.
+   *
+   * @return A {@link List} with one result per entry of {@code signedMessages}, in the same order: {@code true} if that
+   *     signature is valid, {@code false} if not.
+   *
+   * @see #verifyAll(List, Executor)
+   */
+  default List<Boolean> verifyAll(List<SignedMessage> signedMessages) {
+    Objects.requireNonNull(signedMessages);
+
+    return signedMessages.stream()
+      .map(signedMessage -> {
+        try {
+          return verify(signedMessage.message(), signedMessage.signature(), signedMessage.publicKey());
+        } catch (IllegalArgumentException e) {
+          return false;
+        }
+      })
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Verify many signatures at once, in parallel. {@code signedMessages} is split into one chunk per available
+   * processor, and each chunk is verified by {@link #verifyAll(List)} as a separate task on {@code executor}, so each
+   * distinct public key is decoded at most once per chunk. Implementations must be thread-safe.
+   *
+   * @param signedMessages A {@link List} of {@link SignedMessage}s to verify.
+   * @param executor       The {@link Executor} to run verifications on.
+   *
+   * @return A {@link List} with one result per entry of {@code signedMessages}, in the same order: {@code true} if that
+   *     signature is valid, {@code false} if not.
+   */
+  default List<Boolean> verifyAll(List<SignedMessage> signedMessages, Executor executor) {
+    Objects.requireNonNull(signedMessages);
+    Objects.requireNonNull(executor);
+
+    int chunks = Math.max(1, Math.min(signedMessages.size(), Runtime.getRuntime().availableProcessors()));
+    int chunkSize = (signedMessages.size() + chunks - 1) / chunks;
+    List<CompletableFuture<List<Boolean>>> futures = new ArrayList<>(chunks);
+    for (int start = 0; start < signedMessages.size(); start += chunkSize) {
+      List<SignedMessage> chunk = signedMessages.subList(start, Math.min(start + chunkSize, signedMessages.size()));
+      futures.add(CompletableFuture.supplyAsync(() -> verifyAll(chunk), executor));
+    }
+
+    try {
+      return futures.stream()
+        .map(CompletableFuture::join)
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   /**
    * Derive an XRPL address from a public key.
    *
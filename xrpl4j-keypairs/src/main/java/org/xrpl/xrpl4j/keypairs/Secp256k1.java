@@ -1,15 +1,23 @@
 package org.xrpl.xrpl4j.keypairs;
 
-import org.bouncycastle.asn1.sec.SECNamedCurves;
 import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
 import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.math.ec.ECMultiplier;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+
+import java.math.BigInteger;
 
 /**
  * Static constants for Secp256k1 cryptography.
+ *
+ * <p>The curve is BouncyCastle's specialized secp256k1 implementation, which has dedicated field arithmetic and uses
+ * the GLV endomorphism for multiplying arbitrary points.</p>
  */
 public interface Secp256k1 {
 
-  X9ECParameters x9ECParameters = SECNamedCurves.getByName("secp256k1");
+  X9ECParameters x9ECParameters = CustomNamedCurves.getByName("secp256k1");
   ECDomainParameters ecDomainParameters = new ECDomainParameters(
       x9ECParameters.getCurve(),
       x9ECParameters.getG(),
@@ -17,4 +25,21 @@ public interface Secp256k1 {
       x9ECParameters.getH()
   );
 
+  /**
+   * A fixed-base comb multiplier. Its table of multiples of the generator is computed on first use and then cached on
+   * {@code ecDomainParameters.getG()}, where BouncyCastle's {@code ECDSASigner} finds and reuses it too.
+   */
+  ECMultiplier generatorMultiplier = new FixedPointCombMultiplier();
+
+  /**
+   * Multiply the generator point of the curve by {@code scalar}, using the precomputed generator table.
+   *
+   * @param scalar A {@link BigInteger} to multiply the generator by, such as a private key.
+   *
+   * @return The normalized {@link ECPoint} {@code scalar * G}.
+   */
+  static ECPoint multiplyGenerator(BigInteger scalar) {
+    return generatorMultiplier.multiply(ecDomainParameters.getG(), scalar).normalize();
+  }
+
 }
@@ -1,6 +1,7 @@
 package org.xrpl.xrpl4j.keypairs;
 
 import static org.xrpl.xrpl4j.keypairs.Secp256k1.ecDomainParameters;
+import static org.xrpl.xrpl4j.keypairs.Secp256k1.multiplyGenerator;
 
 import com.google.common.io.BaseEncoding;
 import org.bouncycastle.crypto.digests.SHA256Digest;
@@ -13,11 +14,15 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.VersionType;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Implementation of {@link KeyPairService} which uses the ECDSA algorithm with the secp256k1 curve to derive keys
  * and sign/verify signatures.
+ *
+ * <p>Multiples of the generator point, which key derivation and signing need, are computed with the precomputed
+ * table in {@link Secp256k1}.</p>
  */
 public class Secp256k1KeyPairService extends AbstractKeyPairService {
 
@@ -65,7 +70,7 @@ public class Secp256k1KeyPairService extends AbstractKeyPairService {
   }
 
   private UnsignedByteArray derivePublicKey(BigInteger privateKey) {
-    return UnsignedByteArray.of(ecDomainParameters.getG().multiply(privateKey).getEncoded(true));
+    return UnsignedByteArray.of(multiplyGenerator(privateKey).getEncoded(true));
   }
 
   private BigInteger derivePrivateKey(UnsignedByteArray seed, int accountNumber) {
@@ -74,7 +79,7 @@ public class Secp256k1KeyPairService extends AbstractKeyPairService {
       return privateGen;
     }
 
-    UnsignedByteArray publicGen = UnsignedByteArray.of(ecDomainParameters.getG().multiply(privateGen).getEncoded(true));
+    UnsignedByteArray publicGen = UnsignedByteArray.of(multiplyGenerator(privateGen).getEncoded(true));
     return deriveScalar(publicGen, accountNumber)
         .add(privateGen)
         .mod(ecDomainParameters.getN());
@@ -133,6 +138,10 @@ public class Secp256k1KeyPairService extends AbstractKeyPairService {
 
   @Override
   public boolean verify(UnsignedByteArray message, String signature, String publicKey) {
+    return verify(message, signature, decodePublicKey(publicKey));
+  }
+
+  private boolean verify(UnsignedByteArray message, String signature, ECPublicKeyParameters publicKey) {
     UnsignedByteArray messageHash = HashUtils.sha512Half(message);
     EcDsaSignature sig = EcDsaSignature.fromDer(BaseEncoding.base16().decode(signature));
     if (sig == null) {
@@ -140,9 +149,22 @@ public class Secp256k1KeyPairService extends AbstractKeyPairService {
     }
 
     ECDSASigner signer = new ECDSASigner();
-    ECPoint publicKeyPoint = ecDomainParameters.getCurve().decodePoint(BaseEncoding.base16().decode(publicKey));
-    ECPublicKeyParameters params = new ECPublicKeyParameters(publicKeyPoint, ecDomainParameters);
-    signer.init(false, params);
+    signer.init(false, publicKey);
     return signer.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
   }
+
+  /**
+   * Decompressing a public key point costs a modular square root, so each distinct key is only decoded once per batch.
+   */
+  @Override
+  public List<Boolean> verifyAll(List<SignedMessage> signedMessages) {
+    return verifyAll(signedMessages, this::decodePublicKey, (signedMessage, publicKey) ->
+        verify(signedMessage.message(), signedMessage.signature(), publicKey)
+    );
+  }
+
+  private ECPublicKeyParameters decodePublicKey(String publicKey) {
+    ECPoint publicKeyPoint = ecDomainParameters.getCurve().decodePoint(BaseEncoding.base16().decode(publicKey));
+    return new ECPublicKeyParameters(publicKeyPoint, ecDomainParameters);
+  }
 }
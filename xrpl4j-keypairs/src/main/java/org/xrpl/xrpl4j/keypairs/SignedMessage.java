@@ -0,0 +1,38 @@
+package org.xrpl.xrpl4j.keypairs;
+
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+/**
+ * A message together with a signature over it and the public key that should have produced that signature, for use in
+ * {@link KeyPairService#verifyAll(java.util.List)}.
+ */
+@Value.Immutable
+public interface SignedMessage {
+
+  static ImmutableSignedMessage.Builder builder() {
+    return ImmutableSignedMessage.builder();
+  }
+
+  /**
+   * The public key derived from the private key that was used to sign {@link #message()}.
+   *
+   * @return The hexadecimal encoded public key.
+   */
+  String publicKey();
+
+  /**
+   * The arbitrary message that was signed.
+   *
+   * @return An {@link UnsignedByteArray} containing the message.
+   */
+  UnsignedByteArray message();
+
+  /**
+   * The signature to verify.
+   *
+   * @return The hexadecimal encoded signature.
+   */
+  String signature();
+
+}
@@ -0,0 +1,83 @@
+package org.xrpl.xrpl4j.keypairs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks that a {@link KeyPairService} can be shared between threads, for the tests of each implementation.
+ */
+final class ConcurrentSigning {
+
+  private static final int THREADS = 8;
+  private static final int ITERATIONS = 100;
+
+  private ConcurrentSigning() {
+  }
+
+  /**
+   * Sign and verify messages with two key pairs on several threads at once, and check that every signature matches
+   * the one computed on a single thread and only verifies for its own message. Both algorithms sign
+   * deterministically, so the expected signatures can be computed up front.
+   *
+   * @param keyPairService The {@link KeyPairService} to check.
+   * @param seed           A seed for {@code keyPairService}'s algorithm.
+   */
+  static void assertSignsAndVerifiesConcurrently(KeyPairService keyPairService, String seed) throws Exception {
+    final KeyPair[] keyPairs = {
+        keyPairService.deriveKeyPair(seed),
+        keyPairService.deriveKeyPair(keyPairService.generateSeed(UnsignedByteArray.ofSize(16)))
+    };
+
+    final String[][] expectedSignatures = new String[THREADS][ITERATIONS];
+    for (int thread = 0; thread < THREADS; thread++) {
+      for (int i = 0; i < ITERATIONS; i++) {
+        expectedSignatures[thread][i] = keyPairService.sign(message(thread, i), keyPairs[i % 2].privateKey());
+      }
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int thread = 0; thread < THREADS; thread++) {
+        final int threadIndex = thread;
+        Callable<Integer> task = () -> {
+          start.await();
+          int mismatches = 0;
+          for (int i = 0; i < ITERATIONS; i++) {
+            KeyPair keyPair = keyPairs[i % 2];
+            String signature = keyPairService.sign(message(threadIndex, i), keyPair.privateKey());
+            if (!signature.equals(expectedSignatures[threadIndex][i]) ||
+                !keyPairService.verify(message(threadIndex, i), signature, keyPair.publicKey()) ||
+                keyPairService.verify(message(threadIndex, i + 1), signature, keyPair.publicKey())) {
+              mismatches++;
+            }
+          }
+          return mismatches;
+        };
+        results.add(executor.submit(task));
+      }
+      start.countDown();
+
+      for (Future<Integer> result : results) {
+        assertThat(result.get(1, TimeUnit.MINUTES)).isZero();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static UnsignedByteArray message(int thread, int iteration) {
+    return UnsignedByteArray.of(("message " + thread + " " + iteration).getBytes());
+  }
+}
@@ -4,8 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.io.BaseEncoding;
 import org.junit.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import com.fl.xrpl4j.model.transactions.Address;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
 public class DefaultKeyPairServiceTest {
 
   KeyPairService keyPairService = DefaultKeyPairService.getInstance();
@@ -74,6 +84,71 @@ public class DefaultKeyPairServiceTest {
     assertThat(keyPairService.verify(message, signature, publicKey)).isTrue();
   }
 
+  @Test
+  public void verifyAllWithMixedPublicKeys() {
+    String edSignature = "CB199E1BFD4E3DAA105E4832EEDFA36413E1F44205E4EFB9E27E826044C21E3E2E848B" +
+        "BC8195E8959BADF887599B7310AD1B7047EF11B682E0D068F73749750E";
+    String edPublicKey = "ED01FA53FA5A7E77798F882ECE20B1ABC00BB358A9E55A202D0D0676BD0CE37A63";
+    String ecSignature = "30440220583A91C95E54E6A651C47BEC22744E0B101E2C4060E7B08F6341657DAD9BC3E" +
+        "E02207D1489C7395DB0188D3A56A977ECBA54B36FA9371B40319655B1B4429E33EF2D";
+    String ecPublicKey = "030D58EB48B4420B1F7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D435";
+    UnsignedByteArray message = UnsignedByteArray.of("test message".getBytes());
+    UnsignedByteArray otherMessage = UnsignedByteArray.of("other message".getBytes());
+
+    assertThat(keyPairService.verifyAll(Arrays.asList(
+        signedMessage(ecPublicKey, message, ecSignature),
+        signedMessage(edPublicKey, message, edSignature),
+        signedMessage(ecPublicKey, otherMessage, ecSignature),
+        signedMessage(edPublicKey, otherMessage, edSignature),
+        signedMessage(ecPublicKey, message, "3000"),
+        signedMessage("02FFFF", message, ecSignature),
+        signedMessage(edPublicKey, message, "not hex"),
+        signedMessage(ecPublicKey, message, ecSignature)
+    ))).containsExactly(true, true, false, false, false, false, false, true);
+  }
+
+  @Test
+  public void verifyAllWithExecutor() {
+    String edSignature = "CB199E1BFD4E3DAA105E4832EEDFA36413E1F44205E4EFB9E27E826044C21E3E2E848B" +
+        "BC8195E8959BADF887599B7310AD1B7047EF11B682E0D068F73749750E";
+    String edPublicKey = "ED01FA53FA5A7E77798F882ECE20B1ABC00BB358A9E55A202D0D0676BD0CE37A63";
+    String ecSignature = "30440220583A91C95E54E6A651C47BEC22744E0B101E2C4060E7B08F6341657DAD9BC3E" +
+        "E02207D1489C7395DB0188D3A56A977ECBA54B36FA9371B40319655B1B4429E33EF2D";
+    String ecPublicKey = "030D58EB48B4420B1F7B9DF55087E0E29FEF0E8468F9A6825B01CA2C361042D435";
+    UnsignedByteArray message = UnsignedByteArray.of("test message".getBytes());
+    UnsignedByteArray otherMessage = UnsignedByteArray.of("other message".getBytes());
+
+    List<SignedMessage> signedMessages = new ArrayList<>();
+    List<Boolean> expected = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      boolean valid = i % 3 != 0;
+      signedMessages.add(signedMessage(
+          i % 2 == 0 ? ecPublicKey : edPublicKey, valid ? message : otherMessage, i % 2 == 0 ? ecSignature : edSignature
+      ));
+      expected.add(valid);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertThat(keyPairService.verifyAll(signedMessages, executor)).isEqualTo(expected);
+      assertThat(keyPairService.verifyAll(Collections.emptyList(), executor)).isEmpty();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void verifyAllRethrowsUnexpectedExceptions() {
+    UnsignedByteArray message = UnsignedByteArray.of("test message".getBytes());
+    BiPredicate<SignedMessage, String> verifier = (signedMessage, publicKey) -> {
+      throw new NullPointerException();
+    };
+
+    AbstractKeyPairService.verifyAll(
+        Collections.singletonList(signedMessage("02FFFF", message, "3000")), Function.identity(), verifier
+    );
+  }
+
   @Test
   public void deriveAddressFromEd25519PublicKey() {
     String publicKey = "ED01FA53FA5A7E77798F882ECE20B1ABC00BB358A9E55A202D0D0676BD0CE37A63";
@@ -89,4 +164,12 @@ public class DefaultKeyPairServiceTest {
     Address address = keyPairService.deriveAddress(publicKey);
     assertThat(address).isEqualTo(expectedAddress);
   }
+
+  private SignedMessage signedMessage(String publicKey, UnsignedByteArray message, String signature) {
+    return SignedMessage.builder()
+        .publicKey(publicKey)
+        .message(message)
+        .signature(signature)
+        .build();
+  }
 }
@@ -55,4 +55,16 @@ public class Ed25519KeyPairServiceTest {
     Address address = keyPairService.deriveAddress(publicKey);
     assertThat(address).isEqualTo(expectedAddress);
   }
+
+  @Test
+  public void verifySignatureWithWrongLength() {
+    String publicKey = "ED01FA53FA5A7E77798F882ECE20B1ABC00BB358A9E55A202D0D0676BD0CE37A63";
+    String message = BaseEncoding.base16().encode("test message" .getBytes());
+    assertThat(keyPairService.verify(message, "CB199E1BFD4E3DAA", publicKey)).isFalse();
+  }
+
+  @Test
+  public void signAndVerifyConcurrently() throws Exception {
+    ConcurrentSigning.assertSignsAndVerifiesConcurrently(keyPairService, "sEdSKaCy2JT7JaM7v95H9SxkhP9wS2r");
+  }
 }
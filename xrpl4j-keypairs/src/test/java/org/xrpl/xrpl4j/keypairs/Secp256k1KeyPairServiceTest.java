@@ -6,6 +6,11 @@ import com.google.common.io.BaseEncoding;
 import org.junit.Test;
 import com.fl.xrpl4j.model.transactions.Address;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 public class Secp256k1KeyPairServiceTest {
 
   KeyPairService keyPairService = Secp256k1KeyPairService.getInstance();
@@ -49,4 +54,27 @@ public class Secp256k1KeyPairServiceTest {
     Address address = keyPairService.deriveAddress(publicKey);
     assertThat(address).isEqualTo(expectedAddress);
   }
+
+  @Test
+  public void multiplyGeneratorMatchesGenericMultiplication() {
+    // a fixed seed, so that a failure can be reproduced
+    Random random = new Random(256);
+    BigInteger order = Secp256k1.ecDomainParameters.getN();
+    List<BigInteger> scalars = new ArrayList<>();
+    scalars.add(BigInteger.ONE);
+    scalars.add(order.subtract(BigInteger.ONE));
+    for (int i = 0; i < 50; i++) {
+      scalars.add(new BigInteger(256, random).mod(order));
+    }
+
+    for (BigInteger scalar : scalars) {
+      assertThat(Secp256k1.multiplyGenerator(scalar).getEncoded(true))
+          .isEqualTo(Secp256k1.ecDomainParameters.getG().multiply(scalar).normalize().getEncoded(true));
+    }
+  }
+
+  @Test
+  public void signAndVerifyConcurrently() throws Exception {
+    ConcurrentSigning.assertSignsAndVerifiesConcurrently(keyPairService, "sp5fghtJtpUorTwvof1NpDXAzNwf5");
+  }
 }
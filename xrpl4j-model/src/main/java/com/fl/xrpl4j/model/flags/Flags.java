@@ -127,6 +127,17 @@ public class Flags {
       super(value);
     }
 
+    /**
+     * Construct {@link TransactionFlags} with a given value.
+     *
+     * @param value The long-number encoded flags value of this {@link TransactionFlags}.
+     *
+     * @return New {@link TransactionFlags}.
+     */
+    public static TransactionFlags of(long value) {
+      return new TransactionFlags(value);
+    }
+
     /**
      * Flags indicating that a fully-canonical signature is required. This flag is highly recommended.
      *
@@ -14,7 +14,8 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.text.DecimalFormat;
-import java.util.Locale;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Wrapped immutable classes for providing type-safe objects.
@@ -55,6 +56,11 @@ public class Wrappers {
 
   /**
    * A wrapped {@link String} containing the Hex representation of a 256-bit Hash.
+   *
+   * <p>Each instance also holds the 32 bytes of the hash. {@link #ofBytes(byte[])} fills them in directly, and any
+   * other instance decodes them from {@link #value()} the first time they are needed. Hashes are compared by these
+   * bytes, so the case of {@link #value()} doesn't matter. {@link #value()} stays the wrapped {@link String} so that
+   * the Immutables wrapper and Jackson keep working unchanged.</p>
    */
   @Value.Immutable
   @Wrapped
@@ -62,6 +68,48 @@ public class Wrappers {
   @JsonDeserialize(as = Hash256.class)
   abstract static class _Hash256 extends Wrapper<String> implements Serializable {
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * The 32 bytes of this hash, or null if {@link #value()} has not been decoded yet.
+     */
+    private transient volatile byte[] bytes;
+
+    /**
+     * Construct a {@link Hash256} from the 32 bytes of a hash, such as the output of SHA-512Half.
+     *
+     * @param bytes A byte array of length 32.
+     *
+     * @return A {@link Hash256} whose {@link #value()} is the upper-case hex encoding of {@code bytes}.
+     */
+    public static Hash256 ofBytes(final byte[] bytes) {
+      Objects.requireNonNull(bytes);
+      Preconditions.checkArgument(bytes.length == 32, "Hash256 byte arrays must be 32 bytes long.");
+
+      char[] hex = new char[64];
+      for (int i = 0; i < 32; i++) {
+        hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+        hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+      }
+
+      Hash256 hash = Hash256.of(new String(hex));
+      ((_Hash256) hash).bytes = bytes.clone();
+      return hash;
+    }
+
+    private static int hexDigit(final char character) {
+      if (character >= '0' && character <= '9') {
+        return character - '0';
+      }
+      if (character >= 'A' && character <= 'F') {
+        return character - 'A' + 10;
+      }
+      if (character >= 'a' && character <= 'f') {
+        return character - 'a' + 10;
+      }
+      return -1;
+    }
+
     @Override
     public String toString() {
       return this.value();
@@ -70,20 +118,51 @@ public class Wrappers {
     @Value.Check
     public void validateLength() {
       Preconditions.checkArgument(this.value().length() == 64, "Hash256 Strings must be 64 characters long.");
+      for (int i = 0; i < 64; i++) {
+        Preconditions.checkArgument(
+          hexDigit(this.value().charAt(i)) >= 0,
+          "Hash256 Strings must only contain hexadecimal characters."
+        );
+      }
+    }
+
+    /**
+     * Get the 32 bytes of this hash.
+     *
+     * @return A new byte array of length 32.
+     */
+    public byte[] toBytes() {
+      return bytes().clone();
+    }
+
+    private byte[] bytes() {
+      byte[] decoded = this.bytes;
+      if (decoded == null) {
+        String value = this.value();
+        decoded = new byte[32];
+        for (int i = 0; i < 32; i++) {
+          decoded[i] = (byte) ((hexDigit(value.charAt(2 * i)) << 4) | hexDigit(value.charAt(2 * i + 1)));
+        }
+        this.bytes = decoded;
+      }
+      return decoded;
     }
 
     @Override
     public boolean equals(Object obj) {
-      if (!Hash256.class.isAssignableFrom(obj.getClass())) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof _Hash256)) {
         return false;
       }
 
-      return this.value().toUpperCase(Locale.ENGLISH).equals(((Hash256) obj).value().toUpperCase(Locale.ENGLISH));
+      return Arrays.equals(this.bytes(), ((_Hash256) obj).bytes());
     }
 
     @Override
     public int hashCode() {
-      return value().toUpperCase(Locale.ENGLISH).hashCode();
+      return Arrays.hashCode(bytes());
     }
   }
 
@@ -1,9 +1,13 @@
 package com.fl.xrpl4j.model.transactions;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.io.BaseEncoding;
 import org.junit.Test;
 
+import java.util.Locale;
+
 /**
  * Unit tests for {@link Hash256}.
  */
@@ -33,4 +37,50 @@ public class Hash256Test {
       .isNotEqualTo(Hash256.of("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF").hashCode());
   }
 
+  @Test
+  public void hashFromBytes() {
+    byte[] bytes = BaseEncoding.base16().decode("C53ECF838647FA5A4C780377025FEC7999AB4182590510CA461444B207AB74A9");
+    Hash256 hash = Hash256.ofBytes(bytes);
+
+    assertThat(hash.value()).isEqualTo("C53ECF838647FA5A4C780377025FEC7999AB4182590510CA461444B207AB74A9");
+    assertThat(hash).isEqualTo(Hash256.of("c53ecf838647fa5a4c780377025fec7999ab4182590510ca461444b207ab74a9"));
+    assertThat(hash.hashCode())
+      .isEqualTo(Hash256.of("c53ecf838647fa5a4c780377025fec7999ab4182590510ca461444b207ab74a9").hashCode());
+    assertThat(hash.toBytes()).isEqualTo(bytes);
+    assertThat(Hash256.of(hash.value().toLowerCase(Locale.ENGLISH)).toBytes()).isEqualTo(bytes);
+  }
+
+  @Test
+  public void hashBytesAreCopied() {
+    byte[] bytes = BaseEncoding.base16().decode("C53ECF838647FA5A4C780377025FEC7999AB4182590510CA461444B207AB74A9");
+    Hash256 hash = Hash256.ofBytes(bytes);
+    bytes[0] = 0;
+    hash.toBytes()[1] = 0;
+
+    assertThat(hash).isEqualTo(Hash256.of("C53ECF838647FA5A4C780377025FEC7999AB4182590510CA461444B207AB74A9"));
+    assertThat(BaseEncoding.base16().encode(hash.toBytes()))
+      .isEqualTo("C53ECF838647FA5A4C780377025FEC7999AB4182590510CA461444B207AB74A9");
+  }
+
+  @Test
+  public void hashNotEqualToOtherTypes() {
+    Hash256 hash = Hash256.of("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF");
+    assertThat(hash).isNotEqualTo(null);
+    assertThat(hash).isNotEqualTo(hash.value());
+    assertThat(hash).isNotEqualTo(Hash256.of("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFE"));
+  }
+
+  @Test
+  public void invalidHashes() {
+    assertThatThrownBy(() -> Hash256.of("FFFF"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Hash256 Strings must be 64 characters long.");
+    assertThatThrownBy(() -> Hash256.of("GFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Hash256 Strings must only contain hexadecimal characters.");
+    assertThatThrownBy(() -> Hash256.ofBytes(new byte[31]))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Hash256 byte arrays must be 32 bytes long.");
+  }
+
 }